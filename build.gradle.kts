@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.5"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 subprojects {
@@ -52,6 +53,7 @@ allprojects{
 		implementation("org.springframework.boot:spring-boot-starter-cache")
 		implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 		implementation("org.springframework.boot:spring-boot-starter-data-mongodb")
+		implementation("org.springframework.boot:spring-boot-starter-data-mongodb-reactive")
 		implementation("org.springframework.boot:spring-boot-starter-data-redis")
 		implementation("org.springframework.boot:spring-boot-starter-web")
 		implementation("org.springframework.boot:spring-boot-starter-actuator")
@@ -85,6 +87,8 @@ allprojects{
 
 		// test
 		testImplementation("org.springframework.boot:spring-boot-starter-test")
+		testImplementation("org.testcontainers:junit-jupiter")
+		testImplementation("org.testcontainers:mongodb")
 		testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 	}
 
@@ -92,3 +96,84 @@ allprojects{
 		useJUnitPlatform()
 	}
 }
+
+// ingest hot path 벤치마크 (src/jmh/java)
+// ./gradlew jmh 실행 후 결과를 src/jmh/results/baseline.json 과 비교
+// 기준값은 기준 장비에서 ./gradlew jmhBaseline 으로 측정해 src/jmh/results 에 커밋 (측정 환경은 baseline-env.properties)
+jmh {
+	warmupIterations.set(3)
+	iterations.set(5)
+	fork.set(1)
+	benchmarkMode.set(listOf("thrpt", "avgt"))
+	timeUnit.set("us")
+	resultFormat.set("JSON")
+	resultsFile.set(project.file("build/reports/jmh/results.json"))
+}
+
+tasks.register("jmhBaseline") {
+	description = "Runs JMH and copies the results with JVM/hardware metadata to src/jmh/results"
+	group = "benchmark"
+	dependsOn("jmh")
+	doLast {
+		val resultsDir = project.file("src/jmh/results")
+		project.file("build/reports/jmh/results.json").copyTo(resultsDir.resolve("baseline.json"), overwrite = true)
+
+		val runtime = Runtime.getRuntime()
+		val environment = linkedMapOf(
+			"measured.at" to java.time.OffsetDateTime.now().toString(),
+			"java.vendor" to System.getProperty("java.vendor"),
+			"java.version" to System.getProperty("java.version"),
+			"java.vm.name" to System.getProperty("java.vm.name"),
+			"java.vm.version" to System.getProperty("java.vm.version"),
+			"os.name" to System.getProperty("os.name"),
+			"os.version" to System.getProperty("os.version"),
+			"os.arch" to System.getProperty("os.arch"),
+			"cpu.cores" to runtime.availableProcessors().toString(),
+			"cpu.model" to (System.getenv("JMH_CPU_MODEL") ?: "unknown"),
+			"memory.max-heap-bytes" to runtime.maxMemory().toString(),
+		)
+		resultsDir.resolve("baseline-env.properties")
+			.writeText(environment.entries.joinToString(separator = "\n", postfix = "\n") { "${it.key}=${it.value}" })
+	}
+}
+
+
+// 수집 경로 부하 테스트 (@Tag("load"), embedded Kafka + Redis/MongoDB 메모리 대체)
+// ./gradlew loadTest -Dload.events=200000 -Dinfrastructure.kafka.consumers.member-activity.listener-mode=pipeline
+tasks.named<Test>("test") {
+	useJUnitPlatform {
+		excludeTags("load")
+	}
+}
+
+tasks.register<Test>("loadTest") {
+	description = "Runs the member-activity ingest load test and writes build/reports/load/*.txt"
+	group = "verification"
+	testClassesDirs = sourceSets["test"].output.classesDirs
+	classpath = sourceSets["test"].runtimeClasspath
+	useJUnitPlatform {
+		includeTags("load")
+	}
+	maxHeapSize = "2g"
+	outputs.upToDateWhen { false }
+	System.getProperties().stringPropertyNames()
+		.filter { it.startsWith("load.") || it.startsWith("infrastructure.") }
+		.forEach { systemProperty(it, System.getProperty(it)) }
+}
+
+// member_activities 조회 쿼리 플랜 테스트 (@Tag("query-plan"), 기본 test 태스크에도 포함)
+// Testcontainers 로 MongoDB 를 띄워 실행하며 (Docker 필요), 이미 있는 MongoDB 로 실행하려면 URI 를 지정 (지정한 데이터베이스는 drop 됨)
+// ./gradlew queryPlanTest -Dquery-plan.mongodb-uri=mongodb://localhost:27017/dailyfeed_query_plan?directConnection=true
+tasks.register<Test>("queryPlanTest") {
+	description = "Runs explain() on member_activities queries and asserts IXSCAN without in-memory SORT"
+	group = "verification"
+	testClassesDirs = sourceSets["test"].output.classesDirs
+	classpath = sourceSets["test"].runtimeClasspath
+	useJUnitPlatform {
+		includeTags("query-plan")
+	}
+	outputs.upToDateWhen { false }
+	System.getProperties().stringPropertyNames()
+		.filter { it.startsWith("query-plan.") }
+		.forEach { systemProperty(it, System.getProperty(it)) }
+}
@@ -0,0 +1,37 @@
+package click.dailyfeed.activity.benchmark;
+
+import click.dailyfeed.activity.config.web.ObjectMapperConfig;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 데드레터 payload 직렬화 (MemberActivityDeadLetterHandler 와 같은 ObjectMapper 설정)
+ */
+@State(Scope.Benchmark)
+public class DeadLetterPayloadSerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private MemberActivityTransportDto.MemberActivityMessage message;
+    private String payload;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        this.objectMapper = new ObjectMapperConfig().objectMapper();
+        this.message = MemberActivityBenchmarkFixtures.message("COMMENT");
+        this.payload = objectMapper.writeValueAsString(message);
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(message);
+    }
+
+    @Benchmark
+    public MemberActivityTransportDto.MemberActivityMessage deserialize() throws JsonProcessingException {
+        return objectMapper.readValue(payload, MemberActivityTransportDto.MemberActivityMessage.class);
+    }
+}
@@ -0,0 +1,46 @@
+package click.dailyfeed.activity.benchmark;
+
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 member-activity 메시지
+ * 카테고리별 MemberActivityType 은 MemberActivityType 의 분류 집합에서 가져옵니다.
+ */
+final class MemberActivityBenchmarkFixtures {
+    private MemberActivityBenchmarkFixtures() {
+    }
+
+    static MemberActivityType typeOf(String category) {
+        Collection<MemberActivityType> types = switch (category) {
+            case "POST" -> MemberActivityType.postEventTypes;
+            case "COMMENT" -> MemberActivityType.commentEventTypes;
+            case "MEMBER" -> MemberActivityType.memberEventTypes;
+            case "POST_LIKE" -> MemberActivityType.postLikeEventTypes;
+            case "COMMENT_LIKE" -> MemberActivityType.commentLikeEventTypes;
+            default -> throw new IllegalArgumentException("Unknown category: " + category);
+        };
+        return types.iterator().next();
+    }
+
+    static MemberActivityTransportDto.MemberActivityMessage message(String category) {
+        LocalDateTime now = LocalDateTime.now();
+        MemberActivityTransportDto.MemberActivityEvent event = MemberActivityTransportDto.MemberActivityEvent.builder()
+                .memberId(1001L)
+                .postId(2002L)
+                .commentId(3003L)
+                .memberActivityType(typeOf(category))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        return MemberActivityTransportDto.MemberActivityMessage.builder()
+                .key(UUID.randomUUID().toString())
+                .event(event)
+                .build();
+    }
+}
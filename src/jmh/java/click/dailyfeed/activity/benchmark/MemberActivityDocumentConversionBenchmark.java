@@ -0,0 +1,67 @@
+package click.dailyfeed.activity.benchmark;
+
+import click.dailyfeed.activity.config.datasource.MongoConfig;
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.activity.domain.member.activity.mapper.MemberActivityMapper;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * MemberActivityDocument ↔ BSON 변환 (MongoConfig 의 MappingMongoConverter, 커스텀 변환기 포함)
+ * 데이터베이스 팩토리는 DbRef 해석기 생성에만 사용하며 실제 연결은 하지 않습니다.
+ */
+@State(Scope.Benchmark)
+public class MemberActivityDocumentConversionBenchmark {
+    private MongoClient mongoClient;
+    private MappingMongoConverter mappingMongoConverter;
+    private MemberActivityDocument document;
+    private Document bson;
+
+    @Setup
+    public void setUp() {
+        MongoConfig mongoConfig = new MongoConfig();
+        MongoCustomConversions mongoCustomConversions = mongoConfig.mongoCustomConversions();
+
+        MongoMappingContext mongoMappingContext = new MongoMappingContext();
+        mongoMappingContext.setSimpleTypeHolder(mongoCustomConversions.getSimpleTypeHolder());
+        mongoMappingContext.afterPropertiesSet();
+
+        this.mongoClient = MongoClients.create("mongodb://localhost:27017");
+        this.mappingMongoConverter = mongoConfig.mappingMongoConverter(
+                new SimpleMongoClientDatabaseFactory(mongoClient, "benchmark"),
+                mongoMappingContext,
+                mongoCustomConversions
+        );
+
+        this.document = new MemberActivityMapper().fromMessage(MemberActivityBenchmarkFixtures.message("COMMENT"));
+        this.bson = new Document();
+        mappingMongoConverter.write(document, bson);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mongoClient.close();
+    }
+
+    @Benchmark
+    public Document write() {
+        Document target = new Document();
+        mappingMongoConverter.write(document, target);
+        return target;
+    }
+
+    @Benchmark
+    public MemberActivityDocument read() {
+        return mappingMongoConverter.read(MemberActivityDocument.class, bson);
+    }
+}
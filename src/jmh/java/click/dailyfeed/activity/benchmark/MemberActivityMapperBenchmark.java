@@ -0,0 +1,33 @@
+package click.dailyfeed.activity.benchmark;
+
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.activity.domain.member.activity.mapper.MemberActivityMapper;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * MemberActivityMapper.fromMessage (카테고리별 분기 + 문서 생성)
+ */
+@State(Scope.Benchmark)
+public class MemberActivityMapperBenchmark {
+    @Param({"POST", "COMMENT", "MEMBER", "POST_LIKE", "COMMENT_LIKE"})
+    private String category;
+
+    private MemberActivityMapper memberActivityMapper;
+    private MemberActivityTransportDto.MemberActivityMessage message;
+
+    @Setup
+    public void setUp() {
+        this.memberActivityMapper = new MemberActivityMapper();
+        this.message = MemberActivityBenchmarkFixtures.message(category);
+    }
+
+    @Benchmark
+    public MemberActivityDocument fromMessage() {
+        return memberActivityMapper.fromMessage(message);
+    }
+}
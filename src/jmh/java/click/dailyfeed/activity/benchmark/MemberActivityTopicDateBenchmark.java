@@ -0,0 +1,42 @@
+package click.dailyfeed.activity.benchmark;
+
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityTopicDateResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 토픽명 날짜 추출/파싱과 처리 여부 판단 (processEventByDate 이전 단계)
+ */
+@State(Scope.Benchmark)
+public class MemberActivityTopicDateBenchmark {
+    private MemberActivityTopicDateResolver memberActivityTopicDateResolver;
+    private String todayTopic;
+    private String nonDateTopic;
+
+    @Setup
+    public void setUp() {
+        this.memberActivityTopicDateResolver = new MemberActivityTopicDateResolver();
+        this.todayTopic = "member-activity-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        this.nonDateTopic = "member-activity-replay";
+    }
+
+    @Benchmark
+    public LocalDate resolveTopicDate() {
+        return memberActivityTopicDateResolver.resolveTopicDate(todayTopic);
+    }
+
+    @Benchmark
+    public MemberActivityTopicDateResolver.EventDateStatus resolveAndClassify() {
+        return memberActivityTopicDateResolver.classify(memberActivityTopicDateResolver.resolveTopicDate(todayTopic));
+    }
+
+    @Benchmark
+    public LocalDate resolveNonDateTopic() {
+        return memberActivityTopicDateResolver.resolveTopicDate(nonDateTopic);
+    }
+}
@@ -2,6 +2,9 @@ package click.dailyfeed.activity;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.mongo.MongoReactiveRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
@@ -18,7 +21,12 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 		mongoTemplateRef = "mongoTemplate"
 )
 @EnableTransactionManagement
-@SpringBootApplication
+// reactive MongoDB 빈은 infrastructure.mongodb.reactive.enabled=true 일 때 ReactiveMongoConfig 에서만 생성
+@SpringBootApplication(exclude = {
+		MongoReactiveAutoConfiguration.class,
+		MongoReactiveDataAutoConfiguration.class,
+		MongoReactiveRepositoriesAutoConfiguration.class
+})
 @ComponentScan(basePackages = {
 		"click.dailyfeed.activity",
 		"click.dailyfeed.pvc",
@@ -0,0 +1,75 @@
+package click.dailyfeed.activity.config.datasource;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoDB 클라이언트 커넥션 풀/타임아웃/압축 설정 (infrastructure.mongodb.client)
+ * 지정하지 않은 항목은 connection string 또는 드라이버 기본값을 따릅니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "infrastructure.mongodb.client")
+public class MongoClientProperties {
+    private final Pool pool = new Pool();
+    private final Socket socket = new Socket();
+    // 와이어 압축 (zlib, snappy, zstd 중 우선순위 순서, snappy/zstd 는 별도 라이브러리 필요)
+    private List<String> compressors = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private Integer maxSize;                 // 서버당 최대 커넥션 수 (드라이버 기본 100)
+        private Integer minSize;                 // 서버당 최소 유지 커넥션 수
+        private Duration maxWaitTime;            // 커넥션을 얻기까지 최대 대기 시간
+        private Duration maxConnectionIdleTime;  // 유휴 커넥션 정리 기준
+        private Duration maxConnectionLifeTime;
+        private Integer maxConnecting;           // 동시에 새로 맺는 커넥션 수
+    }
+
+    @Getter
+    @Setter
+    public static class Socket {
+        private Duration connectTimeout;
+        private Duration readTimeout;
+    }
+
+    /**
+     * connection string 을 적용한 builder 위에 설정값을 덮어씁니다.
+     */
+    public MongoClientSettings.Builder applyTo(MongoClientSettings.Builder builder) {
+        builder.applyToConnectionPoolSettings(settings -> {
+            if (pool.maxSize != null) settings.maxSize(pool.maxSize);
+            if (pool.minSize != null) settings.minSize(pool.minSize);
+            if (pool.maxWaitTime != null) settings.maxWaitTime(pool.maxWaitTime.toMillis(), TimeUnit.MILLISECONDS);
+            if (pool.maxConnectionIdleTime != null) settings.maxConnectionIdleTime(pool.maxConnectionIdleTime.toMillis(), TimeUnit.MILLISECONDS);
+            if (pool.maxConnectionLifeTime != null) settings.maxConnectionLifeTime(pool.maxConnectionLifeTime.toMillis(), TimeUnit.MILLISECONDS);
+            if (pool.maxConnecting != null) settings.maxConnecting(pool.maxConnecting);
+        });
+        builder.applyToSocketSettings(settings -> {
+            if (socket.connectTimeout != null) settings.connectTimeout(socket.connectTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (socket.readTimeout != null) settings.readTimeout(socket.readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        });
+        if (!compressors.isEmpty()) {
+            builder.compressorList(compressors.stream().map(MongoClientProperties::toCompressor).toList());
+        }
+        return builder;
+    }
+
+    private static MongoCompressor toCompressor(String name) {
+        return switch (name.trim().toLowerCase()) {
+            case "zlib" -> MongoCompressor.createZlibCompressor();
+            case "snappy" -> MongoCompressor.createSnappyCompressor();
+            case "zstd" -> MongoCompressor.createZstdCompressor();
+            default -> throw new IllegalArgumentException("Unsupported MongoDB compressor: " + name);
+        };
+    }
+}
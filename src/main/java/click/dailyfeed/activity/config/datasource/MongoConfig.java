@@ -3,11 +3,13 @@ package click.dailyfeed.activity.config.datasource;
 
 import click.dailyfeed.activity.config.converter.BigDecimalToDecimal128Converter;
 import click.dailyfeed.activity.config.converter.Decimal128ToBigDecimalConverter;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityWriteConcernProperties;
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
@@ -25,6 +27,7 @@ import java.util.Arrays;
 import java.util.Date;
 
 @Configuration
+@EnableConfigurationProperties({MongoClientProperties.class, MemberActivityWriteConcernProperties.class})
 public class MongoConfig {
     @Value("${spring.data.mongodb.uri}")
     private String mongoUri;
@@ -33,11 +36,11 @@ public class MongoConfig {
     private String database;
 
     @Bean
-    public MongoClient mongoClient(){
+    public MongoClient mongoClient(MongoClientProperties mongoClientProperties){
         try {
             ConnectionString connectionString = new ConnectionString(mongoUri);
-            MongoClientSettings settings = MongoClientSettings.builder()
-                    .applyConnectionString(connectionString)
+            MongoClientSettings settings = mongoClientProperties.applyTo(MongoClientSettings.builder()
+                            .applyConnectionString(connectionString))
                     .build();
             return MongoClients.create(settings);
         } catch (Exception e) {
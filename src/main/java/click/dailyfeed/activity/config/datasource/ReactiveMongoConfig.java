@@ -0,0 +1,56 @@
+package click.dailyfeed.activity.config.datasource;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+/**
+ * 논블로킹 쓰기 경로용 reactive MongoDB 설정
+ * 매핑/변환 규칙(LocalDateTime 변환 등)은 servlet 경로와 같은 MappingMongoConverter 를 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "infrastructure.mongodb.reactive.enabled", havingValue = "true")
+public class ReactiveMongoConfig {
+    @Value("${spring.data.mongodb.uri}")
+    private String mongoUri;
+
+    @Value("${infrastructure.mongodb.timeline.database}")
+    private String database;
+
+    @Bean
+    public MongoClient reactiveMongoClient(MongoClientProperties mongoClientProperties){
+        try {
+            ConnectionString connectionString = new ConnectionString(mongoUri);
+            MongoClientSettings settings = mongoClientProperties.applyTo(MongoClientSettings.builder()
+                            .applyConnectionString(connectionString))
+                    .build();
+            return MongoClients.create(settings);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create reactive MongoDB client", e);
+        }
+    }
+
+    @Bean
+    public ReactiveMongoDatabaseFactory dailyfeedReactiveMongoDatabaseFactory(
+            MongoClient reactiveMongoClient
+    ){
+        return new SimpleReactiveMongoDatabaseFactory(reactiveMongoClient, database);
+    }
+
+    @Bean(name = "reactiveMongoTemplate")
+    public ReactiveMongoTemplate reactiveMongoTemplate(
+            ReactiveMongoDatabaseFactory dailyfeedReactiveMongoDatabaseFactory,
+            MappingMongoConverter mappingMongoConverter
+    ){
+        return new ReactiveMongoTemplate(dailyfeedReactiveMongoDatabaseFactory, mappingMongoConverter);
+    }
+}
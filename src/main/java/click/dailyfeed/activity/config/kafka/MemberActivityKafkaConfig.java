@@ -0,0 +1,108 @@
+package click.dailyfeed.activity.config.kafka;
+
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class MemberActivityKafkaConfig {
+    private static final String MEMBER_ACTIVITY_PACKAGE = "click.dailyfeed.code.domain.activity";
+
+    @Value("${spring.kafka.listener.concurrency:3}")
+    private Integer concurrency;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.error-handler.interval:1s}")
+    private Duration errorHandlerInterval;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.error-handler.max-attempts:2}")
+    private Long errorHandlerMaxAttempts;
+
+    /**
+     * member-activity 리스너용 컨슈머 팩토리
+     * spring.kafka.consumer 설정을 기반으로 하되, 값 역직렬화는 MemberActivityEvent 를 기본 타입으로 하는 JsonDeserializer 를
+     * ErrorHandlingDeserializer 로 감쌉니다. (역직렬화 실패 레코드가 같은 poll 을 무한히 재시도하지 않고 에러 핸들러로 넘어가도록)
+     * ConsumerFactory 빈으로 등록하면 다른 리스너가 쓰는 기본 컨슈머 팩토리(KafkaAutoConfiguration)를 대체하므로 빈으로 등록하지 않습니다.
+     */
+    public ConsumerFactory<String, MemberActivityTransportDto.MemberActivityEvent> memberActivityConsumerFactory(
+            KafkaProperties kafkaProperties
+    ){
+        Map<String, Object> properties = kafkaProperties.buildConsumerProperties(null);
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        properties.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+        properties.put(JsonDeserializer.VALUE_DEFAULT_TYPE, MemberActivityTransportDto.MemberActivityEvent.class.getName());
+        properties.put(JsonDeserializer.TRUSTED_PACKAGES, trustedPackages(properties.get(JsonDeserializer.TRUSTED_PACKAGES)));
+        return new DefaultKafkaConsumerFactory<>(properties);
+    }
+
+    /**
+     * poll 단위(max-poll-records)로 레코드를 한번에 전달받는 batch 리스너용 컨테이너 팩토리
+     * 오프셋 커밋은 배치 처리 완료 후 리스너에서 한번만 수행합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "infrastructure.kafka.consumers.member-activity.listener-mode", havingValue = "batch")
+    public ConcurrentKafkaListenerContainerFactory<String, MemberActivityTransportDto.MemberActivityEvent> memberActivityBatchKafkaListenerContainerFactory(
+            KafkaProperties kafkaProperties
+    ){
+        ConcurrentKafkaListenerContainerFactory<String, MemberActivityTransportDto.MemberActivityEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(memberActivityConsumerFactory(kafkaProperties));
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        factory.setCommonErrorHandler(errorHandler(true));
+        return factory;
+    }
+
+    /**
+     * 레코드를 pipeline 대기열에 넘기는 리스너용 컨테이너 팩토리
+     * 오프셋 커밋은 pipeline worker 스레드에서 요청하므로 MANUAL 로 두어 컨슈머 스레드가 다음 poll 전에 커밋하도록 합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "infrastructure.kafka.consumers.member-activity.listener-mode", havingValue = "pipeline")
+    public ConcurrentKafkaListenerContainerFactory<String, MemberActivityTransportDto.MemberActivityEvent> memberActivityPipelineKafkaListenerContainerFactory(
+            KafkaProperties kafkaProperties
+    ){
+        ConcurrentKafkaListenerContainerFactory<String, MemberActivityTransportDto.MemberActivityEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(memberActivityConsumerFactory(kafkaProperties));
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        // 에러 핸들러가 건너뛴 레코드의 오프셋을 바로 커밋하면 worker 에서 처리 중인 앞선 오프셋까지 커밋되므로, 커밋은 worker 에 맡긴다
+        factory.setCommonErrorHandler(errorHandler(false));
+        return factory;
+    }
+
+    /**
+     * 리스너 예외는 interval 간격으로 max-attempts 회 재시도 후 로그를 남기고 건너뜁니다.
+     * 역직렬화 실패(DeserializationException)는 재시도해도 같은 결과이므로 바로 건너뜁니다. (DefaultErrorHandler 기본 동작)
+     */
+    private DefaultErrorHandler errorHandler(boolean ackAfterHandle) {
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(new FixedBackOff(errorHandlerInterval.toMillis(), errorHandlerMaxAttempts));
+        errorHandler.setAckAfterHandle(ackAfterHandle);
+        return errorHandler;
+    }
+
+    private static String trustedPackages(Object configured) {
+        if (configured == null || configured.toString().isBlank()) {
+            return MEMBER_ACTIVITY_PACKAGE;
+        }
+        String packages = configured.toString();
+        if (packages.trim().equals("*") || packages.contains(MEMBER_ACTIVITY_PACKAGE)) {
+            return packages;
+        }
+        return packages + "," + MEMBER_ACTIVITY_PACKAGE;
+    }
+}
@@ -0,0 +1,46 @@
+package click.dailyfeed.activity.domain.activitycounter.api;
+
+import click.dailyfeed.activity.domain.activitycounter.dto.ActivityCounterDto;
+import click.dailyfeed.activity.domain.activitycounter.service.ActivityCounterService;
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
+import click.dailyfeed.code.global.web.response.DailyfeedServerResponse;
+import click.dailyfeed.feign.config.web.annotation.AuthenticatedMemberProfileSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/activity-counters")
+@RequiredArgsConstructor
+public class ActivityCounterController {
+    private final ActivityCounterService activityCounterService;
+
+    @GetMapping("/posts/{postId}")
+    public DailyfeedServerResponse<ActivityCounterDto.Counts> getPostCounts(
+            @AuthenticatedMemberProfileSummary MemberProfileDto.Summary member,
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @PathVariable("postId") Long postId ){
+
+        ActivityCounterDto.Counts result = activityCounterService.getPostCounts(postId);
+        return DailyfeedServerResponse.<ActivityCounterDto.Counts>builder()
+                .status(HttpStatus.OK.value())
+                .data(result)
+                .result(ResponseSuccessCode.SUCCESS)
+                .build();
+    }
+
+    @GetMapping("/comments/{commentId}")
+    public DailyfeedServerResponse<ActivityCounterDto.Counts> getCommentCounts(
+            @AuthenticatedMemberProfileSummary MemberProfileDto.Summary member,
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @PathVariable("commentId") Long commentId ){
+
+        ActivityCounterDto.Counts result = activityCounterService.getCommentCounts(commentId);
+        return DailyfeedServerResponse.<ActivityCounterDto.Counts>builder()
+                .status(HttpStatus.OK.value())
+                .data(result)
+                .result(ResponseSuccessCode.SUCCESS)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package click.dailyfeed.activity.domain.activitycounter.document;
+
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글/댓글 × MemberActivityType 별 활동 건수
+ * _id 를 {TARGET_TYPE}:{targetId}:{memberActivityType} 로 고정하여 _id 조회만으로 건수를 읽습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = ActivityCounterDocument.COLLECTION_NAME)
+public class ActivityCounterDocument {
+    public static final String COLLECTION_NAME = "activity_counters";
+
+    @Id
+    private String id;
+
+    @Field("target_type")
+    private TargetType targetType;
+
+    @Field("target_id")
+    private Long targetId;
+
+    @Field("member_activity_type")
+    private MemberActivityType memberActivityType;
+
+    @Field("count")
+    private Long count;
+
+    @Field("updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum TargetType {
+        POST, COMMENT
+    }
+
+    public static String counterId(TargetType targetType, Long targetId, MemberActivityType memberActivityType) {
+        return targetType.name() + ":" + targetId + ":" + memberActivityType.name();
+    }
+}
@@ -0,0 +1,22 @@
+package click.dailyfeed.activity.domain.activitycounter.dto;
+
+import click.dailyfeed.activity.domain.activitycounter.document.ActivityCounterDocument;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+public class ActivityCounterDto {
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Counts {
+        private ActivityCounterDocument.TargetType targetType;
+        private Long targetId;
+        private Map<MemberActivityType, Long> counts;
+    }
+}
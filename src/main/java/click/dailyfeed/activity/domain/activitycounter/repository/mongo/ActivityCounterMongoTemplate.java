@@ -0,0 +1,339 @@
+package click.dailyfeed.activity.domain.activitycounter.repository.mongo;
+
+import click.dailyfeed.activity.domain.activitycounter.document.ActivityCounterDocument;
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityCollectionRouter.SchemaCollection;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivitySchema;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityTypeCodes;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ActivityCounterMongoTemplate {
+    private static final String REBUILD_COLLECTION_NAME = ActivityCounterDocument.COLLECTION_NAME + "_rebuild";
+    private static final String SNAPSHOT_COLLECTION_NAME = ActivityCounterDocument.COLLECTION_NAME + "_snapshot";
+    private static final String ARCHIVE_COLLECTION_NAME = ActivityCounterDocument.COLLECTION_NAME + "_archive";
+    private static final String ARCHIVE_LOG_COLLECTION_NAME = ActivityCounterDocument.COLLECTION_NAME + "_archive_log";
+    private static final String ARCHIVE_BASELINE_ID = "__baseline__";
+    private static final String ARCHIVE_STATE_ARCHIVING = "archiving";
+    private static final String ARCHIVE_STATE_ARCHIVED = "archived";
+    private static final String SNAPSHOT_COUNT_FIELD = "snapshot_count";
+
+    private final MongoTemplate mongoTemplate;
+    private final MemberActivityTypeCodes memberActivityTypeCodes;
+
+    /**
+     * 새로 저장된 활동 문서들의 건수를 게시글/댓글 카운터에 반영합니다.
+     * 같은 카운터에 대한 증가분은 메모리에서 합산한 뒤 하나의 unordered bulk $inc 로 반영합니다.
+     *
+     * @param documents 새로 저장된 MemberActivityDocument 리스트
+     */
+    public void incrementAll(List<MemberActivityDocument> documents) {
+        Map<CounterKey, Long> deltas = new LinkedHashMap<>();
+        for (MemberActivityDocument document : documents) {
+            if (document.getMemberActivityType() == null) {
+                continue;
+            }
+            // 시간 창 단위로 합친 조회성 문서는 합쳐진 건수만큼 반영
+            long delta = document.getCount() == null ? 1L : document.getCount();
+            if (document.getPostId() != null) {
+                deltas.merge(new CounterKey(ActivityCounterDocument.TargetType.POST, document.getPostId(), document.getMemberActivityType()), delta, Long::sum);
+            }
+            if (document.getCommentId() != null) {
+                deltas.merge(new CounterKey(ActivityCounterDocument.TargetType.COMMENT, document.getCommentId(), document.getMemberActivityType()), delta, Long::sum);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ActivityCounterDocument.class);
+        LocalDateTime now = LocalDateTime.now();
+        deltas.forEach((key, delta) -> bulkOperations.upsert(
+                new Query(Criteria.where("_id").is(key.id())),
+                new Update()
+                        .inc("count", delta)
+                        .setOnInsert("target_type", key.targetType())
+                        .setOnInsert("target_id", key.targetId())
+                        .setOnInsert("member_activity_type", key.memberActivityType())
+                        .set("updated_at", now)
+        ));
+        bulkOperations.execute();
+    }
+
+    /**
+     * 게시글/댓글의 타입별 활동 건수를 _id 조회로 읽습니다.
+     */
+    public Map<MemberActivityType, Long> findCounts(ActivityCounterDocument.TargetType targetType, Long targetId) {
+        List<String> ids = Arrays.stream(MemberActivityType.values())
+                .map(memberActivityType -> ActivityCounterDocument.counterId(targetType, targetId, memberActivityType))
+                .toList();
+
+        Map<MemberActivityType, Long> counts = new EnumMap<>(MemberActivityType.class);
+        mongoTemplate.find(new Query(Criteria.where("_id").in(ids)), ActivityCounterDocument.class)
+                .forEach(counter -> counts.put(counter.getMemberActivityType(), counter.getCount()));
+        return counts;
+    }
+
+    /**
+     * member_activities 원본으로부터 카운터를 다시 계산해 실제 카운터 컬렉션에 반영합니다.
+     * 카운터는 누적(all-time) 건수입니다. daily 모드에서 보관 기간이 지나 drop 된 컬렉션의 건수는 activity_counters_archive 에 남겨두고 함께 더합니다.
+     *
+     * 집계하는 동안에도 실시간 $inc 가 계속 반영되므로 컬렉션을 교체하지 않습니다.
+     * 1. 기준 시각(high-water mark)에 카운터 값을 snapshot 으로 복사하고, 원본은 _id 가 기준 시각 이전인 문서만 집계합니다.
+     * 2. 집계 결과를 카운터 컬렉션에 $merge 하면서 count = 집계 건수 + (현재 count - snapshot count) 로 바꿉니다.
+     *    기준 시각 이후에 반영된 $inc 는 (현재 - snapshot) 으로 그대로 남습니다.
+     * 기준 시각에 저장 중이던 문서와, 기준 시각 이전에 시작해 아직 열려있는 시간 창 문서의 이후 증가분은 차이가 날 수 있으며 다음 reconcile 에서 보정됩니다.
+     *
+     * @param sourceCollections 집계 대상 member_activities 컬렉션 목록 (v1/v2 스키마)
+     * @param includeArchive drop 된 일자별 컬렉션의 건수(activity_counters_archive)를 더할지 여부 (daily 모드)
+     */
+    public void rebuildCounters(List<SchemaCollection> sourceCollections, boolean includeArchive) {
+        mongoTemplate.dropCollection(REBUILD_COLLECTION_NAME);
+        mongoTemplate.dropCollection(SNAPSHOT_COLLECTION_NAME);
+
+        ObjectId highWaterMark = ObjectId.getSmallestWithDate(new Date());
+        snapshotCounters();
+
+        for (SchemaCollection source : sourceCollections) {
+            String sourceCollection = source.name();
+            if (!mongoTemplate.collectionExists(sourceCollection)) {
+                continue;
+            }
+            aggregateCounters(source, REBUILD_COLLECTION_NAME, highWaterMark);
+            log.info("Aggregated activity counters from {}", sourceCollection);
+        }
+
+        if (includeArchive) {
+            mergeCounts(ARCHIVE_COLLECTION_NAME, REBUILD_COLLECTION_NAME);
+        }
+        mergeSnapshotCounts();
+        if (includeArchive && !isArchiveBaselineRecorded()) {
+            recordArchiveBaseline();
+        }
+
+        if (mongoTemplate.collectionExists(REBUILD_COLLECTION_NAME)) {
+            applyRebuiltCounts();
+        }
+        mongoTemplate.dropCollection(REBUILD_COLLECTION_NAME);
+        mongoTemplate.dropCollection(SNAPSHOT_COLLECTION_NAME);
+    }
+
+    /**
+     * drop 하기 전의 일자별 컬렉션 건수를 activity_counters_archive 에 더합니다.
+     * 모든 파드에서 같은 시각에 실행되므로, 컬렉션명을 _id 로 activity_counters_archive_log 에 먼저 insert 해 선점한 파드만 집계합니다.
+     * (unique _id 로 한 파드만 선점하므로 같은 컬렉션이 두 번 더해지지 않음)
+     * 집계에 실패하면 선점 기록을 지워 다음 실행에서 다시 시도하고, 집계 도중 종료된 선점 기록(archiving)은 남겨 drop 하지 않습니다. (수동 확인 필요)
+     *
+     * @param source drop 할 member_activities 컬렉션
+     * @return archive 가 끝나 drop 해도 되면 true, 다른 파드가 archive 중이면 false
+     */
+    public boolean archiveCounters(SchemaCollection source) {
+        try {
+            mongoTemplate.insert(new Document("_id", source.name()).append("state", ARCHIVE_STATE_ARCHIVING).append("claimed_at", new Date()),
+                    ARCHIVE_LOG_COLLECTION_NAME);
+        } catch (DuplicateKeyException e) {
+            Document archiveLog = mongoTemplate.findById(source.name(), Document.class, ARCHIVE_LOG_COLLECTION_NAME);
+            // state 가 없는 기록은 선점 방식 이전에 archive 를 마친 기록
+            boolean archived = archiveLog != null && !ARCHIVE_STATE_ARCHIVING.equals(archiveLog.getString("state"));
+            if (!archived) {
+                log.warn("Activity counters of {} are being archived by another pod (or the archive was interrupted)", source.name());
+            }
+            return archived;
+        }
+
+        try {
+            if (mongoTemplate.collectionExists(source.name())) {
+                aggregateCounters(source, ARCHIVE_COLLECTION_NAME, null);
+            }
+        } catch (RuntimeException e) {
+            mongoTemplate.remove(new Query(Criteria.where("_id").is(source.name())), ARCHIVE_LOG_COLLECTION_NAME);
+            throw e;
+        }
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(source.name())),
+                new Update().set("state", ARCHIVE_STATE_ARCHIVED).set("archived_at", new Date()), ARCHIVE_LOG_COLLECTION_NAME);
+        log.info("Archived activity counters of {}", source.name());
+        return true;
+    }
+
+    private void aggregateCounters(SchemaCollection source, String into, ObjectId highWaterMark) {
+        for (ActivityCounterDocument.TargetType targetType : ActivityCounterDocument.TargetType.values()) {
+            mongoTemplate.getCollection(source.name())
+                    .aggregate(rebuildPipeline(source.schema(), targetType, into, highWaterMark))
+                    .allowDiskUse(true)
+                    .toCollection();
+        }
+    }
+
+    /**
+     * 기준 시각의 카운터 값을 복사합니다.
+     */
+    private void snapshotCounters() {
+        if (!mongoTemplate.collectionExists(ActivityCounterDocument.COLLECTION_NAME)) {
+            return;
+        }
+        mongoTemplate.getCollection(ActivityCounterDocument.COLLECTION_NAME)
+                .aggregate(List.of(
+                        new Document("$project", new Document("target_type", 1).append("target_id", 1).append("member_activity_type", 1).append("count", 1)),
+                        new Document("$out", SNAPSHOT_COLLECTION_NAME)
+                ))
+                .allowDiskUse(true)
+                .toCollection();
+    }
+
+    /**
+     * from 컬렉션의 건수를 into 컬렉션의 같은 카운터에 더합니다.
+     */
+    private void mergeCounts(String from, String into) {
+        if (!mongoTemplate.collectionExists(from)) {
+            return;
+        }
+        mongoTemplate.getCollection(from)
+                .aggregate(List.of(
+                        new Document("$project", new Document("target_type", 1).append("target_id", 1).append("member_activity_type", 1).append("count", 1)),
+                        new Document("$merge", new Document("into", into)
+                                .append("on", "_id")
+                                .append("whenMatched", List.of(new Document("$set", new Document("count", new Document("$add", List.of("$count", "$$new.count"))))))
+                                .append("whenNotMatched", "insert"))
+                ))
+                .allowDiskUse(true)
+                .toCollection();
+    }
+
+    /**
+     * 집계 결과에 기준 시각의 카운터 값(snapshot_count)을 붙입니다. 집계 결과에 없는 카운터는 건수 0 으로 추가합니다.
+     */
+    private void mergeSnapshotCounts() {
+        if (!mongoTemplate.collectionExists(SNAPSHOT_COLLECTION_NAME)) {
+            return;
+        }
+        mongoTemplate.getCollection(SNAPSHOT_COLLECTION_NAME)
+                .aggregate(List.of(
+                        new Document("$project", new Document("target_type", 1).append("target_id", 1).append("member_activity_type", 1)
+                                .append("count", new Document("$literal", 0L))
+                                .append(SNAPSHOT_COUNT_FIELD, "$count")),
+                        new Document("$merge", new Document("into", REBUILD_COLLECTION_NAME)
+                                .append("on", "_id")
+                                .append("whenMatched", List.of(new Document("$set", new Document(SNAPSHOT_COUNT_FIELD, "$$new." + SNAPSHOT_COUNT_FIELD))))
+                                .append("whenNotMatched", "insert"))
+                ))
+                .allowDiskUse(true)
+                .toCollection();
+    }
+
+    private boolean isArchiveBaselineRecorded() {
+        return mongoTemplate.exists(new Query(Criteria.where("_id").is(ARCHIVE_BASELINE_ID)), ARCHIVE_LOG_COLLECTION_NAME);
+    }
+
+    /**
+     * archive 를 도입하기 전에 drop 된 컬렉션의 건수를 archive 에 한번만 기록합니다.
+     * 기준 시각의 카운터 값이 (보관 중인 컬렉션 + archive) 집계보다 큰 만큼을 이미 drop 된 컬렉션의 건수로 보고 archive 와 집계 결과에 더합니다.
+     */
+    private void recordArchiveBaseline() {
+        if (mongoTemplate.collectionExists(REBUILD_COLLECTION_NAME)) {
+            Document surplus = new Document("$subtract", List.of(new Document("$ifNull", List.of("$" + SNAPSHOT_COUNT_FIELD, 0L)), "$count"));
+            mongoTemplate.getCollection(REBUILD_COLLECTION_NAME)
+                    .aggregate(List.of(
+                            new Document("$match", new Document("$expr", new Document("$gt", List.of(surplus, 0L)))),
+                            new Document("$project", new Document("target_type", 1).append("target_id", 1).append("member_activity_type", 1).append("count", surplus)),
+                            new Document("$merge", new Document("into", ARCHIVE_COLLECTION_NAME)
+                                    .append("on", "_id")
+                                    .append("whenMatched", List.of(new Document("$set", new Document("count", new Document("$add", List.of("$count", "$$new.count"))))))
+                                    .append("whenNotMatched", "insert"))
+                    ))
+                    .allowDiskUse(true)
+                    .toCollection();
+            mongoTemplate.getCollection(REBUILD_COLLECTION_NAME).updateMany(
+                    new Document("$expr", new Document("$gt", List.of("$" + SNAPSHOT_COUNT_FIELD, "$count"))),
+                    List.of(new Document("$set", new Document("count", "$" + SNAPSHOT_COUNT_FIELD)))
+            );
+        }
+        mongoTemplate.insert(new Document("_id", ARCHIVE_BASELINE_ID).append("archived_at", new Date()), ARCHIVE_LOG_COLLECTION_NAME);
+        log.info("Recorded activity counter archive baseline");
+    }
+
+    /**
+     * 집계 결과를 카운터 컬렉션에 반영합니다. 문서 단위로 원자적으로 반영되므로 동시에 들어온 $inc 를 덮어쓰지 않습니다.
+     * snapshot_count 가 있는 문서는 기준 시각에 카운터 컬렉션에 있던 카운터이므로 항상 whenMatched 로 반영됩니다.
+     */
+    private void applyRebuiltCounts() {
+        Document liveDelta = new Document("$subtract", List.of("$count", new Document("$ifNull", List.of("$$new." + SNAPSHOT_COUNT_FIELD, 0L))));
+        mongoTemplate.getCollection(REBUILD_COLLECTION_NAME)
+                .aggregate(List.of(
+                        new Document("$merge", new Document("into", ActivityCounterDocument.COLLECTION_NAME)
+                                .append("on", "_id")
+                                .append("whenMatched", List.of(new Document("$set", new Document("count", new Document("$add", List.of("$$new.count", liveDelta)))
+                                        .append("updated_at", "$$NOW"))))
+                                .append("whenNotMatched", "insert"))
+                ))
+                .allowDiskUse(true)
+                .toCollection();
+    }
+
+    private List<Document> rebuildPipeline(MemberActivitySchema schema, ActivityCounterDocument.TargetType targetType, String into, ObjectId highWaterMark) {
+        String targetField = targetType == ActivityCounterDocument.TargetType.POST ? schema.postIdField() : schema.commentIdField();
+
+        Document match = new Document(targetField, new Document("$ne", null));
+        if (highWaterMark != null) {
+            match.append("_id", new Document("$lt", highWaterMark));
+        }
+        List<Document> pipeline = new ArrayList<>();
+        pipeline.add(new Document("$match", match));
+        pipeline.add(new Document("$group", new Document("_id", new Document("target_id", "$" + targetField).append("member_activity_type", "$" + schema.typeField()))
+                .append("count", new Document("$sum", new Document("$ifNull", List.of("$" + schema.countField(), 1L))))));
+        if (schema == MemberActivitySchema.V2) {
+            // 정수 코드를 타입 이름으로 바꿔 v1 과 같은 카운터 _id 를 만든다 (이 파드가 모르는 코드는 제외)
+            Map<MemberActivityType, Integer> codes = memberActivityTypeCodes.codes();
+            match.append(schema.typeField(), new Document("$in", new ArrayList<>(codes.values())));
+            pipeline.add(new Document("$addFields", new Document("_id.member_activity_type", typeNameSwitch(codes))));
+        }
+
+        pipeline.addAll(List.of(
+                new Document("$project", new Document("_id", new Document("$concat", List.of(targetType.name() + ":", new Document("$toString", "$_id.target_id"), ":", "$_id.member_activity_type")))
+                        .append("target_type", new Document("$literal", targetType.name()))
+                        .append("target_id", "$_id.target_id")
+                        .append("member_activity_type", "$_id.member_activity_type")
+                        .append("count", 1)
+                        .append("updated_at", "$$NOW")),
+                new Document("$merge", new Document("into", into)
+                        .append("on", "_id")
+                        .append("whenMatched", List.of(new Document("$set", new Document("count", new Document("$add", List.of("$count", "$$new.count"))))))
+                        .append("whenNotMatched", "insert"))
+        ));
+        return pipeline;
+    }
+
+    private Document typeNameSwitch(Map<MemberActivityType, Integer> codes) {
+        List<Document> branches = new ArrayList<>();
+        codes.forEach((memberActivityType, code) -> branches.add(
+                new Document("case", new Document("$eq", List.of("$_id.member_activity_type", code))).append("then", memberActivityType.name())));
+        return new Document("$switch", new Document("branches", branches).append("default", null));
+    }
+
+    private record CounterKey(ActivityCounterDocument.TargetType targetType, Long targetId, MemberActivityType memberActivityType) {
+        String id() {
+            return ActivityCounterDocument.counterId(targetType, targetId, memberActivityType);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package click.dailyfeed.activity.domain.activitycounter.service;
+
+import click.dailyfeed.activity.domain.activitycounter.document.ActivityCounterDocument;
+import click.dailyfeed.activity.domain.activitycounter.dto.ActivityCounterDto;
+import click.dailyfeed.activity.domain.activitycounter.repository.mongo.ActivityCounterMongoTemplate;
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityCollectionRouter;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityCollectionRouter.SchemaCollection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityCounterService {
+    private final ActivityCounterMongoTemplate activityCounterMongoTemplate;
+    private final MemberActivityCollectionRouter memberActivityCollectionRouter;
+
+    @Value("${infrastructure.mongodb.member-activity.retention-days:90}")
+    private int retentionDays;
+
+    public ActivityCounterDto.Counts getPostCounts(Long postId) {
+        return getCounts(ActivityCounterDocument.TargetType.POST, postId);
+    }
+
+    public ActivityCounterDto.Counts getCommentCounts(Long commentId) {
+        return getCounts(ActivityCounterDocument.TargetType.COMMENT, commentId);
+    }
+
+    private ActivityCounterDto.Counts getCounts(ActivityCounterDocument.TargetType targetType, Long targetId) {
+        return ActivityCounterDto.Counts.builder()
+                .targetType(targetType)
+                .targetId(targetId)
+                .counts(activityCounterMongoTemplate.findCounts(targetType, targetId))
+                .build();
+    }
+
+    /**
+     * 새로 저장된 활동 문서들을 카운터에 반영합니다.
+     * 카운터 반영 실패가 활동 저장을 실패시키지 않도록 예외는 로깅만 하고, 누락분은 reconcile 로 보정합니다.
+     */
+    public void applyInserted(List<MemberActivityDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        try {
+            activityCounterMongoTemplate.incrementAll(documents);
+        } catch (Exception e) {
+            log.warn("Failed to increment activity counters - size: {}, Error: {}", documents.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * member_activities 원본으로부터 카운터를 다시 계산해 보정합니다.
+     * 카운터는 누적(all-time) 건수이며, daily 모드에서는 보관 기간 안의 컬렉션과 drop 전에 archive 해둔 건수를 합쳐 계산합니다.
+     * 기본값은 비활성화('-') 이며, 하나의 파드(또는 별도 Job)에서만 cron 을 지정해 실행합니다.
+     */
+    @Scheduled(cron = "${infrastructure.mongodb.activity-counter.reconcile-cron:-}")
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        List<SchemaCollection> sourceCollections = memberActivityCollectionRouter.readCollectionsBetween(today.minusDays(retentionDays), today);
+
+        log.info("🔄 Rebuilding activity counters from {} collection(s)", sourceCollections.size());
+        activityCounterMongoTemplate.rebuildCounters(sourceCollections, memberActivityCollectionRouter.isDaily());
+        log.info("✅ Activity counters rebuilt");
+    }
+}
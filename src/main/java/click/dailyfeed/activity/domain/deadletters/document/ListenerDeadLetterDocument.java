@@ -28,6 +28,14 @@ public class ListenerDeadLetterDocument {
     @Field("is_editing")
     private Boolean isEditing = Boolean.FALSE;
 
+    // 재처리 선점 정보 (DeadLetterReplayMongoTemplate)
+    @Field("claim_token")
+    private String claimToken;
+    @Field("claimed_at")
+    private LocalDateTime claimedAt;
+    @Field("replay_attempts")
+    private Integer replayAttempts;
+
     @Field("published_at")
     private LocalDateTime publishedAt; // 메시지 내의 created_at
 
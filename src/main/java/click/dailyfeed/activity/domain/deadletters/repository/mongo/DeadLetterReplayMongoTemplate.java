@@ -0,0 +1,139 @@
+package click.dailyfeed.activity.domain.deadletters.repository.mongo;
+
+import click.dailyfeed.activity.domain.deadletters.type.DeadLetterReplaySource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 데드레터 재처리용 선점(claim)/완료/반납 연산
+ * is_editing 을 조건부 updateMulti 로 뒤집어 여러 worker/파드가 같은 문서를 동시에 재처리하지 않도록 합니다.
+ * 선점 후 claim-timeout 이 지나도록 완료/반납되지 않은 문서(재처리 중 파드 종료 등)는 다시 선점할 수 있습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class DeadLetterReplayMongoTemplate {
+    private final MongoTemplate mongoTemplate;
+
+    public record ClaimedDeadLetter(ObjectId id, String payload) {
+    }
+
+    public record Claim(String token, List<ClaimedDeadLetter> deadLetters) {
+    }
+
+    /**
+     * 재처리 대상 데드레터를 최대 batchSize 건 선점합니다.
+     *
+     * @param claimTimeout 이 시간이 지난 선점은 만료된 것으로 보고 다시 선점
+     * @param maxAttempts 재처리 시도 횟수가 이 값에 도달한 문서는 제외 (운영자 확인 대상)
+     */
+    public Claim claim(DeadLetterReplaySource source, int batchSize, Duration claimTimeout, int maxAttempts) {
+        LocalDateTime now = LocalDateTime.now();
+        Criteria claimable = claimable(now.minus(claimTimeout), maxAttempts);
+
+        Query candidates = new Query(claimable).with(Sort.by(Sort.Direction.ASC, "_id")).limit(batchSize);
+        candidates.fields().include("_id");
+        List<ObjectId> ids = mongoTemplate.find(candidates, Document.class, source.getCollectionName())
+                .stream()
+                .map(document -> document.getObjectId("_id"))
+                .toList();
+        if (ids.isEmpty()) {
+            return new Claim(null, List.of());
+        }
+
+        // 후보 조회와 선점 사이에 다른 worker 가 가져간 문서는 조건에서 걸러진다 (문서 단위 원자적 갱신)
+        String token = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                new Query(new Criteria().andOperator(Criteria.where("_id").in(ids), claimable(now.minus(claimTimeout), maxAttempts))),
+                new Update()
+                        .set("is_editing", true)
+                        .set("claim_token", token)
+                        .set("claimed_at", now)
+                        .set("updated_at", now),
+                source.getCollectionName()
+        );
+
+        Query claimed = new Query(Criteria.where("claim_token").is(token));
+        claimed.fields().include("_id").include("payload");
+        List<ClaimedDeadLetter> deadLetters = mongoTemplate.find(claimed, Document.class, source.getCollectionName())
+                .stream()
+                .map(document -> new ClaimedDeadLetter(document.getObjectId("_id"), document.getString("payload")))
+                .toList();
+        return new Claim(token, deadLetters);
+    }
+
+    /**
+     * 재처리에 성공한 데드레터를 완료 처리합니다.
+     */
+    public void complete(DeadLetterReplaySource source, String token, Collection<ObjectId> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(
+                claimedBy(token, ids),
+                new Update()
+                        .set("is_completed", true)
+                        .set("is_editing", false)
+                        .unset("claim_token")
+                        .set("updated_at", LocalDateTime.now()),
+                source.getCollectionName()
+        );
+    }
+
+    /**
+     * 재처리에 실패한 데드레터의 선점을 풀고 시도 횟수를 올립니다. (다음 주기에 다시 선점)
+     */
+    public void release(DeadLetterReplaySource source, String token, Collection<ObjectId> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(
+                claimedBy(token, ids),
+                new Update()
+                        .set("is_editing", false)
+                        .unset("claim_token")
+                        .inc("replay_attempts", 1)
+                        .set("updated_at", LocalDateTime.now()),
+                source.getCollectionName()
+        );
+    }
+
+    /**
+     * 완료되지 않은 데드레터 수 (재처리 시도 횟수를 넘긴 문서 포함)
+     */
+    public long countBacklog(DeadLetterReplaySource source) {
+        return mongoTemplate.count(new Query(Criteria.where("is_completed").ne(true)), source.getCollectionName());
+    }
+
+    private Criteria claimable(LocalDateTime staleBefore, int maxAttempts) {
+        return new Criteria().andOperator(
+                Criteria.where("is_completed").ne(true),
+                new Criteria().orOperator(
+                        Criteria.where("is_editing").ne(true),
+                        Criteria.where("claimed_at").lt(staleBefore)
+                ),
+                new Criteria().orOperator(
+                        Criteria.where("replay_attempts").exists(false),
+                        Criteria.where("replay_attempts").lt(maxAttempts)
+                )
+        );
+    }
+
+    private Query claimedBy(String token, Collection<ObjectId> ids) {
+        return new Query(Criteria.where("_id").in(ids).and("claim_token").is(token));
+    }
+}
@@ -0,0 +1,43 @@
+package click.dailyfeed.activity.domain.deadletters.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 초당 permitsPerSecond 건으로 재처리량을 제한하는 token bucket (최대 1초치까지 누적)
+ * 여러 worker 가 공유하므로 파드 단위 제한입니다.
+ */
+class DeadLetterReplayRateLimiter {
+    private final double permitsPerNano;
+    private final double maxPermits;
+    private double availablePermits;
+    private long refilledAt = System.nanoTime();
+
+    DeadLetterReplayRateLimiter(int permitsPerSecond) {
+        this.permitsPerNano = permitsPerSecond / (double) TimeUnit.SECONDS.toNanos(1);
+        this.maxPermits = permitsPerSecond;
+        this.availablePermits = permitsPerSecond;
+    }
+
+    /**
+     * permits 만큼 확보될 때까지 기다립니다.
+     *
+     * @return 기다리는 도중 interrupt 되면 false
+     */
+    boolean acquire(int permits) {
+        long waitNanos = reserve(Math.min(permits, (int) maxPermits));
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+        return !Thread.currentThread().isInterrupted();
+    }
+
+    // 먼저 예약하고 부족분만큼 기다리게 해서 대기 중인 worker 끼리도 순서대로 나눠 갖는다
+    private synchronized long reserve(int permits) {
+        long now = System.nanoTime();
+        availablePermits = Math.min(maxPermits, availablePermits + (now - refilledAt) * permitsPerNano);
+        refilledAt = now;
+        availablePermits -= permits;
+        return availablePermits >= 0 ? 0 : (long) (-availablePermits / permitsPerNano);
+    }
+}
@@ -0,0 +1,228 @@
+package click.dailyfeed.activity.domain.deadletters.service;
+
+import click.dailyfeed.activity.domain.deadletters.repository.mongo.DeadLetterReplayMongoTemplate;
+import click.dailyfeed.activity.domain.deadletters.type.DeadLetterReplaySource;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityBulkWriter;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityIngestModeSelector;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * listener_dead_letters, redis_dead_letters 에 쌓인 데드레터를 다시 저장합니다.
+ * 배치 단위로 is_editing 을 선점한 뒤 payload 를 MemberActivityMessage 로 역직렬화하여 수집 경로와 같은 bulk 저장(MemberActivityBulkWriter)으로 넘깁니다.
+ * 실시간 수집과 경합하지 않도록 worker 수와 초당 재처리 건수를 제한하고, adaptive 수집이 과부하로 전환된 동안에는 쉬어갑니다.
+ * 선점이 문서 단위로 원자적이므로 여러 파드에서 동시에 실행해도 같은 데드레터를 중복 재처리하지 않습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class DeadLetterReplayService {
+    public static final String REPLAY_TOPIC = "dead-letter-replay"; // 메트릭 태그용 토픽
+
+    private final DeadLetterReplayMongoTemplate deadLetterReplayMongoTemplate;
+    private final MemberActivityBulkWriter memberActivityBulkWriter;
+    private final MemberActivityIngestModeSelector memberActivityIngestModeSelector;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${infrastructure.mongodb.dead-letter-replay.enabled:false}")
+    private boolean enabled;
+
+    @Value("${infrastructure.mongodb.dead-letter-replay.workers:2}")
+    private int workers;
+
+    @Value("${infrastructure.mongodb.dead-letter-replay.batch-size:200}")
+    private int batchSize;
+
+    @Value("${infrastructure.mongodb.dead-letter-replay.rate-per-second:500}")
+    private int ratePerSecond;
+
+    @Value("${infrastructure.mongodb.dead-letter-replay.run-duration:30s}")
+    private Duration runDuration;
+
+    @Value("${infrastructure.mongodb.dead-letter-replay.claim-timeout:5m}")
+    private Duration claimTimeout;
+
+    @Value("${infrastructure.mongodb.dead-letter-replay.max-attempts:5}")
+    private int maxAttempts;
+
+    private ExecutorService replayExecutor;
+    private DeadLetterReplayRateLimiter rateLimiter;
+    private final Map<DeadLetterReplaySource, AtomicLong> backlogs = new EnumMap<>(DeadLetterReplaySource.class);
+    private final Map<DeadLetterReplaySource, SourceMeters> meters = new EnumMap<>(DeadLetterReplaySource.class);
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.replayExecutor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "dead-letter-replay-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.rateLimiter = new DeadLetterReplayRateLimiter(ratePerSecond);
+
+        for (DeadLetterReplaySource source : DeadLetterReplaySource.values()) {
+            AtomicLong backlog = new AtomicLong();
+            backlogs.put(source, backlog);
+            Gauge.builder("member.activity.deadletter.replay.backlog", backlog, AtomicLong::get).tag("source", source.name()).register(meterRegistry);
+            meters.put(source, new SourceMeters(source));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        replayExecutor.shutdownNow();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${infrastructure.mongodb.dead-letter-replay.interval:60000}",
+            initialDelay = 30000
+    )
+    public void replay() {
+        if (!enabled) {
+            return;
+        }
+
+        for (DeadLetterReplaySource source : DeadLetterReplaySource.values()) {
+            if (memberActivityIngestModeSelector.isOverloaded()) {
+                log.info("⏸️ Dead letter replay paused - live ingest is overloaded");
+                return;
+            }
+            replay(source);
+        }
+    }
+
+    private void replay(DeadLetterReplaySource source) {
+        long backlog = deadLetterReplayMongoTemplate.countBacklog(source);
+        backlogs.get(source).set(backlog);
+        if (backlog == 0) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + runDuration.toNanos();
+        List<Callable<Integer>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(() -> replayUntil(source, deadline));
+        }
+
+        try {
+            int replayed = 0;
+            for (Future<Integer> future : replayExecutor.invokeAll(tasks)) {
+                replayed += future.get();
+            }
+            backlogs.get(source).set(deadLetterReplayMongoTemplate.countBacklog(source));
+            if (replayed > 0) {
+                log.info("♻️ Replayed {} dead letters - source: {}, remaining: {}", replayed, source, backlogs.get(source).get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("❌ Failed to replay dead letters - source: {}", source, e.getCause());
+        }
+    }
+
+    private int replayUntil(DeadLetterReplaySource source, long deadline) {
+        int replayed = 0;
+        while (System.nanoTime() < deadline && !memberActivityIngestModeSelector.isOverloaded()) {
+            if (!rateLimiter.acquire(batchSize)) {
+                break;
+            }
+            DeadLetterReplayMongoTemplate.Claim claim = deadLetterReplayMongoTemplate.claim(source, batchSize, claimTimeout, maxAttempts);
+            if (claim.deadLetters().isEmpty()) {
+                break;
+            }
+
+            replayed += replayBatch(source, claim);
+            if (claim.deadLetters().size() < batchSize) {
+                break; // 재처리 대상 소진
+            }
+        }
+        return replayed;
+    }
+
+    /**
+     * @return 완료 처리한 데드레터 수
+     */
+    private int replayBatch(DeadLetterReplaySource source, DeadLetterReplayMongoTemplate.Claim claim) {
+        SourceMeters sourceMeters = meters.get(source);
+        long startedAt = System.nanoTime();
+
+        List<MemberActivityTransportDto.MemberActivityMessage> messages = new ArrayList<>(claim.deadLetters().size());
+        Map<MemberActivityTransportDto.MemberActivityMessage, ObjectId> ids = new IdentityHashMap<>();
+        List<ObjectId> released = new ArrayList<>();
+        for (DeadLetterReplayMongoTemplate.ClaimedDeadLetter deadLetter : claim.deadLetters()) {
+            try {
+                MemberActivityTransportDto.MemberActivityMessage message = objectMapper.readValue(deadLetter.payload(), MemberActivityTransportDto.MemberActivityMessage.class);
+                messages.add(message);
+                ids.put(message, deadLetter.id());
+            } catch (Exception e) { // 메시지 형식이 다른 payload 는 시도 횟수만 올리고 운영자 확인 대상으로 남긴다
+                log.warn("Failed to deserialize dead letter payload - source: {}, id: {}", source, deadLetter.id());
+                sourceMeters.poison.increment();
+                released.add(deadLetter.id());
+            }
+        }
+
+        Set<MemberActivityTransportDto.MemberActivityMessage> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        try {
+            memberActivityBulkWriter.writeBulk(REPLAY_TOPIC, messages, failed::add);
+        } catch (Exception e) {
+            log.error("❌ Failed to replay dead letter batch - source: {}", source, e);
+            failed.addAll(messages);
+        }
+
+        List<ObjectId> completed = new ArrayList<>(messages.size());
+        for (MemberActivityTransportDto.MemberActivityMessage message : messages) {
+            (failed.contains(message) ? released : completed).add(ids.get(message));
+        }
+        deadLetterReplayMongoTemplate.complete(source, claim.token(), completed);
+        deadLetterReplayMongoTemplate.release(source, claim.token(), released);
+
+        sourceMeters.completed.increment(completed.size());
+        sourceMeters.failed.increment(failed.size());
+        sourceMeters.batch.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return completed.size();
+    }
+
+    private final class SourceMeters {
+        private final Counter completed;
+        private final Counter failed;
+        private final Counter poison;
+        private final Timer batch;
+
+        private SourceMeters(DeadLetterReplaySource source) {
+            this.completed = Counter.builder("member.activity.deadletter.replay").tag("source", source.name()).tag("result", "completed").register(meterRegistry);
+            this.failed = Counter.builder("member.activity.deadletter.replay").tag("source", source.name()).tag("result", "failed").register(meterRegistry);
+            this.poison = Counter.builder("member.activity.deadletter.replay").tag("source", source.name()).tag("result", "poison").register(meterRegistry);
+            this.batch = Timer.builder("member.activity.deadletter.replay.batch").tag("source", source.name()).register(meterRegistry);
+        }
+    }
+}
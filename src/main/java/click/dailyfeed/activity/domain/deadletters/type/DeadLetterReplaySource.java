@@ -0,0 +1,20 @@
+package click.dailyfeed.activity.domain.deadletters.type;
+
+/**
+ * 재처리 대상 데드레터 저장소
+ * 두 저장소 모두 payload 에 MemberActivityMessage 를 jackson 직렬화한 문자열을 담습니다.
+ */
+public enum DeadLetterReplaySource {
+    LISTENER("listener_dead_letters"),   // ListenerDeadLetterDocument
+    REDIS("redis_dead_letters");         // RedisDLQDocument
+
+    private final String collectionName;
+
+    DeadLetterReplaySource(String collectionName) {
+        this.collectionName = collectionName;
+    }
+
+    public String getCollectionName() {
+        return collectionName;
+    }
+}
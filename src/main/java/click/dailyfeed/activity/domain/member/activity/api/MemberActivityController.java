@@ -1,12 +1,16 @@
 package click.dailyfeed.activity.domain.member.activity.api;
 
+import click.dailyfeed.activity.domain.member.activity.dto.MemberActivityBatchDto;
+import click.dailyfeed.activity.domain.member.activity.dto.MemberActivityCursorDto;
 import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
 import click.dailyfeed.activity.domain.member.activity.service.MemberActivityService;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
 import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
 import click.dailyfeed.code.global.web.response.DailyfeedServerResponse;
 import click.dailyfeed.feign.config.web.annotation.AuthenticatedMemberProfileSummary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
@@ -71,4 +75,39 @@ public class MemberActivityController {
                 .result(ResponseSuccessCode.SUCCESS)
                 .build();
     }
+
+    /**
+     * 여러 종류의 활동을 한 번의 unordered bulk insert 로 저장합니다. (Kafka 를 사용할 수 없는 내부 서비스, backfill 용)
+     * 일부 항목이 검증/저장에 실패하더라도 나머지는 저장되며, 항목별 결과를 반환합니다.
+     */
+    @PostMapping("/batch")
+    public DailyfeedServerResponse<MemberActivityBatchDto.BatchResult> createMemberActivities(
+            @AuthenticatedMemberProfileSummary MemberProfileDto.Summary member,
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestBody MemberActivityBatchDto.BatchRequest batchRequest ){
+
+        MemberActivityBatchDto.BatchResult result = memberActivityService.createMemberActivities(batchRequest);
+        return DailyfeedServerResponse.<MemberActivityBatchDto.BatchResult>builder()
+                .status(HttpStatus.OK.value())
+                .data(result)
+                .result(ResponseSuccessCode.SUCCESS)
+                .build();
+    }
+
+    @GetMapping("/members/{memberId}")
+    public DailyfeedServerResponse<MemberActivityCursorDto.CursorPage> getMemberActivities(
+            @AuthenticatedMemberProfileSummary MemberProfileDto.Summary member,
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @PathVariable("memberId") Long memberId,
+            @RequestParam(value = "type", required = false) MemberActivityType memberActivityType,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            Pageable pageable ){
+
+        MemberActivityCursorDto.CursorPage result = memberActivityService.getMemberActivities(memberId, memberActivityType, cursor, pageable.getPageSize());
+        return DailyfeedServerResponse.<MemberActivityCursorDto.CursorPage>builder()
+                .status(HttpStatus.OK.value())
+                .data(result)
+                .result(ResponseSuccessCode.SUCCESS)
+                .build();
+    }
 }
@@ -1,5 +1,7 @@
 package click.dailyfeed.activity.domain.member.activity.api;
 
+import click.dailyfeed.activity.domain.member.activity.exception.InvalidMemberActivityCursorException;
+import click.dailyfeed.activity.domain.member.activity.exception.MemberActivityBatchSizeExceededException;
 import click.dailyfeed.code.domain.member.key.exception.JwtKeyException;
 import click.dailyfeed.code.domain.member.member.code.MemberHeaderCode;
 import click.dailyfeed.code.domain.member.member.exception.MemberException;
@@ -84,6 +86,28 @@ public class MemberActivityControllerAdvice {
         );
     }
 
+    @ExceptionHandler(InvalidMemberActivityCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public DailyfeedErrorResponse handleInvalidMemberActivityCursorException(InvalidMemberActivityCursorException e, HttpServletRequest request) {
+        return DailyfeedErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                ResponseSuccessCode.FAIL,
+                e.getMessage(),
+                request.getRequestURI()
+        );
+    }
+
+    @ExceptionHandler(MemberActivityBatchSizeExceededException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public DailyfeedErrorResponse handleMemberActivityBatchSizeExceededException(MemberActivityBatchSizeExceededException e, HttpServletRequest request) {
+        return DailyfeedErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                ResponseSuccessCode.FAIL,
+                e.getMessage(),
+                request.getRequestURI()
+        );
+    }
+
     // 일반적인 RuntimeException 처리 (예상치 못한 오류)
     @ExceptionHandler(RuntimeException.class)
     public DailyfeedErrorResponse handleRuntimeException(
@@ -0,0 +1,81 @@
+package click.dailyfeed.activity.domain.member.activity.api;
+
+import click.dailyfeed.activity.domain.member.activity.service.MemberActivityReactiveService;
+import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
+import click.dailyfeed.code.global.web.response.DailyfeedServerResponse;
+import click.dailyfeed.feign.config.web.annotation.AuthenticatedMemberProfileSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * 회원 활동 생성 API 의 논블로킹 버전
+ * Mono 를 반환하므로 servlet 비동기 처리로 MongoDB 응답을 기다리는 동안 요청 스레드를 반환합니다.
+ */
+@RestController
+@RequestMapping("/api/member-activities/reactive")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "infrastructure.mongodb.reactive.enabled", havingValue = "true")
+public class MemberActivityReactiveController {
+    private final MemberActivityReactiveService memberActivityReactiveService;
+
+    @PostMapping("/posts")
+    public Mono<DailyfeedServerResponse<MemberActivityDto.MemberActivity>> createPostsMemberActivity(
+            @AuthenticatedMemberProfileSummary MemberProfileDto.Summary member,
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestBody MemberActivityDto.PostActivityRequest postActivityRequest ){
+
+        return memberActivityReactiveService.createPostsMemberActivity(postActivityRequest)
+                .map(result -> DailyfeedServerResponse.<MemberActivityDto.MemberActivity>builder()
+                        .status(HttpStatus.CREATED.value())
+                        .data(result)
+                        .result(ResponseSuccessCode.SUCCESS)
+                        .build());
+    }
+
+    @PostMapping("/comments")
+    public Mono<DailyfeedServerResponse<MemberActivityDto.MemberActivity>> createCommentsMemberActivity(
+            @AuthenticatedMemberProfileSummary MemberProfileDto.Summary member,
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestBody MemberActivityDto.CommentActivityRequest commentActivityRequest ){
+
+        return memberActivityReactiveService.createCommentsMemberActivity(commentActivityRequest)
+                .map(result -> DailyfeedServerResponse.<MemberActivityDto.MemberActivity>builder()
+                        .status(HttpStatus.CREATED.value())
+                        .data(result)
+                        .result(ResponseSuccessCode.SUCCESS)
+                        .build());
+    }
+
+    @PostMapping("/posts/likes")
+    public Mono<DailyfeedServerResponse<MemberActivityDto.MemberActivity>> createPostLikeActivity(
+            @AuthenticatedMemberProfileSummary MemberProfileDto.Summary member,
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestBody MemberActivityDto.PostLikeActivityRequest postLikeActivityRequest ){
+
+        return memberActivityReactiveService.createPostLikeActivity(postLikeActivityRequest)
+                .map(result -> DailyfeedServerResponse.<MemberActivityDto.MemberActivity>builder()
+                        .status(HttpStatus.CREATED.value())
+                        .data(result)
+                        .result(ResponseSuccessCode.SUCCESS)
+                        .build());
+    }
+
+    @PostMapping("/comments/likes")
+    public Mono<DailyfeedServerResponse<MemberActivityDto.MemberActivity>> createCommentLikeActivity(
+            @AuthenticatedMemberProfileSummary MemberProfileDto.Summary member,
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestBody MemberActivityDto.CommentLikeActivityRequest commentLikeActivityRequest ){
+
+        return memberActivityReactiveService.createCommentLikeActivity(commentLikeActivityRequest)
+                .map(result -> DailyfeedServerResponse.<MemberActivityDto.MemberActivity>builder()
+                        .status(HttpStatus.CREATED.value())
+                        .data(result)
+                        .result(ResponseSuccessCode.SUCCESS)
+                        .build());
+    }
+}
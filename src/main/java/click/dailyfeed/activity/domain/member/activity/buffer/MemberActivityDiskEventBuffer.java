@@ -0,0 +1,314 @@
+package click.dailyfeed.activity.domain.member.activity.buffer;
+
+import click.dailyfeed.activity.domain.member.activity.journal.MemberActivityJournalSegment;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 파드 로컬 디스크(PVC)의 memory-map 세그먼트 큐로 구현한 이벤트 버퍼
+ * Redis 왕복과 단일 list 키 경합 없이 파드마다 버스트를 흡수하고, 각 파드가 자기 큐를 직접 drain 합니다.
+ *
+ * - push: 현재 세그먼트에 레코드를 이어 씁니다. memory-map 은 프로세스가 죽어도 페이지 캐시에 남지만 노드 장애 시에는 유실되므로,
+ *         오프셋 커밋 전에 디스크에 내리는 시점을 force-mode 로 정합니다.
+ *         - batch (기본값): 리스너가 poll 묶음을 처리한 뒤 sync() 로 한번 force 하고 오프셋을 커밋합니다. (group commit)
+ *         - record: push 마다 force 합니다.
+ *         - interval: flush-interval 주기로만 force 합니다. 노드 장애 시 오프셋이 커밋된 이벤트를 잃을 수 있습니다.
+ * - pop/commit: 꺼낸 위치는 메모리에만 두고, 앞선 묶음이 모두 commit 된 위치까지만 checkpoint 파일에 기록합니다.
+ *               commit 전에 종료되면 재시작 시 checkpoint 부터 다시 꺼내므로 at-least-once 로 동작합니다.
+ * - checkpoint 이전 세그먼트는 삭제합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "infrastructure.kafka.consumers.member-activity.ingest.buffer.type", havingValue = "disk")
+public class MemberActivityDiskEventBuffer implements MemberActivityEventBuffer {
+    private static final String SEGMENT_PREFIX = "queue";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int CHECKPOINT_SIZE = Long.BYTES + Integer.BYTES * 2; // [sequence][offset][crc32]
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.ingest.buffer.disk.directory:/var/lib/dailyfeed/activity/buffer}")
+    private String directory;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.ingest.buffer.disk.segment-size:64MB}")
+    private DataSize segmentSize;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.ingest.buffer.disk.force-mode:batch}")
+    private String forceMode;
+
+    private Path queueDirectory;
+    private MappedByteBuffer checkpoint;
+
+    // 아래 상태는 모두 this 로 동기화
+    private final NavigableMap<Long, MemberActivityJournalSegment> segments = new TreeMap<>();
+    private MemberActivityJournalSegment writeSegment;
+    private Position readPosition;
+    private Position committedPosition;
+    private long nextBatchToken;
+    // pop 했지만 아직 commit 되지 않은 묶음 (token → 묶음 끝 위치)
+    private final NavigableMap<Long, Position> pendingBatches = new TreeMap<>();
+    private final Set<Long> completedBatches = new HashSet<>();
+    private boolean dirty;
+
+    private volatile long size;
+    private Counter undecodableCounter;
+
+    private record Position(long sequence, int offset) {
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("ingest.buffer.disk.segment-size must be less than 2GB - " + segmentSize);
+        }
+        this.queueDirectory = Paths.get(directory);
+        Files.createDirectories(queueDirectory);
+
+        try (Stream<Path> files = Files.list(queueDirectory)) {
+            for (Path path : files.filter(path -> MemberActivityJournalSegment.isSegment(path, SEGMENT_PREFIX)).sorted().toList()) {
+                MemberActivityJournalSegment segment = MemberActivityJournalSegment.open(path);
+                segments.put(segment.sequence(), segment);
+            }
+        }
+        if (segments.isEmpty()) {
+            MemberActivityJournalSegment segment = MemberActivityJournalSegment.create(queueDirectory, SEGMENT_PREFIX, 1, (int) segmentSize.toBytes());
+            segments.put(segment.sequence(), segment);
+        }
+        this.writeSegment = segments.lastEntry().getValue();
+
+        try (FileChannel channel = FileChannel.open(queueDirectory.resolve(CHECKPOINT_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            this.checkpoint = channel.map(FileChannel.MapMode.READ_WRITE, 0, CHECKPOINT_SIZE);
+        }
+        this.committedPosition = recoverCheckpoint();
+        this.readPosition = committedPosition;
+        deleteSegmentsBefore(committedPosition.sequence());
+        this.size = countFrom(committedPosition);
+
+        this.undecodableCounter = Counter.builder("member.activity.buffer.disk.undecodable").register(meterRegistry);
+        Gauge.builder("member.activity.buffer.disk.segments", this, buffer -> buffer.segmentCount()).register(meterRegistry);
+        log.info("Disk event buffer opened - directory: {}, segments: {}, pending events: {}", queueDirectory, segments.size(), size);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        writeSegment.force();
+        checkpoint.force();
+    }
+
+    @Override
+    public void push(MemberActivityTransportDto.MemberActivityMessage message) throws IOException {
+        byte[] payload = objectMapper.writeValueAsBytes(message);
+        if (MemberActivityJournalSegment.HEADER_SIZE + (long) payload.length > segmentSize.toBytes()) {
+            throw new IOException("event larger than buffer segment - " + payload.length + " bytes");
+        }
+
+        synchronized (this) {
+            if (!writeSegment.hasRoom(payload.length)) {
+                writeSegment.force();
+                writeSegment = MemberActivityJournalSegment.create(queueDirectory, SEGMENT_PREFIX, writeSegment.sequence() + 1, (int) segmentSize.toBytes());
+                segments.put(writeSegment.sequence(), writeSegment);
+            }
+            writeSegment.append(payload);
+            size++;
+            if ("record".equalsIgnoreCase(forceMode)) {
+                writeSegment.force();
+            } else {
+                dirty = true;
+            }
+        }
+    }
+
+    @Override
+    public boolean syncsPerPoll() {
+        return "batch".equalsIgnoreCase(forceMode);
+    }
+
+    @Override
+    public void sync() {
+        flush();
+    }
+
+    @Override
+    public Batch pop(int count) {
+        List<byte[]> payloads = new ArrayList<>(Math.min(count, 1024));
+        long token;
+        synchronized (this) {
+            while (payloads.size() < count) {
+                MemberActivityJournalSegment.Record record = segments.get(readPosition.sequence()).readAt(readPosition.offset());
+                if (record == null) {
+                    // 세그먼트 끝 (기록 도중 종료되어 잘린 레코드 포함), 다음 세그먼트가 있으면 이어서 읽는다
+                    Long nextSequence = segments.higherKey(readPosition.sequence());
+                    if (nextSequence == null) {
+                        break;
+                    }
+                    readPosition = new Position(nextSequence, 0);
+                    continue;
+                }
+                readPosition = new Position(readPosition.sequence(), record.nextOffset());
+                payloads.add(record.payload());
+            }
+            if (payloads.isEmpty()) {
+                return EMPTY;
+            }
+            size -= payloads.size();
+            token = nextBatchToken++;
+            pendingBatches.put(token, readPosition);
+        }
+
+        // 역직렬화는 push 를 막지 않도록 잠금 밖에서 처리
+        List<MemberActivityTransportDto.MemberActivityMessage> messages = new ArrayList<>(payloads.size());
+        for (byte[] payload : payloads) {
+            try {
+                messages.add(objectMapper.readValue(payload, MemberActivityTransportDto.MemberActivityMessage.class));
+            } catch (IOException e) {
+                undecodableCounter.increment();
+                log.error("Failed to deserialize disk buffered member activity event - {}", new String(payload, StandardCharsets.UTF_8), e);
+            }
+        }
+
+        Batch batch = new Batch(messages, token);
+        if (messages.isEmpty()) {
+            // 역직렬화에 실패한 레코드만 꺼낸 경우 drain 작업이 commit 하지 않으므로 바로 완료 처리
+            commit(batch);
+            return EMPTY;
+        }
+        return batch;
+    }
+
+    @Override
+    public synchronized void commit(Batch batch) {
+        if (batch.token() < 0) {
+            return;
+        }
+        complete(batch.token());
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public boolean isShared() {
+        return false;
+    }
+
+    /**
+     * 마지막 force 이후 기록된 내용이 있으면 쓰기 세그먼트를 디스크에 내립니다. (sync() 와 flush-interval 주기로 호출)
+     * 세그먼트를 교체할 때는 이전 세그먼트를 force 한 뒤 교체하므로 현재 쓰기 세그먼트만 내리면 됩니다.
+     */
+    @Scheduled(fixedDelayString = "${infrastructure.kafka.consumers.member-activity.ingest.buffer.disk.flush-interval:1000}")
+    public synchronized void flush() {
+        if (dirty) {
+            writeSegment.force();
+            dirty = false;
+        }
+    }
+
+    private synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    private void complete(long token) {
+        completedBatches.add(token);
+
+        Position committable = null;
+        while (!pendingBatches.isEmpty() && completedBatches.remove(pendingBatches.firstKey())) {
+            committable = pendingBatches.pollFirstEntry().getValue();
+        }
+        if (committable != null) {
+            committedPosition = committable;
+            writeCheckpoint(committable);
+            deleteSegmentsBefore(committable.sequence());
+        }
+    }
+
+    private void writeCheckpoint(Position position) {
+        checkpoint.putLong(0, position.sequence());
+        checkpoint.putInt(Long.BYTES, position.offset());
+        checkpoint.putInt(Long.BYTES + Integer.BYTES, checksum(position));
+        checkpoint.force();
+    }
+
+    /**
+     * checkpoint 가 없거나 손상되었으면 가장 오래된 세그먼트의 처음부터 다시 꺼냅니다. (중복은 message_key unique 인덱스로 흡수, 합산 대상 조회성 이벤트 제외)
+     */
+    private Position recoverCheckpoint() {
+        Position oldest = new Position(segments.firstKey(), 0);
+        Position position = new Position(checkpoint.getLong(0), checkpoint.getInt(Long.BYTES));
+        if (checkpoint.getInt(Long.BYTES + Integer.BYTES) != checksum(position) || position.sequence() == 0) {
+            return oldest;
+        }
+        if (!segments.containsKey(position.sequence())) {
+            // checkpoint 세그먼트까지 모두 소진되어 삭제된 경우
+            Long nextSequence = segments.higherKey(position.sequence());
+            return nextSequence == null ? new Position(writeSegment.sequence(), 0) : new Position(nextSequence, 0);
+        }
+        return position;
+    }
+
+    private long countFrom(Position position) {
+        long count = 0;
+        for (Map.Entry<Long, MemberActivityJournalSegment> entry : segments.tailMap(position.sequence(), true).entrySet()) {
+            int offset = entry.getKey() == position.sequence() ? position.offset() : 0;
+            MemberActivityJournalSegment.Record record;
+            while ((record = entry.getValue().readAt(offset)) != null) {
+                offset = record.nextOffset();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void deleteSegmentsBefore(long sequence) {
+        NavigableMap<Long, MemberActivityJournalSegment> consumed = segments.headMap(sequence, false);
+        for (MemberActivityJournalSegment segment : consumed.values()) {
+            try {
+                Files.deleteIfExists(segment.path());
+            } catch (IOException e) {
+                // 재시작 시 checkpoint 이전 세그먼트로 다시 정리된다
+                log.warn("Failed to delete consumed buffer segment - {}", segment.path(), e);
+            }
+        }
+        consumed.clear();
+    }
+
+    private static int checksum(Position position) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(Long.toString(position.sequence()).concat(":").concat(Integer.toString(position.offset())).getBytes(StandardCharsets.US_ASCII));
+        return (int) crc32.getValue();
+    }
+}
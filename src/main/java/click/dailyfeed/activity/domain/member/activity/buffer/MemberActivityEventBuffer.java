@@ -0,0 +1,62 @@
+package click.dailyfeed.activity.domain.member.activity.buffer;
+
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * buffered 수집 경로의 이벤트 버퍼
+ * record 리스너가 push 한 뒤 오프셋을 커밋하고, MemberActivityEventBufferDrainer 가 pop → bulk 저장 → commit 순서로 비웁니다.
+ * commit 전에 종료되면 pop 했던 이벤트를 다시 꺼낼 수 있는 구현은 at-least-once 로 동작합니다. (중복은 message_key unique 인덱스로 흡수, 시간 창으로 합치는 조회성 이벤트는 count 가 다시 더해질 수 있음)
+ */
+public interface MemberActivityEventBuffer {
+    Batch EMPTY = new Batch(List.of(), -1);
+
+    /**
+     * 반환 후에는 리스너가 카프카 오프셋을 커밋하므로, 구현체는 반환 전에 이벤트를 유실되지 않는 곳에 기록해야 합니다.
+     * syncsPerPoll() 이 true 인 구현체는 sync() 가 끝날 때까지 기록을 미룰 수 있으며, 리스너는 sync() 이후에 오프셋을 커밋합니다.
+     */
+    void push(MemberActivityTransportDto.MemberActivityMessage message) throws IOException;
+
+    /**
+     * poll 묶음의 push 를 sync() 한번으로 모아 기록하는지 여부 (group commit)
+     */
+    default boolean syncsPerPoll() {
+        return false;
+    }
+
+    /**
+     * 지금까지 push 한 이벤트를 유실되지 않는 곳에 기록합니다. 리스너가 poll 묶음의 오프셋을 커밋하기 전에 호출합니다.
+     */
+    default void sync() throws IOException {
+    }
+
+    /**
+     * 버퍼에서 최대 count 건을 꺼냅니다.
+     *
+     * @return 꺼낸 메시지 묶음, 버퍼가 비어있으면 EMPTY
+     */
+    Batch pop(int count);
+
+    /**
+     * pop 한 묶음의 저장(또는 데드레터 처리)이 끝났음을 알립니다.
+     */
+    void commit(Batch batch);
+
+    long size();
+
+    /**
+     * 여러 파드가 같은 버퍼를 공유하는지 여부 (공유하면 drain 은 분산 lease 를 보유한 파드에서만 실행)
+     */
+    boolean isShared();
+
+    /**
+     * @param token commit 시 구현체가 사용할 식별자 (사용하지 않으면 -1)
+     */
+    record Batch(List<MemberActivityTransportDto.MemberActivityMessage> messages, long token) {
+        public boolean isEmpty() {
+            return messages.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityConsumerMetrics.Outcome;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityConsumerMetrics.Stage;
+import click.dailyfeed.activity.domain.member.activity.redis.MemberActivityMessageKeyRedisService;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import click.dailyfeed.code.global.kafka.type.DateBasedTopicType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * poll 단위로 member-activity 이벤트를 처리하는 batch 리스너
+ * 중복 제거 → 데드레터 필터링 → unordered bulk insert → 배치당 1회 오프셋 커밋 순서로 처리합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "infrastructure.kafka.consumers.member-activity.listener-mode", havingValue = "batch")
+public class MemberActivityBatchEventConsumer implements ConsumerSeekAware {
+    private final MemberActivityMessageKeyRedisService memberActivityMessageKeyRedisService;
+
+    private final MemberActivityBulkWriter memberActivityBulkWriter;
+    private final MemberActivityConsumerMetrics memberActivityConsumerMetrics;
+    private final MemberActivityDeadLetterHandler memberActivityDeadLetterHandler;
+    private final MemberActivityTopicDateResolver memberActivityTopicDateResolver;
+    private final MemberActivityMessageKeyNearCache memberActivityMessageKeyNearCache;
+
+    private final Duration KAFKA_LISTENER_TTL = Duration.ofSeconds(30);
+
+    // message_key unique 인덱스로 멱등성이 보장되므로 false 로 두면 Redis 중복 체크 왕복을 생략합니다.
+    // (시간 창으로 합치는 조회성 이벤트는 unique 인덱스로 걸러지지 않으므로 중복 수신이 count 에 더해짐)
+    @Value("${infrastructure.kafka.consumers.member-activity.redis-dedup-enabled:true}")
+    private boolean redisDedupEnabled;
+
+    @KafkaListener(
+            topicPattern = DateBasedTopicType.MEMBER_ACTIVITY_PATTERN,
+            groupId = "member-activity-consumer-group-activity-svc",
+            containerFactory = "memberActivityBatchKafkaListenerContainerFactory"
+    )
+    public void consumeMemberActivityEventBatch(
+            List<ConsumerRecord<String, MemberActivityTransportDto.MemberActivityEvent>> records,
+            Acknowledgment acknowledgment) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("📨 Consuming batch - size: {}", records.size());
+        }
+
+        // 1) 같은 poll 내 중복 메시지, 로컬 캐시에 기록된 메시지 제거 및 날짜 필터링
+        Map<String, MemberActivityTransportDto.MemberActivityMessage> keyedMessages = new LinkedHashMap<>();
+        List<MemberActivityTransportDto.MemberActivityMessage> keylessMessages = new ArrayList<>();
+        // 메시지별 원본 토픽 (메트릭 태그)
+        Map<MemberActivityTransportDto.MemberActivityMessage, String> topics = new IdentityHashMap<>();
+
+        for (ConsumerRecord<String, MemberActivityTransportDto.MemberActivityEvent> record : records) {
+            final String messageKey = record.key();
+            final MemberActivityTransportDto.MemberActivityEvent event = record.value();
+            if (event == null) {
+                continue;
+            }
+            final MemberActivityType memberActivityType = event.getMemberActivityType();
+            memberActivityConsumerMetrics.recordEventAge(record.topic(), memberActivityType, event.getCreatedAt());
+
+            if (messageKey != null && keyedMessages.containsKey(messageKey)) {
+                memberActivityConsumerMetrics.increment(Outcome.DUPLICATE, record.topic(), memberActivityType);
+                continue;
+            }
+            long stageStartedAt = System.nanoTime();
+            boolean nearCacheHit = memberActivityMessageKeyNearCache.contains(record.topic(), record.partition(), messageKey);
+            memberActivityConsumerMetrics.recordStage(Stage.NEAR_CACHE, record.topic(), memberActivityType, stageStartedAt);
+            if (nearCacheHit) {
+                memberActivityConsumerMetrics.increment(Outcome.DUPLICATE, record.topic(), memberActivityType);
+                continue;
+            }
+
+            MemberActivityTransportDto.MemberActivityMessage message = MemberActivityTransportDto.MemberActivityMessage.builder()
+                    .key(messageKey)
+                    .event(event)
+                    .build();
+
+            try {
+                if (!isAcceptable(record.topic(), memberActivityType)) {
+                    continue;
+                }
+            } catch (Exception e) {
+                log.error("❌ Failed to process message - Topic: {}, Partition: {}, Offset: {}, Error: {}",
+                        record.topic(), record.partition(), record.offset(), e.getMessage(), e);
+                memberActivityDeadLetterHandler.handleListenException(message);
+                continue;
+            }
+
+            topics.put(message, record.topic());
+            if (messageKey == null) {
+                keylessMessages.add(message);
+            } else {
+                keyedMessages.put(messageKey, message);
+            }
+        }
+
+        // 2) 이미 처리된 메시지 제외 (Exactly Once 를 Off 해두었기에 중복메시지 수신 가능, poll 전체를 한번의 Redis 호출로 체크)
+        if (redisDedupEnabled) {
+            long stageStartedAt = System.nanoTime();
+            Set<String> processed = memberActivityMessageKeyRedisService.findProcessed(keyedMessages.keySet());
+            memberActivityConsumerMetrics.recordBulkStage(Stage.REDIS_DEDUP, MemberActivityConsumerMetrics.MIXED, stageStartedAt);
+            removeWithOutcome(keyedMessages, processed, topics, Outcome.DUPLICATE);
+        }
+
+        // 3) 이미 데드레터에 담은 메시지 제외
+        long stageStartedAt = System.nanoTime();
+        Set<String> deadLettered = memberActivityDeadLetterHandler.findDeadLettered(keyedMessages.keySet());
+        memberActivityConsumerMetrics.recordBulkStage(Stage.DEAD_LETTER_LOOKUP, MemberActivityConsumerMetrics.MIXED, stageStartedAt);
+        removeWithOutcome(keyedMessages, deadLettered, topics, Outcome.DEAD_LETTERED);
+
+        List<MemberActivityTransportDto.MemberActivityMessage> messages = new ArrayList<>(keyedMessages.values());
+        messages.addAll(keylessMessages);
+
+        // 4) 토픽별로 매핑 후 unordered bulk insert (message_key unique 인덱스로 중복 메시지는 이미 반영된 것으로 처리)
+        memberActivityConsumerMetrics.recordBatchSize("poll", messages.size());
+        Map<String, List<MemberActivityTransportDto.MemberActivityMessage>> messagesByTopic = new LinkedHashMap<>();
+        for (MemberActivityTransportDto.MemberActivityMessage message : messages) {
+            messagesByTopic.computeIfAbsent(topics.get(message), topic -> new ArrayList<>()).add(message);
+        }
+        messagesByTopic.forEach(memberActivityBulkWriter::writeBulk);
+
+        // 5) 배치 처리 완료 후 오프셋 커밋 (배치당 1회)
+        acknowledgment.acknowledge();
+
+        if (redisDedupEnabled) {
+            memberActivityMessageKeyRedisService.markProcessed(keyedMessages.keySet(), KAFKA_LISTENER_TTL);
+        }
+        records.forEach(record -> memberActivityMessageKeyNearCache.put(record.topic(), record.partition(), record.key()));
+        if (log.isDebugEnabled()) {
+            log.debug("✅ Batch committed - received: {}, written: {}", records.size(), messages.size());
+        }
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        // 파티션이 다른 파드로 이동할 수 있으므로 revoke 된 파티션의 로컬 중복 체크 캐시는 비운다
+        memberActivityMessageKeyNearCache.evictPartitions(partitions);
+    }
+
+    private void removeWithOutcome(Map<String, MemberActivityTransportDto.MemberActivityMessage> keyedMessages, Set<String> messageKeys,
+                                   Map<MemberActivityTransportDto.MemberActivityMessage, String> topics, Outcome outcome) {
+        for (String messageKey : messageKeys) {
+            MemberActivityTransportDto.MemberActivityMessage removed = keyedMessages.remove(messageKey);
+            if (removed != null) {
+                memberActivityConsumerMetrics.increment(outcome, topics.get(removed), removed.getEvent().getMemberActivityType());
+            }
+        }
+    }
+
+    private boolean isAcceptable(String topic, MemberActivityType memberActivityType) {
+        LocalDate eventDate = memberActivityTopicDateResolver.resolveTopicDate(topic);
+        if (eventDate == null) {
+            return false;
+        }
+
+        return switch (memberActivityTopicDateResolver.classify(eventDate)) {
+            case ACCEPTED -> true;
+            case EXPIRED -> {
+                memberActivityConsumerMetrics.increment(Outcome.EXPIRED, topic, memberActivityType);
+                yield false;
+            }
+            case FUTURE -> {
+                memberActivityConsumerMetrics.increment(Outcome.FUTURE, topic, memberActivityType);
+                log.info("미래에서 오셨군요, 10년 뒤에 삼성전자 얼마에요?");
+                yield false;
+            }
+        };
+    }
+}
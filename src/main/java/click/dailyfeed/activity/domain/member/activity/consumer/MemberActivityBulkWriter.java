@@ -0,0 +1,149 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import click.dailyfeed.activity.domain.activitycounter.service.ActivityCounterService;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityConsumerMetrics.Outcome;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityConsumerMetrics.Stage;
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.activity.domain.member.activity.mapper.MemberActivityMapper;
+import click.dailyfeed.activity.domain.member.activity.redis.MemberActivityRecentRedisService;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityBulkInsertResult;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityMongoTemplate;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 여러 건의 member-activity 메시지를 매핑 후 unordered bulk 로 저장합니다.
+ * batch 리스너와 이벤트 버퍼 drain 작업이 같은 저장 경로를 사용합니다.
+ * 실패한 메시지는 건별로 데드레터 처리하고, 새로 저장된 문서만 카운터와 최근 활동 캐시에 반영합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberActivityBulkWriter {
+    private final MemberActivityMongoTemplate memberActivityMongoTemplate;
+    private final ActivityCounterService activityCounterService;
+    private final MemberActivityRecentRedisService memberActivityRecentRedisService;
+
+    private final MemberActivityMapper memberActivityMapper;
+    private final MemberActivityCoalescer memberActivityCoalescer;
+    private final MemberActivityDeadLetterHandler memberActivityDeadLetterHandler;
+    private final MemberActivityConsumerMetrics memberActivityConsumerMetrics;
+
+    /**
+     * @param topic 메트릭 태그로 사용할 원본 토픽 (이벤트 버퍼를 거친 경우 MemberActivityConsumerMetrics.BUFFER_TOPIC)
+     */
+    public void writeBulk(String topic, List<MemberActivityTransportDto.MemberActivityMessage> messages) {
+        writeBulk(topic, messages, message -> deadLetter(topic, message));
+    }
+
+    /**
+     * 저장에 실패한 메시지를 데드레터 대신 onFailure 로 넘깁니다. (데드레터 재처리처럼 실패 처리를 호출부에서 정하는 경우)
+     *
+     * @param onFailure 매핑/저장에 실패한 메시지 처리
+     */
+    public void writeBulk(String topic, List<MemberActivityTransportDto.MemberActivityMessage> messages,
+                          Consumer<MemberActivityTransportDto.MemberActivityMessage> onFailure) {
+        List<MemberActivityTransportDto.MemberActivityMessage> mappedMessages = new ArrayList<>(messages.size());
+        List<MemberActivityDocument> documents = new ArrayList<>(messages.size());
+        // 조회성 이벤트는 같은 시간 창의 동일 이벤트끼리 먼저 합친다 (coalesce key → 문서/원본 메시지)
+        Map<String, MemberActivityDocument> coalescedDocuments = new LinkedHashMap<>();
+        Map<String, List<MemberActivityTransportDto.MemberActivityMessage>> coalescedMessages = new HashMap<>();
+
+        long stageStartedAt = System.nanoTime();
+        for (MemberActivityTransportDto.MemberActivityMessage message : messages) {
+            try {
+                MemberActivityDocument document = memberActivityMapper.fromMessage(message);
+                if (memberActivityCoalescer.isCoalescible(message.getEvent())) {
+                    MemberActivityDocument coalesced = memberActivityCoalescer.toCoalesced(message.getEvent(), document);
+                    coalescedDocuments.merge(coalesced.getCoalesceKey(), coalesced, MemberActivityDocument::mergeCoalesced);
+                    coalescedMessages.computeIfAbsent(coalesced.getCoalesceKey(), key -> new ArrayList<>()).add(message);
+                } else {
+                    documents.add(document);
+                    mappedMessages.add(message);
+                }
+            } catch (Exception e) {
+                onFailure.accept(message);
+            }
+        }
+        memberActivityConsumerMetrics.recordBulkStage(Stage.MAPPING, topic, stageStartedAt);
+
+        writeDocuments(topic, mappedMessages, documents, onFailure);
+        writeCoalesced(topic, new ArrayList<>(coalescedDocuments.values()), coalescedMessages, onFailure);
+    }
+
+    private void writeDocuments(String topic, List<MemberActivityTransportDto.MemberActivityMessage> mappedMessages, List<MemberActivityDocument> documents,
+                                Consumer<MemberActivityTransportDto.MemberActivityMessage> onFailure) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        try {
+            long stageStartedAt = System.nanoTime();
+            MemberActivityBulkInsertResult result = memberActivityMongoTemplate.bulkInsertMemberActivities(documents);
+            memberActivityConsumerMetrics.recordBulkStage(Stage.WRITE, topic, stageStartedAt);
+
+            // 실패한 문서는 건별로 데드레터 처리하고, 새로 저장된 문서만 카운터에 반영 (중복 수신 문서 제외)
+            List<MemberActivityDocument> inserted = new ArrayList<>(documents.size());
+            for (int i = 0; i < documents.size(); i++) {
+                MemberActivityTransportDto.MemberActivityMessage message = mappedMessages.get(i);
+                if (result.getFailedIndexes().contains(i)) {
+                    onFailure.accept(message);
+                } else if (result.isInserted(i)) {
+                    inserted.add(documents.get(i));
+                    memberActivityConsumerMetrics.increment(Outcome.INSERTED, topic, message.getEvent().getMemberActivityType());
+                } else {
+                    memberActivityConsumerMetrics.increment(Outcome.DUPLICATE, topic, message.getEvent().getMemberActivityType());
+                }
+            }
+            activityCounterService.applyInserted(inserted);
+            memberActivityRecentRedisService.addAll(inserted);
+        } catch (Exception e) {
+            log.error("❌ Failed to save batch to MongoDB", e);
+            mappedMessages.forEach(onFailure);
+            log.info("📮 Moved {} events to failure handling", mappedMessages.size());
+        }
+    }
+
+    private void writeCoalesced(String topic, List<MemberActivityDocument> documents,
+                                Map<String, List<MemberActivityTransportDto.MemberActivityMessage>> messagesByCoalesceKey,
+                                Consumer<MemberActivityTransportDto.MemberActivityMessage> onFailure) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        try {
+            long stageStartedAt = System.nanoTime();
+            Set<Integer> failedIndexes = memberActivityMongoTemplate.bulkUpsertCoalescedActivities(documents);
+            memberActivityConsumerMetrics.recordBulkStage(Stage.WRITE, topic, stageStartedAt);
+
+            List<MemberActivityDocument> applied = new ArrayList<>(documents.size());
+            for (int i = 0; i < documents.size(); i++) {
+                List<MemberActivityTransportDto.MemberActivityMessage> messages = messagesByCoalesceKey.get(documents.get(i).getCoalesceKey());
+                if (failedIndexes.contains(i)) {
+                    messages.forEach(onFailure);
+                } else {
+                    applied.add(documents.get(i));
+                    messages.forEach(message -> memberActivityConsumerMetrics.increment(Outcome.INSERTED, topic, message.getEvent().getMemberActivityType()));
+                }
+            }
+            activityCounterService.applyInserted(applied);
+            memberActivityRecentRedisService.addAll(applied);
+        } catch (Exception e) {
+            log.error("❌ Failed to save coalesced batch to MongoDB", e);
+            messagesByCoalesceKey.values().forEach(messages -> messages.forEach(onFailure));
+        }
+    }
+
+    private void deadLetter(String topic, MemberActivityTransportDto.MemberActivityMessage message) {
+        memberActivityConsumerMetrics.increment(Outcome.DEAD_LETTERED, topic, message.getEvent().getMemberActivityType());
+        memberActivityDeadLetterHandler.handleInsertFailure(message);
+    }
+}
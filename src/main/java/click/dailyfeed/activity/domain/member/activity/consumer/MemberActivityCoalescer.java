@@ -0,0 +1,71 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityCompactDocument;
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 조회성 이벤트(글 조회, 댓글 조회 등)를 시간 창 단위로 합치기 위한 키와 문서를 만듭니다.
+ * 같은 시간 창 내의 동일한 (member_id, post_id, comment_id, member_activity_type) 이벤트는 하나의 문서(count, last_seen_at)로 저장됩니다.
+ * 합친 문서의 _id 와 created_at 은 시간 창 시작 시각과 coalesce key 로 정해지므로, 어느 파드에서 upsert 해도 같은 값입니다.
+ *
+ * 합친 문서에는 message_key 가 없어 DB 에서 중복 수신을 걸러낼 수 없으므로, count 와 activity_counters 반영은 at-least-once 입니다.
+ * 중복은 로컬 캐시(near-cache.ttl)/Redis(30초) 중복 체크 범위 안에서만 걸러지며, 그 밖의 재전송이나
+ * 데드레터/스필 저널/이벤트 버퍼 재처리는 같은 이벤트를 다시 더할 수 있습니다. (정확한 건수가 필요한 타입은 합산 대상에서 제외)
+ */
+@Component
+public class MemberActivityCoalescer {
+    private final Set<MemberActivityType> coalesceTypes;
+    private final long windowSeconds;
+
+    public MemberActivityCoalescer(
+            @Value("${infrastructure.kafka.consumers.member-activity.coalesce.types:}") List<MemberActivityType> coalesceTypes,
+            @Value("${infrastructure.kafka.consumers.member-activity.coalesce.window:10s}") Duration window
+    ) {
+        this.coalesceTypes = coalesceTypes.isEmpty() ? EnumSet.noneOf(MemberActivityType.class) : EnumSet.copyOf(coalesceTypes);
+        this.windowSeconds = Math.max(1, window.toSeconds());
+    }
+
+    public boolean isCoalescible(MemberActivityTransportDto.MemberActivityEvent event) {
+        return coalesceTypes.contains(event.getMemberActivityType());
+    }
+
+    /**
+     * 단건 이벤트를 합치기 대상 문서로 변환합니다.
+     *
+     * @param event 원본 이벤트
+     * @param document event 를 매핑한 MemberActivityDocument
+     */
+    public MemberActivityDocument toCoalesced(MemberActivityTransportDto.MemberActivityEvent event, MemberActivityDocument document) {
+        LocalDateTime seenAt = event.getCreatedAt() == null ? LocalDateTime.now() : event.getCreatedAt();
+        long window = seenAt.toEpochSecond(ZoneOffset.UTC) / windowSeconds;
+        long windowStartedAt = window * windowSeconds;
+
+        String coalesceKey = document.getMemberId() + ":" + document.getPostId() + ":" + document.getCommentId() + ":"
+                + document.getMemberActivityType().name() + ":" + window;
+        return MemberActivityDocument.ofCoalescedActivity(document, coalescedId(windowStartedAt, coalesceKey),
+                LocalDateTime.ofEpochSecond(windowStartedAt, 0, ZoneOffset.UTC), coalesceKey, 1L, seenAt);
+    }
+
+    /**
+     * 시간 창 시작 시각(4바이트) + coalesce key 해시(8바이트)로 _id 를 만듭니다. (ObjectId 의 timestamp 부분이 시간 창 시작 시각이 되도록)
+     */
+    private ObjectId coalescedId(long windowStartedAt, String coalesceKey) {
+        ByteBuffer buffer = ByteBuffer.allocate(12);
+        buffer.putInt((int) windowStartedAt);
+        buffer.put(MemberActivityCompactDocument.hashKey(coalesceKey), 0, 8);
+        return new ObjectId(buffer.array());
+    }
+}
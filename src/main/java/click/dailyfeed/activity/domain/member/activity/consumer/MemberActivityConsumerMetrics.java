@@ -0,0 +1,182 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * member-activity 컨슈머의 단계별 처리 시간, 처리 결과, 이벤트 지연, bulk 배치 크기 메트릭
+ * 모든 메트릭은 topic, type(MemberActivityType) 태그를 가지며,
+ * 토픽/타입별 meter 는 처음 사용할 때 한번만 등록하고 이후에는 조회만 합니다. (레코드당 meter 빌더/태그 객체를 만들지 않음)
+ * topic 태그는 일자 suffix 를 뗀 토픽 이름(member-activity-yyyyMMdd → member-activity)이므로 날짜가 바뀌어도 meter 가 늘어나지 않습니다.
+ */
+@Component
+public class MemberActivityConsumerMetrics {
+    // 여러 토픽/타입이 섞인 bulk 단계의 태그 값
+    public static final String MIXED = "MIXED";
+    // 이벤트 버퍼(Redis, 디스크)를 거친 메시지는 원본 토픽을 알 수 없음 (기존 대시보드 호환을 위해 태그 값 유지)
+    public static final String BUFFER_TOPIC = "redis-buffer";
+    private static final String UNKNOWN_TYPE = "UNKNOWN";
+    private static final int DATE_SUFFIX_LENGTH = 9; // -yyyyMMdd
+    // 원본 토픽 → meter 조회 캐시 크기 (넘으면 비우고 다시 채움, 수신 중인 토픽은 보통 오늘/어제 두 개)
+    private static final int MAX_CACHED_TOPICS = 16;
+
+    public enum Stage {
+        NEAR_CACHE, REDIS_DEDUP, DEAD_LETTER_LOOKUP, MAPPING, WRITE
+    }
+
+    public enum Outcome {
+        INSERTED,       // 새로 저장 (조회성 이벤트는 합산 반영 포함)
+        DUPLICATE,      // 중복 수신 (로컬 캐시/Redis/message_key unique 인덱스)
+        DEAD_LETTERED,  // 데드레터 처리 또는 이미 데드레터에 있는 메시지
+        EXPIRED,        // 처리 기간이 지난 토픽
+        FUTURE,         // 미래 날짜 토픽
+        BUFFERED        // 이벤트 버퍼 적재 (저장은 drain 작업에서)
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final boolean stageHistogram;
+    private final ZoneRules zoneRules = ZoneId.systemDefault().getRules();
+
+    // topic 태그(일자 suffix 제거) → 타입별 meter
+    private final ConcurrentMap<String, ConcurrentMap<String, TopicTypeMeters>> metersByTopicTag = new ConcurrentHashMap<>();
+    // 원본 토픽 → metersByTopicTag 의 값 (레코드마다 topic 태그 문자열을 만들지 않도록)
+    private final ConcurrentMap<String, ConcurrentMap<String, TopicTypeMeters>> metersByTopic = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DistributionSummary> batchSizeBySource = new ConcurrentHashMap<>();
+
+    public MemberActivityConsumerMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${infrastructure.kafka.consumers.member-activity.metrics.stage-histogram:false}") boolean stageHistogram
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.stageHistogram = stageHistogram;
+    }
+
+    /**
+     * startedAtNanos(System.nanoTime()) 부터 현재까지를 해당 단계의 처리 시간으로 기록합니다.
+     */
+    public void recordStage(Stage stage, String topic, MemberActivityType type, long startedAtNanos) {
+        meters(topic, typeName(type)).stageTimers[stage.ordinal()].record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 여러 타입이 섞인 bulk 단계의 처리 시간을 기록합니다.
+     */
+    public void recordBulkStage(Stage stage, String topic, long startedAtNanos) {
+        meters(topic, MIXED).stageTimers[stage.ordinal()].record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void increment(Outcome outcome, String topic, MemberActivityType type) {
+        meters(topic, typeName(type)).outcomeCounters[outcome.ordinal()].increment();
+    }
+
+    /**
+     * 이벤트 생성 시각(createdAt)부터 현재까지의 지연을 기록합니다.
+     */
+    public void recordEventAge(String topic, MemberActivityType type, LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return;
+        }
+        long createdAtMillis = createdAt.toEpochSecond(zoneRules.getOffset(createdAt)) * 1000 + createdAt.getNano() / 1_000_000;
+        long ageMillis = Math.max(0, System.currentTimeMillis() - createdAtMillis);
+        meters(topic, typeName(type)).eventAge.record(ageMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * bulk 저장 한번에 담긴 메시지 수를 기록합니다.
+     *
+     * @param source poll(batch 리스너) 또는 buffer(이벤트 버퍼 drain)
+     */
+    public void recordBatchSize(String source, int size) {
+        DistributionSummary summary = batchSizeBySource.get(source);
+        if (summary == null) {
+            summary = batchSizeBySource.computeIfAbsent(source, s -> DistributionSummary.builder("member.activity.consumer.batch.size")
+                    .tag("source", s)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(1.0)
+                    .maximumExpectedValue(10_000.0)
+                    .register(meterRegistry));
+        }
+        summary.record(size);
+    }
+
+    private TopicTypeMeters meters(String topic, String type) {
+        String topicKey = topic == null ? MIXED : topic;
+        ConcurrentMap<String, TopicTypeMeters> byType = metersByTopic.get(topicKey);
+        if (byType == null) {
+            if (metersByTopic.size() >= MAX_CACHED_TOPICS) {
+                metersByTopic.clear();
+            }
+            byType = metersByTopic.computeIfAbsent(topicKey, t -> metersByTopicTag.computeIfAbsent(topicTag(t), tag -> new ConcurrentHashMap<>()));
+        }
+        TopicTypeMeters meters = byType.get(type);
+        if (meters == null) {
+            String topicTag = topicTag(topicKey);
+            meters = byType.computeIfAbsent(type, t -> new TopicTypeMeters(topicTag, t));
+        }
+        return meters;
+    }
+
+    /**
+     * 일자별 토픽(member-activity-yyyyMMdd)의 일자 suffix 를 뗀 토픽 이름, 일자 suffix 가 없으면 그대로 반환합니다.
+     */
+    static String topicTag(String topic) {
+        int suffixStart = topic.length() - DATE_SUFFIX_LENGTH;
+        if (suffixStart <= 0 || topic.charAt(suffixStart) != '-') {
+            return topic;
+        }
+        for (int i = suffixStart + 1; i < topic.length(); i++) {
+            if (!Character.isDigit(topic.charAt(i))) {
+                return topic;
+            }
+        }
+        return topic.substring(0, suffixStart);
+    }
+
+    private static String typeName(MemberActivityType type) {
+        return type == null ? UNKNOWN_TYPE : type.name();
+    }
+
+    private final class TopicTypeMeters {
+        private final Timer[] stageTimers = new Timer[Stage.values().length];
+        private final Counter[] outcomeCounters = new Counter[Outcome.values().length];
+        private final Timer eventAge;
+
+        private TopicTypeMeters(String topic, String type) {
+            for (Stage stage : Stage.values()) {
+                stageTimers[stage.ordinal()] = Timer.builder("member.activity.consumer.stage")
+                        .tag("stage", stage.name().toLowerCase())
+                        .tag("topic", topic)
+                        .tag("type", type)
+                        .publishPercentileHistogram(stageHistogram)
+                        .register(meterRegistry);
+            }
+            for (Outcome outcome : Outcome.values()) {
+                outcomeCounters[outcome.ordinal()] = Counter.builder("member.activity.consumer.events")
+                        .tag("outcome", outcome.name().toLowerCase())
+                        .tag("topic", topic)
+                        .tag("type", type)
+                        .register(meterRegistry);
+            }
+            this.eventAge = Timer.builder("member.activity.consumer.event.age")
+                    .tag("topic", topic)
+                    .tag("type", type)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofHours(1))
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import click.dailyfeed.activity.domain.member.activity.spill.MemberActivitySpillJournal;
+import click.dailyfeed.code.domain.activity.factory.MemberActivityTransferDtoFactory;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import click.dailyfeed.code.global.kafka.exception.KafkaNetworkErrorException;
+import click.dailyfeed.deadletter.domain.deadletter.document.KafkaListenerDeadLetterDocument;
+import click.dailyfeed.deadletter.domain.deadletter.repository.mongo.KafkaListenerDeadLetterMongoTemplate;
+import click.dailyfeed.deadletter.domain.deadletter.repository.mongo.KafkaListenerDeadLetterRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberActivityDeadLetterHandler {
+    private final KafkaListenerDeadLetterRepository kafkaListenerDeadLetterRepository;
+    private final KafkaListenerDeadLetterMongoTemplate kafkaListenerDeadLetterMongoTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final MemberActivitySpillJournal memberActivitySpillJournal;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.dead-letter-bloom-filter.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.dead-letter-bloom-filter.false-positive-probability:0.01}")
+    private double falsePositiveProbability;
+
+    // 데드레터 저장소 적재 전까지(ready=false)는 모든 조회를 MongoDB 로 보낸다
+    private volatile MessageKeyBloomFilter bloomFilter;
+    private volatile boolean bloomFilterReady = false;
+    private volatile Set<String> addedDuringRebuild;
+
+    private Counter bloomFilterNegativeCounter;
+    private Counter bloomFilterMaybeCounter;
+
+    @PostConstruct
+    public void init() {
+        this.bloomFilter = new MessageKeyBloomFilter(expectedInsertions, falsePositiveProbability);
+
+        this.bloomFilterNegativeCounter = Counter.builder("member.activity.deadletter.bloom-filter.checks").tag("result", "negative").register(meterRegistry);
+        this.bloomFilterMaybeCounter = Counter.builder("member.activity.deadletter.bloom-filter.checks").tag("result", "maybe").register(meterRegistry);
+        Gauge.builder("member.activity.deadletter.bloom-filter.fpp", this, handler -> handler.bloomFilter.expectedFalsePositiveProbability()).register(meterRegistry);
+        Gauge.builder("member.activity.deadletter.bloom-filter.bits", this, handler -> handler.bloomFilter.bitSize()).register(meterRegistry);
+        Gauge.builder("member.activity.deadletter.bloom-filter.insertions", this, handler -> handler.bloomFilter.insertions()).register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 후 데드레터 저장소의 메시지 키로 Bloom filter 를 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedBloomFilter() {
+        rebuildBloomFilter();
+    }
+
+    /**
+     * 다른 파드에서 적재한 데드레터를 반영하기 위해 주기적으로 Bloom filter 를 다시 만듭니다.
+     */
+    @Scheduled(
+            fixedDelayString = "${infrastructure.kafka.consumers.member-activity.dead-letter-bloom-filter.refresh-interval:PT10M}",
+            initialDelayString = "${infrastructure.kafka.consumers.member-activity.dead-letter-bloom-filter.refresh-interval:PT10M}"
+    )
+    public synchronized void rebuildBloomFilter() {
+        MessageKeyBloomFilter rebuilt = new MessageKeyBloomFilter(expectedInsertions, falsePositiveProbability);
+        this.addedDuringRebuild = ConcurrentHashMap.newKeySet();
+        try {
+            Query query = new Query();
+            query.fields().include("messageKey");
+            try (Stream<KafkaListenerDeadLetterDocument> stream = mongoTemplate.stream(query, KafkaListenerDeadLetterDocument.class)) {
+                stream.map(KafkaListenerDeadLetterDocument::getMessageKey)
+                        .filter(Objects::nonNull)
+                        .forEach(rebuilt::put);
+            }
+
+            // 적재 도중에 추가된 데드레터 키를 교체된 필터에 반영
+            Set<String> added = this.addedDuringRebuild;
+            this.bloomFilter = rebuilt;
+            added.forEach(rebuilt::put);
+            this.bloomFilterReady = true;
+            log.info("Dead letter bloom filter rebuilt - insertions: {}, bits: {}", rebuilt.insertions(), rebuilt.bitSize());
+        } catch (Exception e) {
+            log.error("Failed to rebuild dead letter bloom filter", e);
+        } finally {
+            this.addedDuringRebuild = null;
+        }
+    }
+
+    /**
+     * 이미 데드레터에 담은 메시지인지 확인합니다.
+     * Bloom filter 가 '없음' 으로 판단하면 MongoDB 를 조회하지 않습니다.
+     */
+    public boolean isDeadLettered(String messageKey) {
+        if (isDefinitelyNotDeadLettered(messageKey)) {
+            return false;
+        }
+        return !kafkaListenerDeadLetterRepository.findByMessageKey(messageKey).isEmpty();
+    }
+
+    /**
+     * 여러 메시지 키 중 이미 데드레터에 담은 메시지 키를 한번의 조회로 찾습니다.
+     * Bloom filter 가 '있을 수 있음' 으로 판단한 키만 MongoDB 에서 조회합니다.
+     */
+    public Set<String> findDeadLettered(Collection<String> messageKeys) {
+        List<String> keys = messageKeys.stream()
+                .filter(Objects::nonNull)
+                .filter(key -> !isDefinitelyNotDeadLettered(key))
+                .toList();
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+
+        Query query = new Query(Criteria.where("messageKey").in(keys));
+        query.fields().include("messageKey");
+
+        return mongoTemplate.find(query, KafkaListenerDeadLetterDocument.class)
+                .stream()
+                .map(KafkaListenerDeadLetterDocument::getMessageKey)
+                .collect(Collectors.toSet());
+    }
+
+    private boolean isDefinitelyNotDeadLettered(String messageKey) {
+        if (!bloomFilterReady || messageKey == null) {
+            return false;
+        }
+        boolean maybe = bloomFilter.mightContain(messageKey);
+        (maybe ? bloomFilterMaybeCounter : bloomFilterNegativeCounter).increment();
+        return !maybe;
+    }
+
+    private void markDeadLettered(String messageKey) {
+        if (messageKey == null) {
+            return;
+        }
+        // 재적재 중이면 교체될 필터에도 반영되도록 먼저 기록해둔다
+        Set<String> added = this.addedDuringRebuild;
+        if (added != null) {
+            added.add(messageKey);
+        }
+        bloomFilter.put(messageKey);
+    }
+
+    /**
+     * MongoDB 저장에 실패한 메시지를 데드레터 저장소에 저장합니다.
+     * 데드레터 저장까지 실패할 경우 PVC 의 스필 저널에 기록하고, 저널에도 기록하지 못하면 복구용 문자열을 로깅합니다.
+     */
+    public void handleInsertFailure(MemberActivityTransportDto.MemberActivityMessage message) {
+        final String messageKey = message.getKey();
+        final MemberActivityTransportDto.MemberActivityEvent event = message.getEvent();
+
+        try{ // deadletter 저장소에 저장
+            // object mapper 직렬화
+            String payload = objectMapper.writeValueAsString(message);
+
+            // deadletter 저장소에 저장 시도
+            try {
+                MemberActivityType.Category category = MemberActivityType.resolveCategory(event.getMemberActivityType());
+                KafkaListenerDeadLetterDocument document = KafkaListenerDeadLetterDocument.newDeadLetter(messageKey, payload, category);
+                kafkaListenerDeadLetterMongoTemplate.upsertKafkaListenerDeadLetter(document);
+                markDeadLettered(messageKey);
+            } catch (Exception e1){ // deadletter 저장소에 저장 실패할 경우 스필 저널에 기록 후 재처리
+                memberActivitySpillJournal.append(message, toRestore(message));
+            }
+        } catch (Exception e2){ // object mapper 를 이용해 객체 직렬화에 실패할 경우 (카프카 메시지 버전이 달라지는 케이스), 저널 기록도 실패하므로 복구용 문자열을 로깅
+            log.error(toRestore(message));
+        }
+    }
+
+    /**
+     * 리스너 처리 중 실패한 메시지를 데드레터 저장소에 저장합니다.
+     * 메시지 직렬화에 실패하면 KafkaNetworkErrorException 을 던집니다.
+     */
+    public void handleListenException(MemberActivityTransportDto.MemberActivityMessage message){
+        final String messageKey = message.getKey();
+        if(isDeadLettered(messageKey)) return; // 이미 데드레터에 담은 메시지
+
+        MemberActivityTransportDto.MemberActivityEvent event = message.getEvent();
+        try{
+            String payload = objectMapper.writeValueAsString(message);
+            try {
+                MemberActivityType.Category category = MemberActivityType.resolveCategory(event.getMemberActivityType());
+                KafkaListenerDeadLetterDocument document = KafkaListenerDeadLetterDocument.newDeadLetter(messageKey, payload, category);
+                kafkaListenerDeadLetterMongoTemplate.upsertKafkaListenerDeadLetter(document);
+                markDeadLettered(messageKey);
+            } catch (Exception e){ // deadletter 저장소에 저장 실패할 경우 스필 저널에 기록 후 재처리
+                memberActivitySpillJournal.append(message, toRestore(message));
+            }
+        }
+        catch (JsonProcessingException e){
+            // 통신 메시지 형식(v1, v2, ...) 이 다른 것으로 인한 장애는 후보정 서비스에서 실행되도록하고 넘어간다. 애플리케이션 레벨에서 해결 불가능, 운영레벨에서 개발자가 대응
+            // 여기까지 실패할 경우 'member-activity-yyyyMMdd 토픽을 전일자 토픽으로 돌면서 후보정 서비스에서 처리하도록 익셉션을 내고 그대로 둔다.
+            throw new KafkaNetworkErrorException();
+        }
+    }
+
+    private String toRestore(MemberActivityTransportDto.MemberActivityMessage message) {
+        final MemberActivityTransportDto.MemberActivityEvent event = message.getEvent();
+        DateTimeFormatter dateTimeFormatter = MemberActivityTransferDtoFactory.DATE_TIME_FORMATTER;
+        return String.format("messageKey=%s$$$memberId=%s$$$postId=%s$$$commentId=%s$$$activityType=%s$$$createdAt=%s$$$updatedAt%s$$$",
+                String.valueOf(message.getKey()), String.valueOf(event.getMemberId()), String.valueOf(event.getPostId()), String.valueOf(event.getCommentId()), event.getMemberActivityType().name(),
+                event.getCreatedAt().format(dateTimeFormatter), event.getUpdatedAt().format(dateTimeFormatter));
+    }
+}
@@ -0,0 +1,175 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import click.dailyfeed.activity.domain.member.activity.buffer.MemberActivityEventBuffer;
+import click.dailyfeed.activity.domain.member.activity.redis.MemberActivityDrainLeaseRedisService;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이벤트 버퍼(Redis list 또는 파드 로컬 디스크 큐)에 적재된 이벤트를 MongoDB 에 bulk 저장합니다.
+ * 여러 worker 가 병렬로 drain 하며, 파드 간에 공유하는 버퍼(Redis)는 분산 lease 를 보유한 파드에서만 drain 합니다.
+ * 저장(또는 데드레터 처리)이 끝난 묶음만 버퍼에 commit 합니다.
+ * 배치 크기는 저장 시간에 따라 조정합니다. (목표 시간 이내이면 증가, 초과하면 절반으로 감소)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberActivityEventBufferDrainer {
+    private final MemberActivityEventBuffer memberActivityEventBuffer;
+    private final MemberActivityDrainLeaseRedisService memberActivityDrainLeaseRedisService;
+    private final MemberActivityBulkWriter memberActivityBulkWriter;
+    private final MemberActivityDeadLetterHandler memberActivityDeadLetterHandler;
+    private final MemberActivityConsumerMetrics memberActivityConsumerMetrics;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${infrastructure.redis.event-queue.member-activity-event.drain.workers:4}")
+    private int workers;
+
+    @Value("${infrastructure.redis.event-queue.member-activity-event.batch-size:1000}")
+    private int initialBatchSize;
+
+    @Value("${infrastructure.redis.event-queue.member-activity-event.drain.min-batch-size:100}")
+    private int minBatchSize;
+
+    @Value("${infrastructure.redis.event-queue.member-activity-event.drain.max-batch-size:5000}")
+    private int maxBatchSize;
+
+    @Value("${infrastructure.redis.event-queue.member-activity-event.drain.target-batch-latency:200ms}")
+    private Duration targetBatchLatency;
+
+    @Value("${infrastructure.redis.event-queue.member-activity-event.drain.lease-ttl:10s}")
+    private Duration leaseTtl;
+
+    private ExecutorService drainExecutor;
+    private AtomicInteger batchSize;
+    private Counter drainedCounter;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.drainExecutor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "member-activity-drain-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSize = new AtomicInteger(Math.min(maxBatchSize, Math.max(minBatchSize, initialBatchSize)));
+
+        this.drainedCounter = Counter.builder("member.activity.buffer.drained").register(meterRegistry);
+        Gauge.builder("member.activity.buffer.batch-size", batchSize, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("member.activity.buffer.size", memberActivityEventBuffer, MemberActivityEventBuffer::size).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drainExecutor.shutdown();
+        if (memberActivityEventBuffer.isShared()) {
+            memberActivityDrainLeaseRedisService.release();
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${infrastructure.redis.event-queue.member-activity-event.drain.interval:1000}",
+            initialDelay = 5000
+    )
+    public void drain() {
+        if (memberActivityEventBuffer.isShared() && !memberActivityDrainLeaseRedisService.tryAcquire(leaseTtl)) {
+            return; // 다른 파드가 drain 중
+        }
+
+        // lease 가 만료되기 전에 이번 회차를 마치고 다음 회차에서 lease 를 연장한다
+        long deadline = System.nanoTime() + leaseTtl.toNanos() / 2;
+        List<Callable<Integer>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(() -> drainUntil(deadline));
+        }
+
+        try {
+            int drained = 0;
+            for (Future<Integer> future : drainExecutor.invokeAll(tasks)) {
+                drained += future.get();
+            }
+            if (drained > 0) {
+                log.info("📦 Drained {} buffered events - batch size: {}", drained, batchSize.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("❌ Failed to drain member activity event buffer", e.getCause());
+        }
+    }
+
+    private int drainUntil(long deadline) {
+        int drained = 0;
+        while (System.nanoTime() < deadline) {
+            int size = batchSize.get();
+            MemberActivityEventBuffer.Batch batch = memberActivityEventBuffer.pop(size);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<MemberActivityTransportDto.MemberActivityMessage> messages = batch.messages();
+            long startedAt = System.nanoTime();
+            write(messages);
+            memberActivityEventBuffer.commit(batch);
+            adjustBatchSize(size, messages.size(), System.nanoTime() - startedAt);
+
+            drained += messages.size();
+            drainedCounter.increment(messages.size());
+            if (messages.size() < size) {
+                break; // 버퍼 소진
+            }
+        }
+        return drained;
+    }
+
+    private void write(List<MemberActivityTransportDto.MemberActivityMessage> messages) {
+        try {
+            // 이미 데드레터에 담은 메시지 제외
+            Set<String> deadLettered = memberActivityDeadLetterHandler.findDeadLettered(
+                    messages.stream().map(MemberActivityTransportDto.MemberActivityMessage::getKey).toList());
+            List<MemberActivityTransportDto.MemberActivityMessage> toWrite = deadLettered.isEmpty()
+                    ? messages
+                    : messages.stream().filter(message -> !deadLettered.contains(message.getKey())).toList();
+            if (!deadLettered.isEmpty()) {
+                messages.stream()
+                        .filter(message -> deadLettered.contains(message.getKey()))
+                        .forEach(message -> memberActivityConsumerMetrics.increment(MemberActivityConsumerMetrics.Outcome.DEAD_LETTERED,
+                                MemberActivityConsumerMetrics.BUFFER_TOPIC, message.getEvent().getMemberActivityType()));
+            }
+
+            memberActivityConsumerMetrics.recordBatchSize("buffer", toWrite.size());
+            memberActivityBulkWriter.writeBulk(MemberActivityConsumerMetrics.BUFFER_TOPIC, toWrite);
+        } catch (Exception e) {
+            log.error("❌ Failed to save buffered batch to MongoDB", e);
+            messages.forEach(memberActivityDeadLetterHandler::handleInsertFailure);
+        }
+    }
+
+    private void adjustBatchSize(int used, int popped, long elapsedNanos) {
+        if (elapsedNanos > targetBatchLatency.toNanos()) {
+            batchSize.set(Math.max(minBatchSize, used / 2));
+        } else if (popped == used) {
+            batchSize.set(Math.min(maxBatchSize, used + minBatchSize));
+        }
+    }
+}
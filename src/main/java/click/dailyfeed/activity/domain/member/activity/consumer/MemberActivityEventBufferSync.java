@@ -0,0 +1,101 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import click.dailyfeed.activity.domain.member.activity.buffer.MemberActivityEventBuffer;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.ContainerPostProcessor;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * record 리스너의 오프셋 커밋을 poll 묶음 단위로 모아, 이벤트 버퍼를 한번 sync 한 뒤에 커밋합니다. (group commit)
+ * 이벤트 버퍼가 syncsPerPoll() 이 아니면 리스너가 넘긴 작업을 바로 실행합니다.
+ *
+ * - 리스너는 오프셋 커밋(과 중복 체크 키 기록)을 afterSync 로 넘기고, 작업은 컨슈머 스레드별로 모아둡니다.
+ * - poll 묶음의 처리가 끝나면(RecordInterceptor.clearThreadState) 버퍼를 sync 한 뒤 모아둔 작업을 순서대로 실행합니다.
+ *   AckMode 를 MANUAL 로 두므로 오프셋은 다음 poll 직전에 커밋되며, sync 보다 먼저 커밋되지 않습니다.
+ * - sync 에 실패하면 커밋하지 않고 묶음에서 파티션별 가장 앞선 오프셋으로 되돌려 다시 읽습니다. (중복은 message_key unique 인덱스로 흡수, 합산 대상 조회성 이벤트 제외)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component(MemberActivityEventBufferSync.BEAN_NAME)
+@ConditionalOnProperty(name = "infrastructure.kafka.consumers.member-activity.listener-mode", havingValue = "record", matchIfMissing = true)
+public class MemberActivityEventBufferSync implements ContainerPostProcessor<String, MemberActivityTransportDto.MemberActivityEvent,
+        AbstractMessageListenerContainer<String, MemberActivityTransportDto.MemberActivityEvent>> {
+    public static final String BEAN_NAME = "memberActivityEventBufferSync";
+
+    private final MemberActivityEventBuffer memberActivityEventBuffer;
+
+    // 컨슈머 스레드마다 현재 poll 묶음에서 sync 를 기다리는 작업
+    private final ThreadLocal<List<PendingAction>> pendingActions = ThreadLocal.withInitial(ArrayList::new);
+
+    private record PendingAction(TopicPartition topicPartition, long offset, Runnable action) {
+    }
+
+    @Override
+    public void postProcess(AbstractMessageListenerContainer<String, MemberActivityTransportDto.MemberActivityEvent> container) {
+        if (!memberActivityEventBuffer.syncsPerPoll()) {
+            return;
+        }
+        container.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        container.setRecordInterceptor(new RecordInterceptor<>() {
+            @Override
+            public ConsumerRecord<String, MemberActivityTransportDto.MemberActivityEvent> intercept(
+                    ConsumerRecord<String, MemberActivityTransportDto.MemberActivityEvent> record,
+                    Consumer<String, MemberActivityTransportDto.MemberActivityEvent> consumer) {
+                return record;
+            }
+
+            @Override
+            public void clearThreadState(Consumer<?, ?> consumer) {
+                syncAndRun(consumer);
+            }
+        });
+    }
+
+    /**
+     * 레코드 처리가 끝난 뒤의 작업(오프셋 커밋 등)을 버퍼 sync 이후로 미룹니다.
+     */
+    public void afterSync(String topic, int partition, long offset, Runnable action) {
+        if (!memberActivityEventBuffer.syncsPerPoll()) {
+            action.run();
+            return;
+        }
+        pendingActions.get().add(new PendingAction(new TopicPartition(topic, partition), offset, action));
+    }
+
+    private void syncAndRun(Consumer<?, ?> consumer) {
+        List<PendingAction> actions = pendingActions.get();
+        if (actions.isEmpty()) {
+            return;
+        }
+        try {
+            memberActivityEventBuffer.sync();
+        } catch (Exception e) {
+            Map<TopicPartition, Long> rewindOffsets = new HashMap<>();
+            actions.forEach(pending -> rewindOffsets.merge(pending.topicPartition(), pending.offset(), Math::min));
+            rewindOffsets.forEach(consumer::seek);
+            actions.clear();
+            log.error("❌ Failed to sync event buffer, rewinding partitions - {}", rewindOffsets, e);
+            return;
+        }
+
+        try {
+            actions.forEach(pending -> pending.action().run());
+        } finally {
+            actions.clear();
+        }
+    }
+}
@@ -1,98 +1,118 @@
 package click.dailyfeed.activity.domain.member.activity.consumer;
 
-import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
-import click.dailyfeed.activity.domain.member.activity.mapper.MemberActivityMapper;
-import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityMongoRepository;
-import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityMongoTemplate;
-import click.dailyfeed.code.domain.activity.factory.MemberActivityTransferDtoFactory;
+import click.dailyfeed.activity.domain.member.activity.buffer.MemberActivityEventBuffer;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityConsumerMetrics.Outcome;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityConsumerMetrics.Stage;
 import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
-import click.dailyfeed.code.global.kafka.exception.KafkaNetworkErrorException;
 import click.dailyfeed.code.global.kafka.type.DateBasedTopicType;
 import click.dailyfeed.code.global.redis.RedisKeyExistPredicate;
-import click.dailyfeed.deadletter.domain.deadletter.document.KafkaListenerDeadLetterDocument;
-import click.dailyfeed.deadletter.domain.deadletter.repository.mongo.KafkaListenerDeadLetterMongoTemplate;
-import click.dailyfeed.deadletter.domain.deadletter.repository.mongo.KafkaListenerDeadLetterRepository;
 import click.dailyfeed.kafka.domain.activity.redis.KafkaMessageKeyMemberActivityRedisService;
-import click.dailyfeed.redis.global.deadletter.kafka.MemberActivityEventRedisService;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.Collection;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
-@Transactional
-public class MemberActivityEventConsumer {
-    private final MemberActivityEventRedisService memberActivityEventRedisService;
+@ConditionalOnProperty(name = "infrastructure.kafka.consumers.member-activity.listener-mode", havingValue = "record", matchIfMissing = true)
+public class MemberActivityEventConsumer implements ConsumerSeekAware {
+    private final MemberActivityEventBuffer memberActivityEventBuffer;
     private final KafkaMessageKeyMemberActivityRedisService kafkaMessageKeyMemberActivityRedisService;
 
-    private final MemberActivityMongoRepository memberActivityMongoRepository;
-    private final KafkaListenerDeadLetterRepository kafkaListenerDeadLetterRepository;
-    private final MemberActivityMongoTemplate memberActivityMongoTemplate;
-    private final KafkaListenerDeadLetterMongoTemplate kafkaListenerDeadLetterMongoTemplate;
-
-    private final MemberActivityMapper memberActivityMapper;
-    private final ObjectMapper objectMapper;
+    private final MemberActivityEventWriter memberActivityEventWriter;
+    private final MemberActivityDeadLetterHandler memberActivityDeadLetterHandler;
+    private final MemberActivityTopicDateResolver memberActivityTopicDateResolver;
+    private final MemberActivityMessageKeyNearCache memberActivityMessageKeyNearCache;
+    private final MemberActivityIngestModeSelector memberActivityIngestModeSelector;
+    private final MemberActivityConsumerMetrics memberActivityConsumerMetrics;
+    private final MemberActivityEventBufferSync memberActivityEventBufferSync;
 
     private final Duration KAFKA_LISTENER_TTL = Duration.ofSeconds(30);
 
+    // message_key unique 인덱스 기반 upsert 로 멱등성이 보장되므로 false 로 두면 Redis 중복 체크 왕복을 생략합니다.
+    // (시간 창으로 합치는 조회성 이벤트는 unique 인덱스로 걸러지지 않으므로 중복 수신이 count 에 더해짐)
+    @Value("${infrastructure.kafka.consumers.member-activity.redis-dedup-enabled:true}")
+    private boolean redisDedupEnabled;
+
     @KafkaListener(
             topicPattern = DateBasedTopicType.MEMBER_ACTIVITY_PATTERN,
             groupId = "member-activity-consumer-group-activity-svc",
-            containerFactory = "memberActivityKafkaListenerContainerFactory"
+            containerFactory = "memberActivityKafkaListenerContainerFactory",
+            containerPostProcessor = MemberActivityEventBufferSync.BEAN_NAME
     )
     public void consumeAllMemberActivityEvents(
             @Payload MemberActivityTransportDto.MemberActivityEvent event,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
+            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp,
             @Header(value = KafkaHeaders.RECEIVED_KEY, required = false) String messageKey,
             Acknowledgment acknowledgment) {
 
-        // 오프셋 및 이벤트 정보 로깅
-        log.debug("📨 Consuming message - Topic: {}, Partition: {}, Offset: {}, MessageKey: {}, PostId: {}, EventType: {}",
-                  topic, partition, offset, messageKey, event.getPostId(), event.getMemberActivityType());
+        // 오프셋 및 이벤트 정보 로깅 (비활성화 상태에서 인자 배열/박싱이 생기지 않도록 레벨 먼저 확인)
+        if (log.isDebugEnabled()) {
+            log.debug("📨 Consuming message - Topic: {}, Partition: {}, Offset: {}, MessageKey: {}, PostId: {}, EventType: {}",
+                      topic, partition, offset, messageKey, event.getPostId(), event.getMemberActivityType());
+        }
 
-        // Exactly Once 를 Off 해두었기에 중복메시지 수신 가능, 중복메시지 여부 체크
-        if (RedisKeyExistPredicate.EXIST.equals(kafkaMessageKeyMemberActivityRedisService.checkExist(messageKey))) {
-            // 이미 중복 수신된 메시지더라도 중복 커밋을 수행하도록 지정 (컨슈머 재시작 또는 리밸런싱 수행시 이미 중복이어서 무시한 코드가 다시 들어올 수 있는 가능성에대한 처리 코드)
-            acknowledgment.acknowledge();
+        final MemberActivityType memberActivityType = event.getMemberActivityType();
+        memberActivityConsumerMetrics.recordEventAge(topic, memberActivityType, event.getCreatedAt());
+
+        // Exactly Once 를 Off 해두었기에 중복메시지 수신 가능, 중복메시지 여부 체크 (로컬 캐시 → Redis 순서)
+        long stageStartedAt = System.nanoTime();
+        boolean nearCacheHit = memberActivityMessageKeyNearCache.contains(topic, partition, messageKey);
+        memberActivityConsumerMetrics.recordStage(Stage.NEAR_CACHE, topic, memberActivityType, stageStartedAt);
+        if (nearCacheHit) {
+            memberActivityConsumerMetrics.increment(Outcome.DUPLICATE, topic, memberActivityType);
+            memberActivityEventBufferSync.afterSync(topic, partition, offset, acknowledgment::acknowledge);
             return;
         }
+        if (redisDedupEnabled) {
+            stageStartedAt = System.nanoTime();
+            boolean processed = RedisKeyExistPredicate.EXIST.equals(kafkaMessageKeyMemberActivityRedisService.checkExist(messageKey));
+            memberActivityConsumerMetrics.recordStage(Stage.REDIS_DEDUP, topic, memberActivityType, stageStartedAt);
+            if (processed) {
+                // 이미 중복 수신된 메시지더라도 중복 커밋을 수행하도록 지정 (컨슈머 재시작 또는 리밸런싱 수행시 이미 중복이어서 무시한 코드가 다시 들어올 수 있는 가능성에대한 처리 코드)
+                memberActivityConsumerMetrics.increment(Outcome.DUPLICATE, topic, memberActivityType);
+                memberActivityEventBufferSync.afterSync(topic, partition, offset, acknowledgment::acknowledge);
+                return;
+            }
+        }
 
         try {
             // 토픽명에서 날짜 추출
-            String dateStr = DateBasedTopicType.MEMBER_ACTIVITY.extractDateFromTopicName(topic);
-
-            // 이벤트 처리 (대기열에 저장)
-            if (dateStr != null && dateStr.matches("\\d{8}")) { // 날짜 타입 처리
-                MemberActivityTransportDto.MemberActivityMessage message = MemberActivityTransportDto.MemberActivityMessage.builder()
-                        .key(messageKey)
-                        .event(event)
-                        .build();
-
-                processEventByDate(message, dateStr);
-                // 메시지 처리 성공 후 오프셋 커밋
-                acknowledgment.acknowledge();
-
-                kafkaMessageKeyMemberActivityRedisService.addAndExpireIn(message.getKey(), KAFKA_LISTENER_TTL);
-                log.debug("✅ Offset committed - Topic: {}, Partition: {}, Offset: {}", topic, partition, offset);
+            LocalDate eventDate = memberActivityTopicDateResolver.resolveTopicDate(topic);
+
+            // 이벤트 처리 (직접 저장 또는 대기열에 저장)
+            if (eventDate != null) { // 날짜 타입 처리
+                processEventByDate(topic, messageKey, event, eventDate, timestamp);
+                // 메시지 처리 성공 후 오프셋 커밋 (disk 버퍼 group commit 이면 poll 묶음의 버퍼 sync 이후)
+                memberActivityEventBufferSync.afterSync(topic, partition, offset, () -> {
+                    acknowledgment.acknowledge();
+
+                    if (redisDedupEnabled) {
+                        kafkaMessageKeyMemberActivityRedisService.addAndExpireIn(messageKey, KAFKA_LISTENER_TTL);
+                    }
+                    memberActivityMessageKeyNearCache.put(topic, partition, messageKey);
+                    if (log.isDebugEnabled()) {
+                        log.debug("✅ Offset committed - Topic: {}, Partition: {}, Offset: {}", topic, partition, offset);
+                    }
+                });
             }
 
 
@@ -103,124 +123,62 @@ public class MemberActivityEventConsumer {
         }
     }
 
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        // 파티션이 다른 파드로 이동할 수 있으므로 revoke 된 파티션의 로컬 중복 체크 캐시는 비운다
+        memberActivityMessageKeyNearCache.evictPartitions(partitions);
+    }
+
     /**
      * 날짜별 이벤트 처리
      */
-    private void processEventByDate(MemberActivityTransportDto.MemberActivityMessage message, String dateStr) {
-        LocalDate eventDate = LocalDate.parse(dateStr, DateTimeFormatter.ofPattern("yyyyMMdd"));
-        LocalDate today = LocalDate.now();
-
-        if (eventDate.equals(today)) {
-            insertEvent(message);
-        } else if (eventDate.isBefore(today)) { // 시차로 인해 오늘에서 내일로 넘어가는 케이스
-            if(eventDate.isAfter(today.minusDays(2))) {
-                insertEvent(message);
-            }
-            else{
+    private void processEventByDate(String topic, String messageKey, MemberActivityTransportDto.MemberActivityEvent event, LocalDate eventDate, long timestamp) throws IOException {
+        switch (memberActivityTopicDateResolver.classify(eventDate)) {
+            case ACCEPTED -> ingest(topic, messageKey, event, timestamp);
+            case EXPIRED -> {
                 // 접미사가 yyyyMMdd 형식이 아닌 다른 형식의 토픽일 경우 이곳에서 처리 (운영을 위한 특정 용도)
+                memberActivityConsumerMetrics.increment(Outcome.EXPIRED, topic, event.getMemberActivityType());
             }
-        } else {
-            log.info("미래에서 오셨군요, 10년 뒤에 삼성전자 얼마에요?");
-        }
-    }
-
-    @Transactional(propagation = Propagation.REQUIRED, rollbackFor = Exception.class)
-    public void insertEvent(MemberActivityTransportDto.MemberActivityMessage message){
-        final String messageKey = message.getKey();
-        final MemberActivityTransportDto.MemberActivityEvent event = message.getEvent();
-        if(!kafkaListenerDeadLetterRepository.findByMessageKey(messageKey).isEmpty()) return; // 이미 데드레터에 담은 메시지
-        try{
-            MemberActivityDocument document = memberActivityMapper.fromMessage(message);
-            memberActivityMongoTemplate.upsertMemberActivity(document);
-        } catch (Exception e) {
-            DateTimeFormatter dateTimeFormatter = MemberActivityTransferDtoFactory.DATE_TIME_FORMATTER;
-            String toRestore = String.format("messageKey=%s$$$memberId=%s$$$postId=%s$$$commentId=%s$$$activityType=%s$$$createdAt=%s$$$updatedAt%s$$$",
-                    String.valueOf(messageKey), String.valueOf(event.getMemberId()), String.valueOf(event.getPostId()), String.valueOf(event.getCommentId()), event.getMemberActivityType().name(),
-                    event.getCreatedAt().format(dateTimeFormatter), event.getUpdatedAt().format(dateTimeFormatter));
-            try{ // deadletter 저장소에 저장
-                // object mapper 직렬화
-                String payload = objectMapper.writeValueAsString(message);
-
-                // deadletter 저장소에 저장 시도
-                try {
-                    MemberActivityType.Category category = MemberActivityType.resolveCategory(event.getMemberActivityType());
-                    KafkaListenerDeadLetterDocument document = KafkaListenerDeadLetterDocument.newDeadLetter(messageKey, payload, category);
-                    kafkaListenerDeadLetterMongoTemplate.upsertKafkaListenerDeadLetter(document);
-                } catch (Exception e1){ // deadletter 저장소에 저장 실패할 경우 PVC 로깅 기능을 활용
-                    log.error(toRestore); // TODO :: 특정 PVC 에 로깅하는 기능으로 대체 필요
-                }
-            } catch (Exception e2){ // object mapper 를 이용해 객체 직렬화에 실패할 경우 (카프카 메시지 버전이 달라지는 케이스)
-                log.error(toRestore); // TODO :: 특정 PVC 에 로깅하는 기능으로 대체 필요
+            case FUTURE -> {
+                memberActivityConsumerMetrics.increment(Outcome.FUTURE, topic, event.getMemberActivityType());
+                log.info("미래에서 오셨군요, 10년 뒤에 삼성전자 얼마에요?");
             }
         }
     }
 
-    /// scheduled 기반
-    private void processLazy(MemberActivityTransportDto.MemberActivityMessage message) {
-        // 1) Message read
-        if (message == null) {
+    /**
+     * 지연/부하 상태에 따라 건별 저장 또는 이벤트 버퍼 적재를 선택합니다.
+     */
+    private void ingest(String topic, String messageKey, MemberActivityTransportDto.MemberActivityEvent event, long timestamp) throws IOException {
+        if (memberActivityIngestModeSelector.shouldBuffer(timestamp)) {
+            processLazy(MemberActivityTransportDto.MemberActivityMessage.builder().key(messageKey).event(event).build());
+            memberActivityConsumerMetrics.increment(Outcome.BUFFERED, topic, event.getMemberActivityType());
             return;
         }
-        // 2) cache put
-        memberActivityEventRedisService.rPushEvent(message);
-        // 3) caching 완료된 메시지 키 저장
-        kafkaMessageKeyMemberActivityRedisService.addAndExpireIn(message.getKey(), KAFKA_LISTENER_TTL);
-    }
-
-    @Transactional(propagation = Propagation.REQUIRED, rollbackFor = Exception.class)
-    @Scheduled(fixedRate = 1000, initialDelay = 5000)
-    public void insertMany(){
-        // 1초에 한번씩 동작 (애플리케이션 시작 5초 후부터)
-        int processedBatches = 0;
 
-        while(true){
-            List<MemberActivityTransportDto.MemberActivityMessage> eventList = memberActivityEventRedisService.lPopList();
-            if(eventList == null || eventList.isEmpty()){
-                break;
-            }
+        long startedAt = System.nanoTime();
+        insertEvent(topic, messageKey, event);
+        memberActivityIngestModeSelector.recordWriteLatency(System.nanoTime() - startedAt);
+    }
 
-            try{
-                log.info("📦 Processing batch #{} - size: {}", ++processedBatches, eventList.size());
-                List<MemberActivityDocument> list = eventList
-                        .stream()
-                        .map(memberActivityMapper::fromMessage)
-                        .toList();
-
-                // MongoDB 저장
-                memberActivityMongoRepository.saveAll(list);
-                log.debug("✅ Successfully saved {} events to MongoDB", eventList.size());
-            } catch (Exception e){
-                log.error("❌ Failed to save batch to MongoDB", e);
-
-                // kafka DLQ publish
-                eventList.stream().forEach(message -> {
-                    handleListenException(message);
-                });
+    /**
+     * 트랜잭션 사용 여부는 MemberActivityEventWriter 의 write-transaction 설정을 따릅니다.
+     */
+    public void insertEvent(String topic, String messageKey, MemberActivityTransportDto.MemberActivityEvent event){
+        memberActivityEventWriter.write(topic, messageKey, event);
+    }
 
-                log.info("📮 Moved {} events to dead letter queue", eventList.size());
-            }
+    /// scheduled 기반 (MemberActivityEventBufferDrainer 에서 bulk 저장)
+    private void processLazy(MemberActivityTransportDto.MemberActivityMessage message) throws IOException {
+        // 1) Message read
+        if (message == null) {
+            return;
         }
+        // 2) cache put (메시지 키는 리스너에서 오프셋 커밋 후 기록)
+        memberActivityEventBuffer.push(message);
     }
 
     public void handleListenException(MemberActivityTransportDto.MemberActivityMessage message){
-        final String messageKey = message.getKey();
-        if(!kafkaListenerDeadLetterRepository.findByMessageKey(messageKey).isEmpty()) return; // 이미 데드레터에 담은 메시지
-
-        MemberActivityTransportDto.MemberActivityEvent event = message.getEvent();
-        try{
-            String payload = objectMapper.writeValueAsString(message);
-            try {
-                MemberActivityType.Category category = MemberActivityType.resolveCategory(event.getMemberActivityType());
-                KafkaListenerDeadLetterDocument document = KafkaListenerDeadLetterDocument.newDeadLetter(messageKey, payload, category);
-                kafkaListenerDeadLetterMongoTemplate.upsertKafkaListenerDeadLetter(document);
-            } catch (Exception e){
-                log.error("");
-            }
-        }
-        catch (JsonProcessingException e){
-            // 통신 메시지 형식(v1, v2, ...) 이 다른 것으로 인한 장애는 후보정 서비스에서 실행되도록하고 넘어간다. 애플리케이션 레벨에서 해결 불가능, 운영레벨에서 개발자가 대응
-            // 여기까지 실패할 경우 'member-activity-yyyyMMdd 토픽을 전일자 토픽으로 돌면서 후보정 서비스에서 처리하도록 익셉션을 내고 그대로 둔다.
-            throw new KafkaNetworkErrorException();
-        }
+        memberActivityDeadLetterHandler.handleListenException(message);
     }
 }
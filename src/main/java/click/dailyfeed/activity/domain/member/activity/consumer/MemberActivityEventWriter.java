@@ -0,0 +1,131 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import click.dailyfeed.activity.domain.activitycounter.service.ActivityCounterService;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityConsumerMetrics.Outcome;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityConsumerMetrics.Stage;
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.activity.domain.member.activity.mapper.MemberActivityMapper;
+import click.dailyfeed.activity.domain.member.activity.redis.MemberActivityRecentRedisService;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityMongoTemplate;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import com.mongodb.client.result.UpdateResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * member-activity 메시지를 건별로 저장합니다.
+ * record 리스너와 pipeline worker 가 같은 저장 경로를 사용합니다.
+ * 저장에 실패한 메시지는 데드레터 처리하고, 새로 저장된 문서만 카운터에 반영합니다.
+ *
+ * write-transaction 설정
+ * - none: 트랜잭션 없이 message_key unique 인덱스 기반 insert 를 먼저 시도하고 E11000 은 이미 반영된 것으로 처리 (기본)
+ * - mongo: 문서 upsert 와 카운터 반영을 하나의 MongoDB 트랜잭션으로 묶음 (replica set 필요, 커밋 왕복 추가)
+ * none 모드에서 문서 저장 후 카운터 반영 전에 실패하면 카운터만 누락되며, activity-counter.reconcile-cron 재집계로 보정합니다.
+ */
+@Slf4j
+@Component
+public class MemberActivityEventWriter {
+    public enum WriteTransaction {
+        NONE, MONGO
+    }
+
+    private final MemberActivityMongoTemplate memberActivityMongoTemplate;
+    private final ActivityCounterService activityCounterService;
+    private final MemberActivityRecentRedisService memberActivityRecentRedisService;
+
+    private final MemberActivityMapper memberActivityMapper;
+    private final MemberActivityCoalescer memberActivityCoalescer;
+    private final MemberActivityDeadLetterHandler memberActivityDeadLetterHandler;
+    private final MemberActivityConsumerMetrics memberActivityConsumerMetrics;
+
+    private final TransactionTemplate transactionTemplate;
+    private final WriteTransaction writeTransaction;
+
+    public MemberActivityEventWriter(
+            MemberActivityMongoTemplate memberActivityMongoTemplate,
+            ActivityCounterService activityCounterService,
+            MemberActivityRecentRedisService memberActivityRecentRedisService,
+            MemberActivityMapper memberActivityMapper,
+            MemberActivityCoalescer memberActivityCoalescer,
+            MemberActivityDeadLetterHandler memberActivityDeadLetterHandler,
+            MemberActivityConsumerMetrics memberActivityConsumerMetrics,
+            TransactionTemplate transactionTemplate,
+            @Value("${infrastructure.kafka.consumers.member-activity.write-transaction:none}") String writeTransaction
+    ) {
+        this.memberActivityMongoTemplate = memberActivityMongoTemplate;
+        this.activityCounterService = activityCounterService;
+        this.memberActivityRecentRedisService = memberActivityRecentRedisService;
+        this.memberActivityMapper = memberActivityMapper;
+        this.memberActivityCoalescer = memberActivityCoalescer;
+        this.memberActivityDeadLetterHandler = memberActivityDeadLetterHandler;
+        this.memberActivityConsumerMetrics = memberActivityConsumerMetrics;
+        this.transactionTemplate = transactionTemplate;
+        this.writeTransaction = WriteTransaction.valueOf(writeTransaction.toUpperCase());
+        log.info("MemberActivity event write transaction: {}", this.writeTransaction);
+    }
+
+    public void write(String topic, String messageKey, MemberActivityTransportDto.MemberActivityEvent event) {
+        final MemberActivityType memberActivityType = event.getMemberActivityType();
+
+        long stageStartedAt = System.nanoTime();
+        boolean deadLettered = memberActivityDeadLetterHandler.isDeadLettered(messageKey);
+        memberActivityConsumerMetrics.recordStage(Stage.DEAD_LETTER_LOOKUP, topic, memberActivityType, stageStartedAt);
+        if (deadLettered) { // 이미 데드레터에 담은 메시지
+            memberActivityConsumerMetrics.increment(Outcome.DEAD_LETTERED, topic, memberActivityType);
+            return;
+        }
+
+        try{
+            stageStartedAt = System.nanoTime();
+            MemberActivityDocument document = memberActivityMapper.fromEvent(messageKey, event);
+            memberActivityConsumerMetrics.recordStage(Stage.MAPPING, topic, memberActivityType, stageStartedAt);
+
+            stageStartedAt = System.nanoTime();
+            boolean inserted = writeTransaction == WriteTransaction.MONGO
+                    ? Boolean.TRUE.equals(transactionTemplate.execute(status -> persist(event, document)))
+                    : persist(event, document);
+            memberActivityConsumerMetrics.recordStage(Stage.WRITE, topic, memberActivityType, stageStartedAt);
+            memberActivityConsumerMetrics.increment(inserted ? Outcome.INSERTED : Outcome.DUPLICATE, topic, memberActivityType);
+        } catch (Exception e) {
+            memberActivityConsumerMetrics.increment(Outcome.DEAD_LETTERED, topic, memberActivityType);
+            memberActivityDeadLetterHandler.handleInsertFailure(MemberActivityTransportDto.MemberActivityMessage.builder()
+                    .key(messageKey)
+                    .event(event)
+                    .build());
+        }
+    }
+
+    /**
+     * 문서를 저장하고 새로 저장된 경우 카운터와 최근 활동 캐시에 반영합니다.
+     *
+     * @return 새로 저장되었는지 여부 (이미 반영된 메시지면 false)
+     */
+    private boolean persist(MemberActivityTransportDto.MemberActivityEvent event, MemberActivityDocument document) {
+        if (memberActivityCoalescer.isCoalescible(event)) { // 조회성 이벤트는 같은 시간 창의 문서에 합산
+            MemberActivityDocument coalesced = memberActivityCoalescer.toCoalesced(event, document);
+            memberActivityMongoTemplate.upsertCoalescedActivity(coalesced);
+            activityCounterService.applyInserted(List.of(coalesced));
+            memberActivityRecentRedisService.addAll(List.of(coalesced));
+            return true;
+        }
+
+        boolean inserted;
+        if (writeTransaction == WriteTransaction.NONE) {
+            inserted = memberActivityMongoTemplate.insertIfAbsent(document);
+        } else {
+            UpdateResult result = memberActivityMongoTemplate.upsertMemberActivity(document);
+            // 분류별 write concern 은 항상 acknowledged (MemberActivityWriteConcernTemplates) 이므로 upsertedId 로 새로 저장되었는지 판단
+            inserted = result == null || result.getUpsertedId() != null;
+        }
+        if (inserted) { // 새로 저장된 경우에만 카운터 반영
+            activityCounterService.applyInserted(List.of(document));
+            memberActivityRecentRedisService.addAll(List.of(document));
+        }
+        return inserted;
+    }
+}
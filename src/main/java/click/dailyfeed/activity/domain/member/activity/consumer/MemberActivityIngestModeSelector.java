@@ -0,0 +1,119 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * record 리스너의 저장 경로를 선택합니다.
+ * - direct: 건별 upsert
+ * - buffered: 이벤트 버퍼(Redis 또는 로컬 디스크) 적재 후 drain 작업에서 bulk 저장
+ * - adaptive: 컨슈머 지연(레코드 타임스탬프 기준) 또는 MongoDB 저장 지연이 임계치를 넘으면 buffered 로 전환하고,
+ *             cool-down 동안 과부하 신호가 없으면 direct 로 복귀합니다.
+ */
+@Slf4j
+@Component
+public class MemberActivityIngestModeSelector {
+    public enum IngestMode {
+        DIRECT, BUFFERED, ADAPTIVE
+    }
+
+    private final IngestMode ingestMode;
+    private final long lagThresholdMillis;
+    private final long writeLatencyThresholdNanos;
+    private final long coolDownMillis;
+
+    // direct 저장 지연의 지수 이동 평균 (0 이면 측정값 없음)
+    private final AtomicLong writeLatencyEwmaNanos = new AtomicLong();
+    private volatile boolean buffering;
+    private volatile long lastOverloadedAt;
+
+    private final Counter switchedToBufferedCounter;
+    private final Counter switchedToDirectCounter;
+
+    public MemberActivityIngestModeSelector(
+            @Value("${infrastructure.kafka.consumers.member-activity.ingest.mode:direct}") String ingestMode,
+            @Value("${infrastructure.kafka.consumers.member-activity.ingest.adaptive.lag-threshold:5s}") Duration lagThreshold,
+            @Value("${infrastructure.kafka.consumers.member-activity.ingest.adaptive.write-latency-threshold:100ms}") Duration writeLatencyThreshold,
+            @Value("${infrastructure.kafka.consumers.member-activity.ingest.adaptive.cool-down:30s}") Duration coolDown,
+            MeterRegistry meterRegistry
+    ) {
+        this.ingestMode = IngestMode.valueOf(ingestMode.toUpperCase());
+        this.lagThresholdMillis = lagThreshold.toMillis();
+        this.writeLatencyThresholdNanos = writeLatencyThreshold.toNanos();
+        this.coolDownMillis = coolDown.toMillis();
+        this.buffering = this.ingestMode == IngestMode.BUFFERED;
+
+        this.switchedToBufferedCounter = Counter.builder("member.activity.ingest.mode-switches").tag("to", "buffered").register(meterRegistry);
+        this.switchedToDirectCounter = Counter.builder("member.activity.ingest.mode-switches").tag("to", "direct").register(meterRegistry);
+        Gauge.builder("member.activity.ingest.buffering", this, selector -> selector.buffering ? 1 : 0).register(meterRegistry);
+        Gauge.builder("member.activity.ingest.write-latency-ewma", this, selector -> selector.writeLatencyEwmaNanos.get() / 1_000_000.0)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이번 메시지를 이벤트 버퍼 경로로 보낼지 결정합니다.
+     *
+     * @param recordTimestamp 카프카 레코드 타임스탬프 (epoch millis)
+     */
+    public boolean shouldBuffer(long recordTimestamp) {
+        if (ingestMode != IngestMode.ADAPTIVE) {
+            return buffering;
+        }
+
+        long now = System.currentTimeMillis();
+        if (recordTimestamp > 0 && now - recordTimestamp > lagThresholdMillis) {
+            overloaded(now);
+        } else if (buffering && now - lastOverloadedAt > coolDownMillis) {
+            switchTo(false);
+        }
+        return buffering;
+    }
+
+    /**
+     * direct 경로의 건별 저장 시간을 기록합니다.
+     */
+    public void recordWriteLatency(long elapsedNanos) {
+        long ewma = writeLatencyEwmaNanos.updateAndGet(previous -> previous == 0 ? elapsedNanos : previous + (elapsedNanos - previous) / 8);
+        if (ingestMode == IngestMode.ADAPTIVE && ewma > writeLatencyThresholdNanos) {
+            overloaded(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * adaptive 모드에서 지연/저장 시간 때문에 buffered 로 전환된 상태인지 확인합니다. (수집 외 작업의 양보 기준)
+     */
+    public boolean isOverloaded() {
+        return ingestMode == IngestMode.ADAPTIVE && buffering;
+    }
+
+    private void overloaded(long now) {
+        lastOverloadedAt = now;
+        if (!buffering) {
+            switchTo(true);
+        }
+    }
+
+    private synchronized void switchTo(boolean buffering) {
+        if (this.buffering == buffering) {
+            return;
+        }
+        this.buffering = buffering;
+        if (buffering) {
+            switchedToBufferedCounter.increment();
+            log.info("Member activity ingest switched to buffered - write latency ewma: {}ms", writeLatencyEwmaNanos.get() / 1_000_000);
+        } else {
+            // direct 복귀 후에는 새로 측정한 저장 지연으로 판단
+            writeLatencyEwmaNanos.set(0);
+            switchedToDirectCounter.increment();
+            log.info("Member activity ingest switched to direct");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 최근 처리한 카프카 메시지 키를 파티션별로 보관하는 로컬 캐시
+ * 리밸런싱으로 같은 파티션이 같은 파드에서 재처리되는 중복 메시지를 Redis 조회 없이 걸러냅니다.
+ * 파티션이 다른 파드로 이동할 수 있으므로 파티션 revoke 시 해당 파티션의 캐시를 비웁니다.
+ */
+@Component
+public class MemberActivityMessageKeyNearCache {
+    // topic → partition → cache (조회마다 TopicPartition 을 만들지 않도록 토픽/파티션 번호로 찾는다)
+    private final ConcurrentMap<String, ConcurrentMap<Integer, PartitionCache>> caches = new ConcurrentHashMap<>();
+
+    private final int maxSizePerPartition;
+    private final long ttlMillis;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter sizeEvictionCounter;
+    private final Counter expiredEvictionCounter;
+
+    public MemberActivityMessageKeyNearCache(
+            MeterRegistry meterRegistry,
+            @Value("${infrastructure.kafka.consumers.member-activity.near-cache.max-size-per-partition:10000}") int maxSizePerPartition,
+            @Value("${infrastructure.kafka.consumers.member-activity.near-cache.ttl:60s}") Duration ttl
+    ) {
+        this.maxSizePerPartition = maxSizePerPartition;
+        this.ttlMillis = ttl.toMillis();
+
+        this.hitCounter = Counter.builder("member.activity.dedup.near-cache.gets").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("member.activity.dedup.near-cache.gets").tag("result", "miss").register(meterRegistry);
+        this.sizeEvictionCounter = Counter.builder("member.activity.dedup.near-cache.evictions").tag("cause", "size").register(meterRegistry);
+        this.expiredEvictionCounter = Counter.builder("member.activity.dedup.near-cache.evictions").tag("cause", "expired").register(meterRegistry);
+        Gauge.builder("member.activity.dedup.near-cache.size", caches, c -> c.values().stream().flatMap(partitions -> partitions.values().stream()).mapToInt(PartitionCache::size).sum())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 해당 파티션에서 최근 처리한 메시지 키인지 확인합니다.
+     */
+    public boolean contains(String topic, int partition, String messageKey) {
+        if (messageKey == null) {
+            return false;
+        }
+
+        ConcurrentMap<Integer, PartitionCache> partitionCaches = caches.get(topic);
+        PartitionCache cache = partitionCaches == null ? null : partitionCaches.get(partition);
+        boolean hit = cache != null && cache.contains(messageKey, System.currentTimeMillis());
+        (hit ? hitCounter : missCounter).increment();
+        return hit;
+    }
+
+    /**
+     * 처리 완료한 메시지 키를 기록합니다.
+     */
+    public void put(String topic, int partition, String messageKey) {
+        if (messageKey == null) {
+            return;
+        }
+
+        ConcurrentMap<Integer, PartitionCache> partitionCaches = caches.get(topic);
+        if (partitionCaches == null) {
+            partitionCaches = caches.computeIfAbsent(topic, t -> new ConcurrentHashMap<>());
+        }
+        PartitionCache cache = partitionCaches.get(partition);
+        if (cache == null) {
+            cache = partitionCaches.computeIfAbsent(partition, p -> new PartitionCache());
+        }
+        cache.put(messageKey, System.currentTimeMillis());
+    }
+
+    /**
+     * revoke 된 파티션의 캐시를 비웁니다.
+     */
+    public void evictPartitions(Collection<TopicPartition> partitions) {
+        for (TopicPartition topicPartition : partitions) {
+            ConcurrentMap<Integer, PartitionCache> partitionCaches = caches.get(topicPartition.topic());
+            if (partitionCaches != null) {
+                partitionCaches.remove(topicPartition.partition());
+            }
+        }
+    }
+
+    private class PartitionCache {
+        // insertion order = 만료 순서 (모든 키가 같은 TTL 을 가지므로 가장 오래된 키가 항상 먼저 만료)
+        private final LinkedHashMap<String, Long> expiresAtByKey = new LinkedHashMap<>();
+
+        synchronized boolean contains(String messageKey, long now) {
+            Long expiresAt = expiresAtByKey.get(messageKey);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (expiresAt <= now) {
+                expiresAtByKey.remove(messageKey);
+                expiredEvictionCounter.increment();
+                return false;
+            }
+            return true;
+        }
+
+        synchronized void put(String messageKey, long now) {
+            expiresAtByKey.remove(messageKey);
+            expiresAtByKey.put(messageKey, now + ttlMillis);
+
+            Iterator<Map.Entry<String, Long>> iterator = expiresAtByKey.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                if (eldest.getValue() <= now) {
+                    iterator.remove();
+                    expiredEvictionCounter.increment();
+                } else if (expiresAtByKey.size() > maxSizePerPartition) {
+                    iterator.remove();
+                    sizeEvictionCounter.increment();
+                } else {
+                    break;
+                }
+            }
+        }
+
+        synchronized int size() {
+            return expiresAtByKey.size();
+        }
+    }
+}
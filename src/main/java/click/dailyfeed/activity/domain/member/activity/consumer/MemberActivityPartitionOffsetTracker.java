@@ -0,0 +1,73 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 파티션 하나의 오프셋 처리 완료 여부를 추적합니다.
+ * 처리 완료 순서와 관계없이, 앞선 오프셋이 모두 완료된 가장 높은 오프셋까지만 커밋 대상으로 돌려줍니다.
+ * 처리에 실패한 오프셋이 있으면 그 앞까지만 커밋하고, revoke 된 이후의 완료는 커밋하지 않습니다.
+ */
+class MemberActivityPartitionOffsetTracker {
+    // 아직 커밋되지 않은 오프셋 (처리 중 + 완료 후 커밋 대기)
+    private final NavigableMap<Long, Acknowledgment> pending = new TreeMap<>();
+    private final Set<Long> completed = new HashSet<>();
+    // 처리에 실패한 가장 낮은 오프셋 (다시 읽어야 할 위치)
+    private Long failedOffset;
+    private boolean revoked;
+
+    synchronized void track(long offset, Acknowledgment acknowledgment) {
+        if (!revoked) {
+            pending.put(offset, acknowledgment);
+        }
+    }
+
+    /**
+     * 오프셋 처리 완료를 기록합니다.
+     *
+     * @return 연속으로 완료된 가장 높은 오프셋의 Acknowledgment, 커밋할 오프셋이 없으면 null
+     */
+    synchronized Acknowledgment complete(long offset) {
+        if (revoked) {
+            return null;
+        }
+        completed.add(offset);
+
+        Acknowledgment acknowledgment = null;
+        while (!pending.isEmpty() && completed.remove(pending.firstKey())) {
+            Map.Entry<Long, Acknowledgment> committable = pending.pollFirstEntry();
+            acknowledgment = committable.getValue();
+        }
+        return acknowledgment;
+    }
+
+    /**
+     * 오프셋 처리 실패를 기록합니다. 실패한 오프셋은 완료되지 않으므로 이후 오프셋은 커밋되지 않습니다.
+     *
+     * @return 다시 읽어야 할 가장 낮은 실패 오프셋
+     */
+    synchronized long fail(long offset) {
+        if (failedOffset == null || offset < failedOffset) {
+            failedOffset = offset;
+        }
+        return failedOffset;
+    }
+
+    synchronized Long failedOffset() {
+        return failedOffset;
+    }
+
+    /**
+     * 파티션이 revoke 되었거나 다시 읽기 위해 버려진 경우 호출합니다. 이후의 track/complete 는 무시됩니다.
+     */
+    synchronized void revoke() {
+        revoked = true;
+        pending.clear();
+        completed.clear();
+    }
+}
@@ -0,0 +1,56 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import click.dailyfeed.code.global.kafka.type.DateBasedTopicType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 레코드를 MemberActivityWritePipeline 의 파티션별 대기열에 넘기기만 하는 리스너
+ * MongoDB 저장과 오프셋 커밋은 pipeline worker 에서 수행하므로 poll 스레드는 I/O 로 막히지 않습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "infrastructure.kafka.consumers.member-activity.listener-mode", havingValue = "pipeline")
+public class MemberActivityPipelineEventConsumer implements ConsumerSeekAware {
+    private final MemberActivityWritePipeline memberActivityWritePipeline;
+    private final MemberActivityMessageKeyNearCache memberActivityMessageKeyNearCache;
+
+    @KafkaListener(
+            id = MemberActivityWritePipeline.LISTENER_ID,
+            topicPattern = DateBasedTopicType.MEMBER_ACTIVITY_PATTERN,
+            groupId = "member-activity-consumer-group-activity-svc",
+            containerFactory = "memberActivityPipelineKafkaListenerContainerFactory"
+    )
+    public void consumeMemberActivityEvent(
+            ConsumerRecord<String, MemberActivityTransportDto.MemberActivityEvent> record,
+            Acknowledgment acknowledgment) {
+        if (log.isDebugEnabled()) {
+            log.debug("📨 Queueing message - Topic: {}, Partition: {}, Offset: {}", record.topic(), record.partition(), record.offset());
+        }
+        memberActivityWritePipeline.enqueue(record, acknowledgment);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        memberActivityWritePipeline.assign(assignments.keySet(), callback);
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        memberActivityWritePipeline.revoke(partitions);
+        // 파티션이 다른 파드로 이동할 수 있으므로 revoke 된 파티션의 로컬 중복 체크 캐시는 비운다
+        memberActivityMessageKeyNearCache.evictPartitions(partitions);
+    }
+}
@@ -0,0 +1,98 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import click.dailyfeed.code.global.kafka.type.DateBasedTopicType;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 토픽명의 날짜를 해석하고 처리 여부를 판단합니다.
+ * 토픽별 날짜와 오늘 날짜는 하루 단위로 캐시하며 자정이 지나면 첫 호출에서 새로 만듭니다.
+ * (레코드마다 정규식 검사/날짜 파싱/LocalDate.now() 를 반복하지 않도록)
+ */
+@Component
+public class MemberActivityTopicDateResolver {
+    private static final DateTimeFormatter TOPIC_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    // 날짜 형식이 아닌 토픽 (ConcurrentHashMap 은 null 값을 담을 수 없으므로 대체값 사용)
+    private static final LocalDate NOT_DATE_TOPIC = LocalDate.MIN;
+
+    private volatile DayCache dayCache = newDayCache();
+
+    public enum EventDateStatus {
+        ACCEPTED,   // 오늘, 또는 시차로 인해 전일자 토픽으로 들어온 이벤트
+        EXPIRED,    // 처리 기간이 지난 토픽의 이벤트
+        FUTURE      // 미래 날짜 토픽의 이벤트
+    }
+
+    /**
+     * 토픽명에서 날짜를 추출합니다.
+     * 접미사가 yyyyMMdd 형식이 아닌 토픽(운영을 위한 특정 용도)은 null 을 반환합니다.
+     */
+    public LocalDate resolveTopicDate(String topic) {
+        ConcurrentMap<String, LocalDate> topicDates = currentDay().topicDates;
+        LocalDate topicDate = topicDates.get(topic);
+        if (topicDate == null) {
+            topicDate = parseTopicDate(topic);
+            topicDates.put(topic, topicDate);
+        }
+        return topicDate == NOT_DATE_TOPIC ? null : topicDate;
+    }
+
+    /**
+     * 토픽 날짜 기준으로 이벤트의 처리 여부를 판단합니다.
+     */
+    public EventDateStatus classify(LocalDate eventDate) {
+        LocalDate today = currentDay().today;
+
+        if (eventDate.equals(today)) {
+            return EventDateStatus.ACCEPTED;
+        } else if (eventDate.isBefore(today)) { // 시차로 인해 오늘에서 내일로 넘어가는 케이스
+            return eventDate.isAfter(today.minusDays(2)) ? EventDateStatus.ACCEPTED : EventDateStatus.EXPIRED;
+        }
+        return EventDateStatus.FUTURE;
+    }
+
+    private DayCache currentDay() {
+        DayCache cache = this.dayCache;
+        if (System.currentTimeMillis() >= cache.expiresAtMillis) {
+            cache = newDayCache();
+            this.dayCache = cache;
+        }
+        return cache;
+    }
+
+    private static LocalDate parseTopicDate(String topic) {
+        String dateStr = DateBasedTopicType.MEMBER_ACTIVITY.extractDateFromTopicName(topic);
+        if (dateStr == null || dateStr.length() != 8) {
+            return NOT_DATE_TOPIC;
+        }
+        for (int i = 0; i < dateStr.length(); i++) {
+            if (!Character.isDigit(dateStr.charAt(i))) {
+                return NOT_DATE_TOPIC;
+            }
+        }
+        return LocalDate.parse(dateStr, TOPIC_DATE_FORMATTER);
+    }
+
+    private static DayCache newDayCache() {
+        ZoneId zoneId = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zoneId);
+        long expiresAtMillis = today.plusDays(1).atStartOfDay(zoneId).toInstant().toEpochMilli();
+        return new DayCache(today, expiresAtMillis);
+    }
+
+    private static final class DayCache {
+        private final LocalDate today;
+        private final long expiresAtMillis;
+        private final ConcurrentMap<String, LocalDate> topicDates = new ConcurrentHashMap<>();
+
+        private DayCache(LocalDate today, long expiresAtMillis) {
+            this.today = today;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
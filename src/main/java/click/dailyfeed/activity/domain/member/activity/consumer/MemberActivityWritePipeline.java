@@ -0,0 +1,374 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityConsumerMetrics.Outcome;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityConsumerMetrics.Stage;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import click.dailyfeed.code.global.redis.RedisKeyExistPredicate;
+import click.dailyfeed.kafka.domain.activity.redis.KafkaMessageKeyMemberActivityRedisService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * poll 스레드와 MongoDB 저장을 분리하는 pipeline
+ * - 리스너는 레코드를 파티션별 대기열에 넣고 바로 반환합니다.
+ * - dispatcher 가 파티션을 돌아가며 레코드를 꺼내 worker(가능하면 virtual thread)에 넘기고, 동시 저장 수는 write-concurrency 로 제한합니다.
+ * - 파티션별로 연속 처리 완료된 가장 높은 오프셋만 커밋합니다.
+ * - 대기열이 queue-capacity 에 도달하면 해당 파티션을 pause 하고, 절반 이하로 줄면 resume 합니다. (poll 스레드는 막지 않음)
+ * - 처리 중 예외가 난 레코드는 완료 처리하지 않습니다. 해당 파티션을 pause 하고 대기 레코드를 버린 뒤,
+ *   처리 중인 레코드가 모두 끝나면 retry-backoff 후 실패한 가장 낮은 오프셋으로 seek 해서 다시 읽습니다. (record 모드의 재전달과 같은 동작)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "infrastructure.kafka.consumers.member-activity.listener-mode", havingValue = "pipeline")
+public class MemberActivityWritePipeline {
+    public static final String LISTENER_ID = "member-activity-pipeline";
+
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final KafkaMessageKeyMemberActivityRedisService kafkaMessageKeyMemberActivityRedisService;
+    private final MemberActivityEventWriter memberActivityEventWriter;
+    private final MemberActivityDeadLetterHandler memberActivityDeadLetterHandler;
+    private final MemberActivityTopicDateResolver memberActivityTopicDateResolver;
+    private final MemberActivityMessageKeyNearCache memberActivityMessageKeyNearCache;
+    private final MemberActivityConsumerMetrics memberActivityConsumerMetrics;
+    private final MeterRegistry meterRegistry;
+
+    private final Duration KAFKA_LISTENER_TTL = Duration.ofSeconds(30);
+
+    @Value("${infrastructure.kafka.consumers.member-activity.redis-dedup-enabled:true}")
+    private boolean redisDedupEnabled;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.pipeline.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.pipeline.write-concurrency:32}")
+    private int writeConcurrency;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.pipeline.retry-backoff:1s}")
+    private Duration retryBackoff;
+
+    private final Map<TopicPartition, PartitionQueue> partitionQueues = new ConcurrentHashMap<>();
+    // 실패한 오프셋으로 되돌리기 위한 파티션별 seek callback (seek 은 다음 poll 에서 컨슈머 스레드가 수행)
+    private final Map<TopicPartition, ConsumerSeekAware.ConsumerSeekCallback> seekCallbacks = new ConcurrentHashMap<>();
+    // 대기열에 들어온 레코드 수 (dispatcher 는 레코드가 있을 때만 깨어난다)
+    private final Semaphore queuedRecords = new Semaphore(0);
+    private Semaphore writePermits;
+    private ExecutorService workerExecutor;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        this.writePermits = new Semaphore(writeConcurrency);
+        this.workerExecutor = newWorkerExecutor(writeConcurrency);
+        this.running = true;
+        this.dispatcher = new Thread(this::dispatch, "member-activity-pipeline-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+
+        Gauge.builder("member.activity.pipeline.queued", queuedRecords, Semaphore::availablePermits).register(meterRegistry);
+        Gauge.builder("member.activity.pipeline.in-flight", this, pipeline -> writeConcurrency - pipeline.writePermits.availablePermits()).register(meterRegistry);
+        Gauge.builder("member.activity.pipeline.paused-partitions", partitionQueues, queues -> queues.values().stream().filter(queue -> queue.paused).count()).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        dispatcher.interrupt();
+        workerExecutor.shutdown();
+        if (!workerExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Member activity pipeline workers did not finish in time");
+        }
+    }
+
+    /**
+     * 리스너(poll 스레드)에서 호출합니다. 대기열에 넣기만 하고 바로 반환합니다.
+     */
+    public void enqueue(ConsumerRecord<String, MemberActivityTransportDto.MemberActivityEvent> record, Acknowledgment acknowledgment) {
+        TopicPartition topicPartition = new TopicPartition(record.topic(), record.partition());
+        PartitionQueue queue = partitionQueues.computeIfAbsent(topicPartition, PartitionQueue::new);
+        if (queue.halted) {
+            return; // 실패한 오프셋부터 다시 읽을 예정이므로 pause 전에 받은 레코드는 버린다
+        }
+
+        queue.tracker.track(record.offset(), acknowledgment);
+        queue.records.add(record);
+        if (queue.size.incrementAndGet() >= queueCapacity && !queue.paused) {
+            // pause 는 다음 poll 부터 적용되므로, 이미 받은 레코드는 그대로 대기열에 넣는다
+            queue.paused = true;
+            listenerContainer().pausePartition(topicPartition);
+            log.info("⏸️ Paused partition {} - queued: {}", topicPartition, queue.size.get());
+        }
+        queuedRecords.release();
+    }
+
+    public void assign(Collection<TopicPartition> partitions, ConsumerSeekAware.ConsumerSeekCallback callback) {
+        partitions.forEach(topicPartition -> seekCallbacks.put(topicPartition, callback));
+    }
+
+    /**
+     * revoke 된 파티션의 대기 레코드는 버린다. (커밋되지 않았으므로 새로 할당받은 컨슈머가 다시 처리)
+     */
+    public void revoke(Collection<TopicPartition> partitions) {
+        for (TopicPartition topicPartition : partitions) {
+            seekCallbacks.remove(topicPartition);
+            PartitionQueue queue = partitionQueues.remove(topicPartition);
+            if (queue == null) {
+                continue;
+            }
+            queue.tracker.revoke();
+            if (queue.paused) {
+                listenerContainer().resumePartition(topicPartition);
+            }
+        }
+    }
+
+    private void dispatch() {
+        int cursor = 0;
+        while (running) {
+            try {
+                queuedRecords.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            // 파티션을 돌아가며 하나씩 꺼내 특정 파티션이 worker 를 독점하지 않도록 한다
+            List<PartitionQueue> queues = new ArrayList<>(partitionQueues.values());
+            PartitionQueue queue = null;
+            ConsumerRecord<String, MemberActivityTransportDto.MemberActivityEvent> record = null;
+            for (int i = 0; i < queues.size() && record == null; i++) {
+                queue = queues.get((cursor + i) % queues.size());
+                record = queue.records.poll();
+            }
+            cursor++;
+            if (record == null) {
+                continue; // revoke 또는 처리 실패로 버려진 레코드
+            }
+
+            if (queue.size.decrementAndGet() <= queueCapacity / 2 && queue.paused && !queue.halted) {
+                queue.paused = false;
+                listenerContainer().resumePartition(queue.topicPartition);
+                log.info("▶️ Resumed partition {}", queue.topicPartition);
+            }
+
+            try {
+                writePermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            submit(queue, record);
+        }
+    }
+
+    private void submit(PartitionQueue queue, ConsumerRecord<String, MemberActivityTransportDto.MemberActivityEvent> record) {
+        queue.inFlight.incrementAndGet();
+        workerExecutor.execute(() -> {
+            boolean processed = false;
+            try {
+                process(record);
+                processed = true;
+            } catch (Exception e) {
+                log.error("❌ Failed to process message, will retry from offset - Topic: {}, Partition: {}, Offset: {}, Error: {}",
+                        record.topic(), record.partition(), record.offset(), e.getMessage(), e);
+            } finally {
+                writePermits.release();
+                if (processed) {
+                    complete(queue, record.offset());
+                } else {
+                    halt(queue, record.offset());
+                }
+                queue.inFlight.decrementAndGet();
+                if (queue.halted) {
+                    rewindWhenSettled(queue);
+                }
+            }
+        });
+    }
+
+    private void complete(PartitionQueue queue, long offset) {
+        Acknowledgment acknowledgment = queue.tracker.complete(offset);
+        // revoke 이후 완료된 레코드는 커밋하지 않는다
+        if (acknowledgment != null && partitionQueues.get(queue.topicPartition) == queue) {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    /**
+     * 처리에 실패한 레코드가 생긴 파티션을 멈춥니다. 실패한 오프셋 이후는 커밋되지 않고, 아직 꺼내지 않은 레코드는 버립니다.
+     */
+    private void halt(PartitionQueue queue, long offset) {
+        queue.tracker.fail(offset);
+        synchronized (queue) {
+            if (queue.halted) {
+                return;
+            }
+            queue.halted = true;
+            queue.records.clear();
+            queue.size.set(0);
+            // revoke 된 파티션은 pause 하지 않는다 (다시 할당받았을 때 pause 상태로 남지 않도록)
+            if (!queue.paused && partitionQueues.get(queue.topicPartition) == queue) {
+                queue.paused = true;
+                listenerContainer().pausePartition(queue.topicPartition);
+            }
+        }
+        log.warn("⏸️ Halted partition {} after a failed record at offset {}", queue.topicPartition, offset);
+    }
+
+    /**
+     * 멈춘 파티션의 처리 중인 레코드가 모두 끝나면, retry-backoff 후 실패한 가장 낮은 오프셋으로 seek 하고 resume 합니다.
+     * 파티션은 backoff 동안 pause 되어 있으므로 seek 이후 처음 받는 레코드가 실패한 오프셋입니다.
+     */
+    private void rewindWhenSettled(PartitionQueue queue) {
+        synchronized (queue) {
+            if (queue.inFlight.get() > 0 || queue.rewinding) {
+                return;
+            }
+            queue.rewinding = true;
+        }
+
+        long offset = queue.tracker.failedOffset();
+        queue.tracker.revoke();
+        TopicPartition topicPartition = queue.topicPartition;
+        CompletableFuture.delayedExecutor(retryBackoff.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            ConsumerSeekAware.ConsumerSeekCallback callback = seekCallbacks.get(topicPartition);
+            // revoke 된 경우 새로 할당받은 컨슈머가 커밋된 오프셋(실패한 오프셋 이하)부터 다시 읽는다
+            if (callback == null || !partitionQueues.replace(topicPartition, queue, new PartitionQueue(topicPartition))) {
+                return;
+            }
+            callback.seek(topicPartition.topic(), topicPartition.partition(), offset);
+            listenerContainer().resumePartition(topicPartition);
+            log.info("▶️ Rewound partition {} to offset {}", topicPartition, offset);
+        });
+    }
+
+    private void process(ConsumerRecord<String, MemberActivityTransportDto.MemberActivityEvent> record) {
+        final String messageKey = record.key();
+        final MemberActivityTransportDto.MemberActivityEvent event = record.value();
+        if (event == null) {
+            return;
+        }
+
+        final String topic = record.topic();
+        final MemberActivityType memberActivityType = event.getMemberActivityType();
+        memberActivityConsumerMetrics.recordEventAge(topic, memberActivityType, event.getCreatedAt());
+
+        // Exactly Once 를 Off 해두었기에 중복메시지 수신 가능, 중복메시지 여부 체크 (로컬 캐시 → Redis 순서)
+        long stageStartedAt = System.nanoTime();
+        boolean nearCacheHit = memberActivityMessageKeyNearCache.contains(topic, record.partition(), messageKey);
+        memberActivityConsumerMetrics.recordStage(Stage.NEAR_CACHE, topic, memberActivityType, stageStartedAt);
+        if (nearCacheHit) {
+            memberActivityConsumerMetrics.increment(Outcome.DUPLICATE, topic, memberActivityType);
+            return;
+        }
+        if (redisDedupEnabled) {
+            stageStartedAt = System.nanoTime();
+            boolean processed = RedisKeyExistPredicate.EXIST.equals(kafkaMessageKeyMemberActivityRedisService.checkExist(messageKey));
+            memberActivityConsumerMetrics.recordStage(Stage.REDIS_DEDUP, topic, memberActivityType, stageStartedAt);
+            if (processed) {
+                memberActivityConsumerMetrics.increment(Outcome.DUPLICATE, topic, memberActivityType);
+                return;
+            }
+        }
+
+        try {
+            LocalDate eventDate = memberActivityTopicDateResolver.resolveTopicDate(record.topic());
+            if (eventDate == null) {
+                return;
+            }
+
+            switch (memberActivityTopicDateResolver.classify(eventDate)) {
+                case ACCEPTED -> memberActivityEventWriter.write(topic, messageKey, event);
+                case EXPIRED -> memberActivityConsumerMetrics.increment(Outcome.EXPIRED, topic, memberActivityType);
+                case FUTURE -> {
+                    memberActivityConsumerMetrics.increment(Outcome.FUTURE, topic, memberActivityType);
+                    log.info("미래에서 오셨군요, 10년 뒤에 삼성전자 얼마에요?");
+                }
+            }
+
+            if (redisDedupEnabled) {
+                kafkaMessageKeyMemberActivityRedisService.addAndExpireIn(messageKey, KAFKA_LISTENER_TTL);
+            }
+            memberActivityMessageKeyNearCache.put(record.topic(), record.partition(), messageKey);
+        } catch (Exception e) {
+            log.error("❌ Failed to process message - Topic: {}, Partition: {}, Offset: {}, Error: {}",
+                    record.topic(), record.partition(), record.offset(), e.getMessage(), e);
+            memberActivityDeadLetterHandler.handleListenException(MemberActivityTransportDto.MemberActivityMessage.builder()
+                    .key(messageKey)
+                    .event(event)
+                    .build());
+        }
+    }
+
+    private MessageListenerContainer listenerContainer() {
+        return kafkaListenerEndpointRegistry.getListenerContainer(LISTENER_ID);
+    }
+
+    /**
+     * Java 21 이상에서 실행되면 virtual thread, 그 외에는 고정 크기 스레드 풀을 사용합니다.
+     * (빌드 toolchain 이 17 이므로 리플렉션으로 조회)
+     */
+    private static ExecutorService newWorkerExecutor(int workers) {
+        if (Runtime.version().feature() >= 21) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.warn("Virtual threads are not available, falling back to platform threads", e);
+            }
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "member-activity-pipeline-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static final class PartitionQueue {
+        private final TopicPartition topicPartition;
+        private final ConcurrentLinkedQueue<ConsumerRecord<String, MemberActivityTransportDto.MemberActivityEvent>> records = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final MemberActivityPartitionOffsetTracker tracker = new MemberActivityPartitionOffsetTracker();
+        // worker 에 넘겨 처리 중인 레코드 수
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile boolean paused;
+        // 처리에 실패한 레코드가 있어 실패한 오프셋부터 다시 읽을 때까지 멈춘 상태
+        private volatile boolean halted;
+        private boolean rewinding;
+
+        private PartitionQueue(TopicPartition topicPartition) {
+            this.topicPartition = topicPartition;
+        }
+    }
+}
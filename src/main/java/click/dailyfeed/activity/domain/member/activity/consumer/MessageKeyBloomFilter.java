@@ -0,0 +1,94 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 메시지 키 전용 Bloom filter (thread-safe)
+ * mightContain 이 false 이면 확실히 없는 키이고, true 이면 있을 수도 있는 키입니다.
+ */
+class MessageKeyBloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong bitCount = new AtomicLong();
+    private final AtomicLong insertions = new AtomicLong();
+
+    MessageKeyBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray(Math.toIntExact((m + 63) / 64));
+        this.bitSize = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    void put(String messageKey) {
+        long hash = hash64(messageKey);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(indexOf(h1, h2, i));
+        }
+        insertions.incrementAndGet();
+    }
+
+    boolean mightContain(String messageKey) {
+        long hash = hash64(messageKey);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1, h2, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 채워진 비트 비율 기준의 false positive 확률 추정값
+     */
+    double expectedFalsePositiveProbability() {
+        return Math.pow((double) bitCount.get() / bitSize, hashCount);
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    long insertions() {
+        return insertions.get();
+    }
+
+    private long indexOf(int h1, int h2, int i) {
+        return Math.floorMod((long) h1 + (long) i * h2, bitSize);
+    }
+
+    private void setBit(long index) {
+        int wordIndex = (int) (index >>> 6);
+        long mask = 1L << index;
+        long word;
+        do {
+            word = bits.get(wordIndex);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(wordIndex, word, word | mask));
+        bitCount.incrementAndGet();
+    }
+
+    // FNV-1a 64 + murmur3 finalizer
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,130 @@
+package click.dailyfeed.activity.domain.member.activity.document;
+
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import lombok.Getter;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceCreator;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * member_activities v2 (compact) 스키마 문서
+ * - 필드명을 한 두 글자로 줄이고, member_activity_type 은 MemberActivityTypeCodes 의 정수 코드로 저장합니다.
+ * - 이벤트는 저장 후 바뀌지 않으므로 created_at/updated_at 대신 ts 하나만 둡니다.
+ * - message_key/coalesce_key 는 SHA-256 앞 16바이트 binary 로 저장합니다. (unique 인덱스 용도로만 사용하므로 원문은 필요 없음)
+ * - v1 의 단독 member_id, created_at 인덱스는 복합 인덱스의 prefix 와 겹치므로 두지 않습니다.
+ */
+@Getter
+@Document("#{@memberActivityCollectionRouter.currentCompactCollection()}")
+@CompoundIndexes({
+        // 1. 특정 회원의 활동 내역 조회 (최신순, (ts, _id) keyset 페이징)
+        @CompoundIndex(name = "idx_m_ts_id", def = "{'m': 1, 'ts': -1, '_id': -1}"),
+        // 2. 특정 회원의 특정 타입 활동 조회 (최신순, (ts, _id) keyset 페이징)
+        @CompoundIndex(name = "idx_m_t_ts_id", def = "{'m': 1, 't': 1, 'ts': -1, '_id': -1}"),
+        // 3. 특정 게시글에 대한 활동 조회
+        @CompoundIndex(name = "idx_p_ts", def = "{'p': 1, 'ts': -1}"),
+        // 4. 특정 게시글의 특정 타입 활동 조회
+        @CompoundIndex(name = "idx_p_t", def = "{'p': 1, 't': 1}"),
+        // 5. 댓글 활동 조회용
+        @CompoundIndex(name = "idx_c_t", def = "{'c': 1, 't': 1}", partialFilter = "{'c': {$exists: true}}")
+})
+public class MemberActivityCompactDocument {
+    private static final int KEY_HASH_LENGTH = 16;
+
+    @Id
+    private ObjectId id;
+
+    @Field("m")
+    private Long memberId;
+
+    @Field("p")
+    private Long postId;
+
+    @Field("c")
+    private Long commentId;
+
+    @Field("t")
+    private Integer typeCode;
+
+    @Field("ts")
+    private LocalDateTime timestamp;
+
+    @Field("k")
+    @Indexed(name = "uk_k", unique = true, partialFilter = "{'k': {$type: 'binData'}}")
+    private byte[] messageKeyHash;
+
+    @Field("ck")
+    @Indexed(name = "uk_ck", unique = true, partialFilter = "{'ck': {$type: 'binData'}}")
+    private byte[] coalesceKeyHash;
+
+    @Field("n")
+    private Long count;
+
+    @Field("ls")
+    private LocalDateTime lastSeenAt;
+
+    @PersistenceCreator
+    public MemberActivityCompactDocument(
+            ObjectId id, Long memberId, Long postId, Long commentId, Integer typeCode, LocalDateTime timestamp,
+            byte[] messageKeyHash, byte[] coalesceKeyHash, Long count, LocalDateTime lastSeenAt
+    ) {
+        this.id = id;
+        this.memberId = memberId;
+        this.postId = postId;
+        this.commentId = commentId;
+        this.typeCode = typeCode;
+        this.timestamp = timestamp;
+        this.messageKeyHash = messageKeyHash;
+        this.coalesceKeyHash = coalesceKeyHash;
+        this.count = count;
+        this.lastSeenAt = lastSeenAt;
+    }
+
+    /**
+     * v1 문서를 v2 문서로 변환합니다. (_id 는 그대로 유지)
+     *
+     * @param typeCode MemberActivityTypeCodes 의 타입 코드
+     * @param timestamp 저장 시각 (기존 문서를 옮기는 경우 created_at)
+     */
+    public static MemberActivityCompactDocument of(MemberActivityDocument document, Integer typeCode, LocalDateTime timestamp) {
+        return new MemberActivityCompactDocument(
+                document.getId(), document.getMemberId(), document.getPostId(), document.getCommentId(), typeCode, timestamp,
+                hashKey(document.getMessageKey()), hashKey(document.getCoalesceKey()), document.getCount(), document.getLastSeenAt()
+        );
+    }
+
+    /**
+     * 조회 결과를 v1 문서로 변환합니다. 키 원문은 복원할 수 없으므로 message_key/coalesce_key 는 비워두고, updated_at 은 ts 로 채웁니다.
+     */
+    public MemberActivityDocument toMemberActivityDocument(MemberActivityType memberActivityType) {
+        return new MemberActivityDocument(
+                id, memberId, postId, commentId, null, memberActivityType, timestamp, timestamp,
+                null, count, lastSeenAt
+        );
+    }
+
+    /**
+     * message_key/coalesce_key 를 SHA-256 앞 16바이트로 줄입니다.
+     */
+    public static byte[] hashKey(String key) {
+        if (key == null || key.isEmpty()) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return Arrays.copyOf(digest, KEY_HASH_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -18,18 +18,19 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
-@Document("member_activities")
+// storage-mode 에 따라 member_activities 또는 일자별 member_activities_yyyyMMdd 컬렉션을 사용
+@Document("#{@memberActivityCollectionRouter.currentCollection()}")
 @CompoundIndexes({
-        // 1. 특정 회원의 활동 내역 조회 (최신순)
+        // 1. 특정 회원의 활동 내역 조회 (최신순, (created_at, _id) keyset 페이징)
         @CompoundIndex(
-                name = "idx_member_created",
-                def = "{'member_id': 1, 'created_at': -1}"
+                name = "idx_member_created_id",
+                def = "{'member_id': 1, 'created_at': -1, '_id': -1}"
         ),
 
-        // 2. 특정 회원의 특정 타입 활동 조회 (최신순)
+        // 2. 특정 회원의 특정 타입 활동 조회 (최신순, (created_at, _id) keyset 페이징)
         @CompoundIndex(
-                name = "idx_member_type_created",
-                def = "{'member_id': 1, 'member_activity_type': 1, 'created_at': -1}"
+                name = "idx_member_type_created_id",
+                def = "{'member_id': 1, 'member_activity_type': 1, 'created_at': -1, '_id': -1}"
         ),
 
         // 3. 특정 게시글에 대한 활동 조회
@@ -55,8 +56,8 @@ public class MemberActivityDocument {
     @Id
     private ObjectId id;
 
+    // member_id 단독 조회는 idx_member_created_id 의 prefix 로 처리 (단독 인덱스는 MemberActivityIndexManager 가 redundant 로 분류)
     @Field("member_id")
-    @Indexed
     private Long memberId;
 
     @Field("post_id")
@@ -65,12 +66,15 @@ public class MemberActivityDocument {
     @Field("comment_id")
     private Long commentId;
 
+    // 카프카 메시지 키 기반 멱등 insert 용도 (키가 없는 REST 요청 문서는 인덱스 대상에서 제외)
     @Field("message_key")
+    @Indexed(name = "uk_message_key", unique = true, partialFilter = "{'message_key': {$type: 'string'}}")
     private String messageKey;
 
     @Field("member_activity_type")
     private MemberActivityType memberActivityType;
 
+    // member_id 조건 없이 최신순으로 읽는 v1 → v2 마이그레이션용 (복합 인덱스의 prefix 가 아니므로 유지)
     @CreatedDate
     @Field("created_at")
     @Indexed
@@ -80,9 +84,21 @@ public class MemberActivityDocument {
     @Field("updated_at")
     private LocalDateTime updatedAt;
 
+    // 조회성 이벤트를 시간 창 단위로 합친 문서의 키/건수/마지막 발생 시각 (합치지 않은 문서는 null)
+    @Field("coalesce_key")
+    @Indexed(name = "uk_coalesce_key", unique = true, partialFilter = "{'coalesce_key': {$type: 'string'}}")
+    private String coalesceKey;
+
+    @Field("count")
+    private Long count;
+
+    @Field("last_seen_at")
+    private LocalDateTime lastSeenAt;
+
     @PersistenceCreator
     public MemberActivityDocument(
-            ObjectId id, Long memberId, Long postId, Long commentId, String messageKey, MemberActivityType memberActivityType, LocalDateTime createdAt, LocalDateTime updatedAt
+            ObjectId id, Long memberId, Long postId, Long commentId, String messageKey, MemberActivityType memberActivityType, LocalDateTime createdAt, LocalDateTime updatedAt,
+            String coalesceKey, Long count, LocalDateTime lastSeenAt
     ) {
         this.id = id;
         this.memberId = memberId;
@@ -92,6 +108,9 @@ public class MemberActivityDocument {
         this.memberActivityType = memberActivityType;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.coalesceKey = coalesceKey;
+        this.count = count;
+        this.lastSeenAt = lastSeenAt;
     }
 
     public MemberActivityDocument(
@@ -143,4 +162,56 @@ public class MemberActivityDocument {
     public static MemberActivityDocument ofNewCommentLikeActivity(Long memberId, Long commentId, MemberActivityType memberActivityType, String messageKey){
         return new MemberActivityDocument(memberId, null, commentId, memberActivityType, messageKey);
     }
+
+    /**
+     * 같은 시간 창 내의 동일한 (member_id, post_id, comment_id, member_activity_type) 이벤트를 합친 문서를 만듭니다.
+     * 여러 메시지가 하나의 문서가 되므로 message_key 는 저장하지 않습니다. (_id, created_at 은 document 의 값을 유지)
+     */
+    public static MemberActivityDocument ofCoalescedActivity(MemberActivityDocument document, String coalesceKey, Long count, LocalDateTime lastSeenAt){
+        return ofCoalescedActivity(document, document.getId(), document.getCreatedAt(), coalesceKey, count, lastSeenAt);
+    }
+
+    /**
+     * @param id 시간 창마다 고정된 _id (같은 시간 창을 여러 번 upsert 해도 같은 값)
+     * @param createdAt 시간 창 시작 시각
+     */
+    public static MemberActivityDocument ofCoalescedActivity(MemberActivityDocument document, ObjectId id, LocalDateTime createdAt, String coalesceKey, Long count, LocalDateTime lastSeenAt){
+        return new MemberActivityDocument(
+                id, document.getMemberId(), document.getPostId(), document.getCommentId(), null, document.getMemberActivityType(), createdAt, null,
+                coalesceKey, count, lastSeenAt
+        );
+    }
+
+    /**
+     * insert 전에 _id 와 created_at 을 정합니다. (이미 정해진 값은 유지)
+     * 저장 직후 최근 활동 캐시에 조회 결과와 같은 (created_at, _id) 로 기록하기 위함이며,
+     * _id 가 있는 문서는 auditing 이 새 문서로 보지 않아 created_at 을 채우지 않으므로 함께 정합니다.
+     */
+    public void assignIdentity(LocalDateTime now) {
+        if (this.id == null) {
+            this.id = new ObjectId();
+        }
+        if (this.createdAt == null) {
+            this.createdAt = now;
+        }
+    }
+
+    /**
+     * 카프카 이벤트의 발생 시각을 created_at 으로 정합니다. (null 이면 저장 시점에 정함)
+     * daily 모드의 저장 컬렉션은 created_at 일자로 정해지고 uk_message_key 는 컬렉션 안에서만 unique 하므로,
+     * 수신 시각이 아닌 이벤트 시각을 써야 자정을 넘긴 재전송이나 데드레터/스필 저널/이벤트 버퍼 재처리도 같은 컬렉션에 저장되어 중복으로 걸러집니다.
+     */
+    public void assignEventCreatedAt(LocalDateTime eventCreatedAt) {
+        if (eventCreatedAt != null) {
+            this.createdAt = eventCreatedAt;
+        }
+    }
+
+    /**
+     * 같은 coalesce key 의 문서를 합칩니다. (건수 합산, 마지막 발생 시각은 더 늦은 쪽)
+     */
+    public static MemberActivityDocument mergeCoalesced(MemberActivityDocument left, MemberActivityDocument right){
+        LocalDateTime lastSeenAt = left.getLastSeenAt().isAfter(right.getLastSeenAt()) ? left.getLastSeenAt() : right.getLastSeenAt();
+        return ofCoalescedActivity(left, left.getCoalesceKey(), left.getCount() + right.getCount(), lastSeenAt);
+    }
 }
@@ -0,0 +1,88 @@
+package click.dailyfeed.activity.domain.member.activity.dto;
+
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+
+public class MemberActivityBatchDto {
+
+    /**
+     * 요청 항목의 종류 (단건 API 의 /posts, /comments, /posts/likes, /comments/likes 에 대응)
+     */
+    public enum Category {
+        POST(MemberActivityType.postEventTypes),
+        COMMENT(MemberActivityType.commentEventTypes),
+        POST_LIKE(MemberActivityType.postLikeEventTypes),
+        COMMENT_LIKE(MemberActivityType.commentLikeEventTypes);
+
+        private final Collection<MemberActivityType> activityTypes;
+
+        Category(Collection<MemberActivityType> activityTypes) {
+            this.activityTypes = activityTypes;
+        }
+
+        public boolean supports(MemberActivityType activityType) {
+            return activityTypes.contains(activityType);
+        }
+    }
+
+    public enum ItemStatus {
+        INSERTED,   // 새로 저장됨
+        DUPLICATE,  // 같은 idempotencyKey 의 활동이 이미 저장되어 있음
+        REJECTED,   // 검증 실패 (저장하지 않음)
+        FAILED      // 저장 실패 (재시도 가능)
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchRequest {
+        private List<Item> activities;
+    }
+
+    /**
+     * 여러 종류의 활동을 한 배열로 받기 위한 항목
+     * idempotencyKey 를 지정하면 message_key 로 저장되어 같은 키의 재요청은 DUPLICATE 로 처리됩니다. (backfill 재시도용)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Category category;
+        private Long memberId;
+        private Long postId;
+        private Long commentId;
+        private MemberActivityType activityType;
+        private String idempotencyKey;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;          // 요청 activities 기준 인덱스
+        private ItemStatus status;
+        private String reason;      // REJECTED, FAILED 인 경우 사유
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchResult {
+        private int requested;
+        private int inserted;
+        private int duplicated;
+        private int rejected;
+        private int failed;
+        private List<ItemResult> results;
+    }
+}
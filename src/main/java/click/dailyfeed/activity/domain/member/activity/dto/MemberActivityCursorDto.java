@@ -0,0 +1,62 @@
+package click.dailyfeed.activity.domain.member.activity.dto;
+
+import click.dailyfeed.activity.domain.member.activity.exception.InvalidMemberActivityCursorException;
+import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+public class MemberActivityCursorDto {
+
+    /**
+     * (created_at, _id) 기반 keyset 커서
+     * 클라이언트에는 base64url 로 인코딩한 불투명 문자열로만 노출합니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Cursor {
+        private static final String DELIMITER = "_";
+
+        private final LocalDateTime createdAt;
+        private final ObjectId id;
+
+        public String encode() {
+            String raw = createdAt.toString() + DELIMITER + id.toHexString();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String encoded) {
+            if (encoded == null || encoded.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                int delimiterIndex = raw.lastIndexOf(DELIMITER);
+                return new Cursor(
+                        LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                        new ObjectId(raw.substring(delimiterIndex + 1))
+                );
+            } catch (RuntimeException e) {
+                throw new InvalidMemberActivityCursorException();
+            }
+        }
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CursorPage {
+        private List<MemberActivityDto.MemberActivity> content;
+        private String nextCursor;
+        private boolean hasNext;
+        private int size;
+    }
+}
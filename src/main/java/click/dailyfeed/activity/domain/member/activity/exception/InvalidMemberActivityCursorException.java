@@ -0,0 +1,7 @@
+package click.dailyfeed.activity.domain.member.activity.exception;
+
+public class InvalidMemberActivityCursorException extends RuntimeException {
+    public InvalidMemberActivityCursorException() {
+        super("유효하지 않은 커서입니다.");
+    }
+}
@@ -0,0 +1,7 @@
+package click.dailyfeed.activity.domain.member.activity.exception;
+
+public class MemberActivityBatchSizeExceededException extends RuntimeException {
+    public MemberActivityBatchSizeExceededException(int maxSize) {
+        super("한 번에 요청할 수 있는 활동 수(" + maxSize + ")를 초과했습니다.");
+    }
+}
@@ -0,0 +1,160 @@
+package click.dailyfeed.activity.domain.member.activity.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * memory-map 된 append-only 세그먼트 파일 ({prefix}-{sequence}.log)
+ * 미리 segment-size 만큼 할당해 memory-map 한 뒤 레코드를 이어 씁니다. (스필 저널, 디스크 이벤트 버퍼에서 사용)
+ * 레코드 형식: [length int][crc32 int][payload bytes], length 가 0 이면 세그먼트 끝
+ * 동시 접근은 세그먼트를 사용하는 쪽에서 동기화합니다.
+ */
+public final class MemberActivityJournalSegment {
+    public static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final Pattern FILE_NAME = Pattern.compile("([a-z]+)-(\\d{20})\\.log");
+
+    private final Path path;
+    private final long sequence;
+    private final MappedByteBuffer buffer;
+    private int records;
+
+    private MemberActivityJournalSegment(Path path, long sequence, MappedByteBuffer buffer) {
+        this.path = path;
+        this.sequence = sequence;
+        this.buffer = buffer;
+    }
+
+    public static MemberActivityJournalSegment create(Path directory, String prefix, long sequence, int segmentSize) throws IOException {
+        Path path = directory.resolve(String.format("%s-%020d.log", prefix, sequence));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new MemberActivityJournalSegment(path, sequence, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        }
+    }
+
+    /**
+     * 기존 세그먼트를 다시 열고, 마지막 정상 레코드 뒤부터 이어 쓰도록 위치를 맞춥니다.
+     */
+    public static MemberActivityJournalSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MemberActivityJournalSegment segment = new MemberActivityJournalSegment(path, sequenceOf(path), channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+            Record record;
+            while ((record = segment.readAt(segment.buffer.position())) != null) {
+                segment.buffer.position(record.nextOffset());
+                segment.records++;
+            }
+            return segment;
+        }
+    }
+
+    /**
+     * @return 세그먼트 파일이면 sequence, 아니면 -1
+     */
+    public static long sequenceOf(Path path) {
+        Matcher matcher = FILE_NAME.matcher(path.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(2)) : -1;
+    }
+
+    /**
+     * @return prefix 세그먼트 파일이면 true
+     */
+    public static boolean isSegment(Path path, String prefix) {
+        Matcher matcher = FILE_NAME.matcher(path.getFileName().toString());
+        return matcher.matches() && matcher.group(1).equals(prefix);
+    }
+
+    public boolean hasRoom(int payloadLength) {
+        return buffer.remaining() >= HEADER_SIZE + payloadLength;
+    }
+
+    public void append(byte[] payload) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+        // length 를 마지막에 기록해 쓰는 도중 종료되면 이 레코드는 끝(0)으로 읽힌다
+        int position = buffer.position();
+        buffer.position(position + Integer.BYTES);
+        buffer.putInt((int) crc32.getValue());
+        buffer.put(payload);
+        buffer.putInt(position, payload.length);
+        records++;
+    }
+
+    /**
+     * offset 위치의 레코드를 읽습니다.
+     *
+     * @return 레코드, 끝이거나 CRC 가 맞지 않으면 null
+     */
+    public Record readAt(int offset) {
+        return readAt(buffer, offset);
+    }
+
+    public void force() {
+        buffer.force();
+    }
+
+    public boolean isEmpty() {
+        return records == 0;
+    }
+
+    public int records() {
+        return records;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public long sequence() {
+        return sequence;
+    }
+
+    /**
+     * 봉인된 세그먼트의 레코드를 읽습니다. CRC 가 맞지 않거나 길이가 범위를 벗어나면 그 지점에서 읽기를 멈춥니다.
+     */
+    public static ReadResult read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            List<byte[]> payloads = new ArrayList<>();
+            int offset = 0;
+            Record record;
+            while ((record = readAt(buffer, offset)) != null) {
+                payloads.add(record.payload());
+                offset = record.nextOffset();
+            }
+            boolean corrupted = buffer.limit() - offset >= HEADER_SIZE && buffer.getInt(offset) != 0;
+            return new ReadResult(payloads, corrupted);
+        }
+    }
+
+    private static Record readAt(ByteBuffer buffer, int offset) {
+        if (buffer.limit() - offset < HEADER_SIZE) {
+            return null;
+        }
+        int length = buffer.getInt(offset);
+        if (length <= 0 || length > buffer.limit() - offset - HEADER_SIZE) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        buffer.get(offset + HEADER_SIZE, payload);
+        CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+        if ((int) crc32.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+            return null;
+        }
+        return new Record(payload, offset + HEADER_SIZE + length);
+    }
+
+    public record Record(byte[] payload, int nextOffset) {
+    }
+
+    public record ReadResult(List<byte[]> payloads, boolean corrupted) {
+    }
+}
@@ -1,51 +1,80 @@
 package click.dailyfeed.activity.domain.member.activity.mapper;
 
 import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.activity.domain.member.activity.dto.MemberActivityBatchDto;
 import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
 import click.dailyfeed.code.domain.activity.exception.UndefinedMemberActivityEventTypeException;
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
 @Component
 public class MemberActivityMapper {
+    @FunctionalInterface
+    private interface EventDocumentFactory {
+        MemberActivityDocument create(String messageKey, MemberActivityTransportDto.MemberActivityEvent event);
+    }
+
+    // MemberActivityType → 문서 생성 함수 (분류 집합에 여러 번 속하는 타입은 먼저 등록한 분류를 따른다)
+    private static final Map<MemberActivityType, EventDocumentFactory> EVENT_DOCUMENT_FACTORIES = new EnumMap<>(MemberActivityType.class);
+
+    static {
+        register(MemberActivityType.postEventTypes, (messageKey, event) -> MemberActivityDocument.ofNewPostActivity(
+                event.getMemberId(),
+                event.getPostId(),
+                event.getMemberActivityType(),
+                messageKey
+        ));
+        register(MemberActivityType.commentEventTypes, (messageKey, event) -> MemberActivityDocument.ofNewCommentActivity(
+                event.getMemberId(),
+                event.getPostId(),
+                event.getCommentId(),
+                event.getMemberActivityType(),
+                messageKey
+        ));
+        register(MemberActivityType.memberEventTypes, (messageKey, event) -> MemberActivityDocument.ofNewMemberActivity(
+                event.getMemberId(),
+                event.getMemberActivityType(),
+                messageKey
+        ));
+        register(MemberActivityType.postLikeEventTypes, (messageKey, event) -> MemberActivityDocument.ofNewPostLikeActivity(
+                event.getMemberId(),
+                event.getPostId(),
+                event.getMemberActivityType(),
+                messageKey
+        ));
+        register(MemberActivityType.commentLikeEventTypes, (messageKey, event) -> MemberActivityDocument.ofNewCommentLikeActivity(
+                event.getMemberId(),
+                event.getCommentId(),
+                event.getMemberActivityType(),
+                messageKey
+        ));
+    }
+
+    private static void register(Collection<MemberActivityType> memberActivityTypes, EventDocumentFactory factory) {
+        memberActivityTypes.forEach(memberActivityType -> EVENT_DOCUMENT_FACTORIES.putIfAbsent(memberActivityType, factory));
+    }
+
     public MemberActivityDocument fromMessage(MemberActivityTransportDto.MemberActivityMessage message) {
-        MemberActivityTransportDto.MemberActivityEvent event = message.getEvent();
-        MemberActivityType memberActivityType = event.getMemberActivityType();
-        if (MemberActivityType.postEventTypes.contains(memberActivityType)) {
-            return MemberActivityDocument.ofNewPostActivity(
-                    event.getMemberId(),
-                    event.getPostId(),
-                    event.getMemberActivityType()
-            );
+        return fromEvent(message.getKey(), message.getEvent());
+    }
 
-        } else if (MemberActivityType.commentEventTypes.contains(memberActivityType)) {
-            return MemberActivityDocument.ofNewCommentActivity(
-                    event.getMemberId(),
-                    event.getPostId(),
-                    event.getCommentId(),
-                    event.getMemberActivityType()
-            );
-        } else if (MemberActivityType.memberEventTypes.contains(memberActivityType)) {
-            return MemberActivityDocument.ofNewMemberActivity(
-                    event.getMemberId(),
-                    memberActivityType
-            );
-        } else if (MemberActivityType.postLikeEventTypes.contains(memberActivityType)) {
-            return MemberActivityDocument.ofNewPostLikeActivity(
-                    event.getMemberId(),
-                    event.getPostId(),
-                    memberActivityType
-            );
-        } else if (MemberActivityType.commentLikeEventTypes.contains(memberActivityType)) {
-            return MemberActivityDocument.ofNewCommentLikeActivity(
-                    event.getMemberId(),
-                    event.getCommentId(),
-                    memberActivityType
-            );
+    /**
+     * 카프카 이벤트를 문서로 변환합니다. (MemberActivityMessage 를 만들지 않고 키와 이벤트로 바로 변환)
+     * created_at 은 이벤트 발생 시각으로 정해, 몇 번을 다시 처리해도 같은 일자 컬렉션에 저장되도록 합니다.
+     */
+    public MemberActivityDocument fromEvent(String messageKey, MemberActivityTransportDto.MemberActivityEvent event) {
+        EventDocumentFactory factory = EVENT_DOCUMENT_FACTORIES.get(event.getMemberActivityType());
+        if (factory == null) {
+            throw new UndefinedMemberActivityEventTypeException();
         }
-
-        throw new UndefinedMemberActivityEventTypeException();
+        MemberActivityDocument document = factory.create(messageKey, event);
+        document.assignEventCreatedAt(event.getCreatedAt());
+        return document;
     }
 
     public MemberActivityDocument fromPostRequest(MemberActivityDto.PostActivityRequest request) {
@@ -81,6 +110,19 @@ public class MemberActivityMapper {
         );
     }
 
+    public MemberActivityDocument fromBatchItem(MemberActivityBatchDto.Item item) {
+        return switch (item.getCategory()) {
+            case POST -> MemberActivityDocument.ofNewPostActivity(
+                    item.getMemberId(), item.getPostId(), item.getActivityType(), item.getIdempotencyKey());
+            case COMMENT -> MemberActivityDocument.ofNewCommentActivity(
+                    item.getMemberId(), item.getPostId(), item.getCommentId(), item.getActivityType(), item.getIdempotencyKey());
+            case POST_LIKE -> MemberActivityDocument.ofNewPostLikeActivity(
+                    item.getMemberId(), item.getPostId(), item.getActivityType(), item.getIdempotencyKey());
+            case COMMENT_LIKE -> MemberActivityDocument.ofNewCommentLikeActivity(
+                    item.getMemberId(), item.getCommentId(), item.getActivityType(), item.getIdempotencyKey());
+        };
+    }
+
     public MemberActivityDto.MemberActivity fromDocument(MemberActivityDocument document) {
         return MemberActivityDto.MemberActivity.builder()
                 .memberId(document.getMemberId())
@@ -0,0 +1,48 @@
+package click.dailyfeed.activity.domain.member.activity.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * member-activity 이벤트 버퍼 drain 작업의 분산 lease
+ * 한 시점에 하나의 파드만 버퍼를 drain 하도록 SET NX PX 로 lease 를 획득하고, 보유 중이면 만료 시간을 연장합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class MemberActivityDrainLeaseRedisService {
+    private static final String LEASE_KEY = "member-activity:event-buffer:drain-lease";
+
+    // 본인이 보유한 lease 일 때만 연장/해제
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final String owner = System.getenv().getOrDefault("HOSTNAME", "local") + ":" + UUID.randomUUID();
+
+    /**
+     * lease 를 획득하거나, 이미 보유 중이면 ttl 만큼 연장합니다.
+     *
+     * @return lease 보유 여부
+     */
+    public boolean tryAcquire(Duration ttl) {
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LEASE_KEY, owner, ttl))) {
+            return true;
+        }
+        Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_KEY), owner, String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    public void release() {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), owner);
+    }
+}
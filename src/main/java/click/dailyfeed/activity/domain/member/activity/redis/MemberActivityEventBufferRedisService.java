@@ -0,0 +1,81 @@
+package click.dailyfeed.activity.domain.member.activity.redis;
+
+import click.dailyfeed.activity.domain.member.activity.buffer.MemberActivityEventBuffer;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * member-activity 이벤트 버퍼 (Redis List)
+ * 리스너는 RPUSH 로 적재하고, drain 작업은 LPOP count 로 가변 크기 배치를 꺼냅니다.
+ * 역직렬화에 실패한 항목은 dead-letter-list-key 로 옮깁니다.
+ * LPOP 으로 꺼내는 즉시 버퍼에서 제거되므로 commit 은 하지 않습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "infrastructure.kafka.consumers.member-activity.ingest.buffer.type", havingValue = "redis", matchIfMissing = true)
+public class MemberActivityEventBufferRedisService implements MemberActivityEventBuffer {
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${infrastructure.redis.event-queue.member-activity-event.list-key:MEMBER_ACTIVITY_EVENT_HISTORY}")
+    private String listKey;
+
+    @Value("${infrastructure.redis.event-queue.member-activity-event.dead-letter-list-key:MEMBER_ACTIVITY_EVENT_HISTORY_DEAD}")
+    private String deadLetterListKey;
+
+    @Override
+    public void push(MemberActivityTransportDto.MemberActivityMessage message) throws JsonProcessingException {
+        stringRedisTemplate.opsForList().rightPush(listKey, objectMapper.writeValueAsString(message));
+    }
+
+    /**
+     * 버퍼에서 최대 count 건을 꺼냅니다. (LPOP key count)
+     *
+     * @param count 꺼낼 최대 건수
+     * @return 꺼낸 메시지 묶음, 버퍼가 비어있으면 EMPTY
+     */
+    @Override
+    public Batch pop(int count) {
+        List<String> payloads = stringRedisTemplate.opsForList().leftPop(listKey, count);
+        if (payloads == null || payloads.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<MemberActivityTransportDto.MemberActivityMessage> messages = new ArrayList<>(payloads.size());
+        for (String payload : payloads) {
+            try {
+                messages.add(objectMapper.readValue(payload, MemberActivityTransportDto.MemberActivityMessage.class));
+            } catch (JsonProcessingException e) {
+                log.error("Failed to deserialize buffered member activity event, moved to {}", deadLetterListKey, e);
+                stringRedisTemplate.opsForList().rightPush(deadLetterListKey, payload);
+            }
+        }
+        return new Batch(messages, -1);
+    }
+
+    @Override
+    public void commit(Batch batch) {
+    }
+
+    @Override
+    public long size() {
+        Long size = stringRedisTemplate.opsForList().size(listKey);
+        return size == null ? 0 : size;
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+}
@@ -0,0 +1,81 @@
+package click.dailyfeed.activity.domain.member.activity.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * poll 단위로 카프카 메시지 키의 처리 여부를 조회/기록하는 Redis 서비스
+ * 메시지 건별로 Redis 를 호출하는 대신, 배치 전체를 MGET 한번과 SET EX 파이프라인 한번으로 처리합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class MemberActivityMessageKeyRedisService {
+    private static final String KEY_PREFIX = "member-activity:kafka-message-key:";
+    private static final String PROCESSED = "1";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 여러 메시지 키 중 이미 처리된 키를 한번의 MGET 으로 조회합니다.
+     *
+     * @param messageKeys 조회할 메시지 키 목록
+     * @return 이미 처리된 메시지 키
+     */
+    public Set<String> findProcessed(Collection<String> messageKeys) {
+        List<String> keys = messageKeys.stream().filter(Objects::nonNull).distinct().toList();
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys.stream().map(this::toRedisKey).toList());
+        if (values == null) {
+            return Set.of();
+        }
+
+        Set<String> processed = new HashSet<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (values.get(i) != null) {
+                processed.add(keys.get(i));
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * 여러 메시지 키를 처리 완료로 기록합니다. (SET key 1 EX ttl 파이프라인)
+     *
+     * @param messageKeys 기록할 메시지 키 목록
+     * @param ttl 중복 체크 유지 시간
+     */
+    public void markProcessed(Collection<String> messageKeys, Duration ttl) {
+        List<String> keys = messageKeys.stream().filter(Objects::nonNull).distinct().toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        Expiration expiration = Expiration.from(ttl);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+            for (String key : keys) {
+                stringRedisConnection.set(toRedisKey(key), PROCESSED, expiration, RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+    }
+
+    private String toRedisKey(String messageKey) {
+        return KEY_PREFIX + messageKey;
+    }
+}
@@ -0,0 +1,266 @@
+package click.dailyfeed.activity.domain.member.activity.redis;
+
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityCollectionRouter;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원별 최근 활동 캐시 (Redis Sorted Set, score = created_at epoch millis)
+ * - 문서 저장이 확인된 직후 write-through 로 ZADD 하고, 최근 size 건만 남기도록 잘라낸 뒤 TTL 을 갱신합니다.
+ * - 활동 내역 첫 페이지는 캐시에서 읽고, 캐시가 비어있거나 모자라면 DB(idx_member_created_id) 에서 읽어 채웁니다.
+ * - 회원의 전체 활동이 size 건 미만이라 캐시가 전부를 담고 있으면 score -1 의 완료 표시(COMPLETE)를 함께 저장합니다.
+ *   잘라낼 때 가장 먼저 제거되므로, 완료 표시가 남아있는 동안에는 캐시에 없는 활동이 없습니다.
+ *
+ * 값은 저장 후 바뀌지 않는 필드만 "_id|member_id|post_id|comment_id|member_activity_type|created_at" 형태로 저장합니다.
+ * 같은 문서를 여러 번 기록해도 같은 값이 되고, score 가 같으면 _id 역순으로 정렬되어 DB 조회 순서((created_at, _id) 역순)와 같습니다.
+ * 캐시 쓰기 실패는 저장 결과에 영향을 주지 않으며, 캐시가 DB 와 어긋나지 않도록 해당 회원의 키를 삭제합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberActivityRecentRedisService {
+    private static final String KEY_PREFIX = "member-activity:recent:";
+    private static final String COMPLETE = "complete";
+    private static final double COMPLETE_SCORE = -1;
+    private static final String DELIMITER = "|";
+    private static final String NULL_VALUE = "";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final MemberActivityCollectionRouter memberActivityCollectionRouter;
+
+    @Value("${infrastructure.redis.member-activity-recent.enabled:true}")
+    private boolean enabled;
+
+    // 회원별 최대 보관 건수 (첫 페이지 size 가 이보다 크면 항상 DB 에서 조회)
+    @Value("${infrastructure.redis.member-activity-recent.size:100}")
+    private int size;
+
+    @Value("${infrastructure.redis.member-activity-recent.ttl:7d}")
+    private Duration ttl;
+
+    @Value("${infrastructure.mongodb.member-activity.retention-days:90}")
+    private int retentionDays;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter writeFailedCounter;
+    private Timer fillTimer;
+
+    @PostConstruct
+    public void init() {
+        this.hitCounter = Counter.builder("member.activity.recent-cache.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("member.activity.recent-cache.requests").tag("result", "miss").register(meterRegistry);
+        this.writeFailedCounter = Counter.builder("member.activity.recent-cache.write-failed").register(meterRegistry);
+        this.fillTimer = Timer.builder("member.activity.recent-cache.fill").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 저장이 확인된 문서를 회원별 캐시에 기록합니다. (회원별 ZADD + ZREMRANGEBYRANK + EXPIRE 파이프라인 한번)
+     * MongoDB 트랜잭션 안에서 호출되면 커밋된 뒤에 기록하며, 실패해도 예외를 던지지 않습니다.
+     *
+     * @param documents _id 와 created_at 이 정해진 문서 목록
+     */
+    public void addAll(Collection<MemberActivityDocument> documents) {
+        if (!enabled || documents.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<MemberActivityDocument>> documentsByMember = new LinkedHashMap<>();
+        for (MemberActivityDocument document : documents) {
+            if (document.getMemberId() != null && document.getId() != null && document.getCreatedAt() != null) {
+                documentsByMember.computeIfAbsent(document.getMemberId(), memberId -> new ArrayList<>()).add(document);
+            }
+        }
+        if (documentsByMember.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    writeThrough(documentsByMember);
+                }
+            });
+            return;
+        }
+        writeThrough(documentsByMember);
+    }
+
+    private void writeThrough(Map<Long, List<MemberActivityDocument>> documentsByMember) {
+        try {
+            write(documentsByMember, false);
+        } catch (Exception e) {
+            writeFailedCounter.increment();
+            log.warn("Failed to write recent member activities to cache: members={}", documentsByMember.size(), e);
+            evict(documentsByMember.keySet());
+        }
+    }
+
+    /**
+     * 캐시에서 회원의 최근 활동을 최신순으로 조회합니다.
+     * 요청한 건수를 채울 수 없고 캐시가 회원의 전체 활동을 담고 있지도 않으면 miss 입니다.
+     *
+     * @param memberActivityType 활동 타입 (null 이면 전체)
+     * @param limit 최대 조회 건수
+     * @return 조회된 문서 (최신순), miss 인 경우 null
+     */
+    public List<MemberActivityDocument> find(Long memberId, MemberActivityType memberActivityType, int limit) {
+        if (!enabled || limit > size) {
+            return null;
+        }
+
+        List<MemberActivityDocument> documents = new ArrayList<>(limit);
+        boolean complete = false;
+        try {
+            Set<String> values = stringRedisTemplate.opsForZSet().reverseRange(toRedisKey(memberId), 0, -1);
+            for (String value : values == null ? Set.<String>of() : values) {
+                if (COMPLETE.equals(value)) {
+                    complete = true;
+                    continue;
+                }
+                MemberActivityDocument document = decode(value);
+                if (documents.size() < limit && (memberActivityType == null || memberActivityType == document.getMemberActivityType())) {
+                    documents.add(document);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read recent member activities from cache: memberId={}", memberId, e);
+            missCounter.increment();
+            return null;
+        }
+
+        if (documents.size() < limit && !complete) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return documents;
+    }
+
+    /**
+     * DB 에서 읽은 최근 활동으로 캐시를 채웁니다. (기존 값을 지우지 않고 합치므로 동시에 기록된 write-through 값은 유지)
+     *
+     * @param documents DB 에서 최신순으로 읽은 문서
+     * @param complete 회원의 전체 활동을 읽었는지 여부 (조회 건수가 limit 미만)
+     */
+    public void fill(Long memberId, List<MemberActivityDocument> documents, boolean complete) {
+        if (!enabled || (documents.isEmpty() && !complete)) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            write(Map.of(memberId, documents), complete);
+        } catch (Exception e) {
+            writeFailedCounter.increment();
+            log.warn("Failed to fill recent member activities cache: memberId={}", memberId, e);
+            evict(Set.of(memberId));
+        } finally {
+            fillTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void write(Map<Long, List<MemberActivityDocument>> documentsByMember, boolean complete) {
+        // daily 모드에서 retention 이 지나 컬렉션과 함께 삭제된 활동은 캐시에서도 제거 (완료 표시는 score 가 음수이므로 유지)
+        // single 모드는 retention 으로 삭제하지 않으므로 잘라내면 DB 에 남은 활동이 캐시에 없는데도 완료 표시가 남게 됨
+        boolean trimExpired = memberActivityCollectionRouter.isDaily();
+        double expiredBefore = toScore(LocalDateTime.now().minusDays(retentionDays));
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+            documentsByMember.forEach((memberId, documents) -> {
+                String key = toRedisKey(memberId);
+                for (MemberActivityDocument document : documents) {
+                    stringRedisConnection.zAdd(key, toScore(document.getCreatedAt()), encode(document));
+                }
+                if (complete) {
+                    stringRedisConnection.zAdd(key, COMPLETE_SCORE, COMPLETE);
+                }
+                if (trimExpired) {
+                    stringRedisConnection.zRemRangeByScore(key, 0, expiredBefore);
+                }
+                // 최신 size 건만 유지 (완료 표시가 가장 먼저 제거됨)
+                stringRedisConnection.zRemRange(key, 0, -(size + 1L));
+                stringRedisConnection.expire(key, ttl.toSeconds());
+            });
+            return null;
+        });
+    }
+
+    private void evict(Collection<Long> memberIds) {
+        try {
+            stringRedisTemplate.delete(memberIds.stream().map(this::toRedisKey).toList());
+        } catch (Exception e) {
+            log.error("❌ Failed to evict recent member activities cache: memberIds={}", memberIds, e);
+        }
+    }
+
+    private String toRedisKey(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    /**
+     * MongoDB 는 날짜를 millisecond 단위로 저장하므로 캐시도 같은 정밀도로 맞춥니다. (다음 페이지 커서가 DB 값과 같도록)
+     */
+    private static double toScore(LocalDateTime createdAt) {
+        return createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static String encode(MemberActivityDocument document) {
+        return document.getId().toHexString()
+                + DELIMITER + document.getMemberId()
+                + DELIMITER + Objects.toString(document.getPostId(), NULL_VALUE)
+                + DELIMITER + Objects.toString(document.getCommentId(), NULL_VALUE)
+                + DELIMITER + document.getMemberActivityType().name()
+                + DELIMITER + (long) toScore(document.getCreatedAt());
+    }
+
+    private static MemberActivityDocument decode(String value) {
+        String[] fields = value.split("\\" + DELIMITER, -1);
+        LocalDateTime createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(fields[5])), ZoneOffset.UTC);
+        return MemberActivityDocument.builder()
+                .id(new ObjectId(fields[0]))
+                .memberId(Long.parseLong(fields[1]))
+                .postId(fields[2].isEmpty() ? null : Long.parseLong(fields[2]))
+                .commentId(fields[3].isEmpty() ? null : Long.parseLong(fields[3]))
+                .memberActivityType(MemberActivityType.valueOf(fields[4]))
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package click.dailyfeed.activity.domain.member.activity.repository.mongo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * unordered bulk insert 결과 (인덱스는 요청한 documents 기준)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberActivityBulkInsertResult {
+    private final Set<Integer> failedIndexes;       // duplicate key 외의 사유로 실패한 문서
+    private final Set<Integer> duplicatedIndexes;   // 이미 반영되어 있던 문서 (E11000)
+
+    public static MemberActivityBulkInsertResult allInserted() {
+        return new MemberActivityBulkInsertResult(Set.of(), Set.of());
+    }
+
+    public boolean isInserted(int index) {
+        return !failedIndexes.contains(index) && !duplicatedIndexes.contains(index);
+    }
+}
@@ -0,0 +1,121 @@
+package click.dailyfeed.activity.domain.member.activity.repository.mongo;
+
+import click.dailyfeed.activity.domain.activitycounter.repository.mongo.ActivityCounterMongoTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일자별 member_activities 컬렉션의 생성(인덱스 포함)과 보관 기간 만료 처리를 담당합니다.
+ * 만료는 문서 삭제 대신 컬렉션 drop 으로 처리합니다. 누적 카운터가 줄어들지 않도록 drop 전에 컬렉션의 건수를 카운터 archive 에 더해둡니다.
+ * 인덱스는 MemberActivityIndexManager 가 선언된 인덱스 중 없는 것만 생성합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberActivityCollectionManager {
+    private final MongoTemplate mongoTemplate;
+    private final MemberActivityCollectionRouter memberActivityCollectionRouter;
+    private final MemberActivityIndexManager memberActivityIndexManager;
+    private final ActivityCounterMongoTemplate activityCounterMongoTemplate;
+
+    private final Set<String> preparedCollections = ConcurrentHashMap.newKeySet();
+
+    @Value("${infrastructure.mongodb.member-activity.retention-days:90}")
+    private int retentionDays;
+
+    /**
+     * 현재 일자의 쓰기 대상 컬렉션을 반환합니다. 이 파드에서 처음 사용하는 컬렉션이면 인덱스를 먼저 확인합니다.
+     */
+    public String writeCollection() {
+        return writeCollection(LocalDate.now());
+    }
+
+    /**
+     * 문서의 created_at 이 속한 일자의 쓰기 대상 컬렉션을 반환합니다.
+     * 조회는 created_at 커서 기준으로 일자별 컬렉션을 최신순으로 읽으므로, 늦게 도착하거나 시간 창으로 합친 문서도 created_at 일자의 컬렉션에 저장해야 조회에서 빠지지 않습니다.
+     * 미래 시각은 현재 일자로, 보관 기간보다 오래된 시각은 보관 중인 가장 오래된 일자로 맞춥니다. (이미 drop 된 일자의 컬렉션을 다시 만들지 않도록)
+     *
+     * @param createdAt 저장할 문서의 created_at (null 이면 현재 일자)
+     */
+    public String writeCollection(LocalDateTime createdAt) {
+        LocalDate today = LocalDate.now();
+        LocalDate bucketDate = createdAt == null ? today : createdAt.toLocalDate();
+        if (bucketDate.isAfter(today)) {
+            bucketDate = today;
+        } else if (bucketDate.isBefore(today.minusDays(retentionDays))) {
+            bucketDate = today.minusDays(retentionDays);
+        }
+        return writeCollection(bucketDate);
+    }
+
+    private String writeCollection(LocalDate bucketDate) {
+        MemberActivitySchema schema = memberActivityCollectionRouter.writeSchema();
+        String collectionName = memberActivityCollectionRouter.collectionFor(bucketDate, schema);
+        prepare(collectionName, schema);
+        return collectionName;
+    }
+
+    public void prepare(String collectionName, MemberActivitySchema schema) {
+        if (preparedCollections.contains(collectionName)) {
+            return;
+        }
+
+        memberActivityIndexManager.ensureIndexes(collectionName, schema);
+        preparedCollections.add(collectionName);
+        log.info("Prepared member activity collection: {}", collectionName);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareToday() {
+        writeCollection();
+    }
+
+    /**
+     * 자정 직후 첫 이벤트가 인덱스 생성을 기다리지 않도록 다음날 컬렉션을 미리 생성합니다.
+     */
+    @Scheduled(cron = "0 50 23 * * *")
+    public void prepareTomorrow() {
+        MemberActivitySchema schema = memberActivityCollectionRouter.writeSchema();
+        prepare(memberActivityCollectionRouter.collectionFor(LocalDate.now().plusDays(1), schema), schema);
+    }
+
+    /**
+     * 보관 기간이 지난 일자별 컬렉션을 drop 합니다.
+     * archive 에 실패했거나 다른 파드가 archive 중인 컬렉션은 drop 하지 않고 다음 실행에서 다시 시도합니다.
+     */
+    @Scheduled(cron = "0 10 0 * * *")
+    public void dropExpiredCollections() {
+        if (!memberActivityCollectionRouter.isDaily()) {
+            return;
+        }
+
+        LocalDate expireBefore = LocalDate.now().minusDays(retentionDays);
+        for (String collectionName : mongoTemplate.getCollectionNames()) {
+            LocalDate bucketDate = memberActivityCollectionRouter.bucketDateOf(collectionName);
+            if (bucketDate != null && bucketDate.isBefore(expireBefore)) {
+                try {
+                    if (!activityCounterMongoTemplate.archiveCounters(new MemberActivityCollectionRouter.SchemaCollection(collectionName, memberActivityCollectionRouter.schemaOf(collectionName)))) {
+                        continue;
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to archive activity counters, keep collection: {}", collectionName, e);
+                    continue;
+                }
+                mongoTemplate.dropCollection(collectionName);
+                preparedCollections.remove(collectionName);
+                log.info("Dropped expired member activity collection: {}", collectionName);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package click.dailyfeed.activity.domain.member.activity.repository.mongo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * member_activities 저장 위치를 결정합니다.
+ * - single: 단일 member_activities 컬렉션
+ * - daily: 일자별 member_activities_yyyyMMdd 컬렉션 (보관 기간이 지나면 컬렉션 단위로 drop)
+ * v2 스키마 문서는 같은 규칙으로 member_activities_v2[_yyyyMMdd] 컬렉션에 저장합니다.
+ */
+@Component
+public class MemberActivityCollectionRouter {
+    public static final String COLLECTION_NAME = "member_activities";
+    public static final String COMPACT_COLLECTION_NAME = COLLECTION_NAME + "_v2";
+    private static final String DAILY_COLLECTION_PREFIX = COLLECTION_NAME + "_";
+    private static final String DAILY_COMPACT_COLLECTION_PREFIX = COMPACT_COLLECTION_NAME + "_";
+    private static final DateTimeFormatter BUCKET_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /**
+     * 조회 대상 컬렉션과 그 컬렉션의 문서 스키마
+     */
+    public record SchemaCollection(String name, MemberActivitySchema schema) {
+    }
+
+    @Value("${infrastructure.mongodb.member-activity.storage-mode:single}")
+    private String storageMode;
+
+    @Value("${infrastructure.mongodb.member-activity.schema:v1}")
+    private String schema;
+
+    public boolean isDaily() {
+        return "daily".equalsIgnoreCase(storageMode);
+    }
+
+    /**
+     * 새 문서를 저장할 스키마
+     */
+    public MemberActivitySchema writeSchema() {
+        return MemberActivitySchema.of(schema);
+    }
+
+    /**
+     * 현재 시점의 쓰기 대상 컬렉션
+     */
+    public String currentCollection() {
+        return collectionFor(LocalDate.now());
+    }
+
+    /**
+     * 현재 시점의 v2 스키마 컬렉션 (MemberActivityCompactDocument 의 @Document)
+     */
+    public String currentCompactCollection() {
+        return collectionFor(LocalDate.now(), MemberActivitySchema.V2);
+    }
+
+    public String collectionFor(LocalDate date) {
+        return collectionFor(date, MemberActivitySchema.V1);
+    }
+
+    public String collectionFor(LocalDate date, MemberActivitySchema schema) {
+        String collectionName = schema == MemberActivitySchema.V2 ? COMPACT_COLLECTION_NAME : COLLECTION_NAME;
+        return isDaily() ? collectionName + "_" + date.format(BUCKET_DATE_FORMATTER) : collectionName;
+    }
+
+    /**
+     * from ~ to 기간의 조회 대상 컬렉션 (최신 일자 순)
+     */
+    public List<String> collectionsBetween(LocalDate from, LocalDate to) {
+        return collectionsBetween(from, to, MemberActivitySchema.V1);
+    }
+
+    public List<String> collectionsBetween(LocalDate from, LocalDate to, MemberActivitySchema schema) {
+        if (!isDaily()) {
+            return List.of(collectionFor(to, schema));
+        }
+
+        List<String> collections = new ArrayList<>();
+        for (LocalDate date = to; !date.isBefore(from); date = date.minusDays(1)) {
+            collections.add(collectionFor(date, schema));
+        }
+        return collections;
+    }
+
+    /**
+     * from ~ to 기간의 조회 대상 컬렉션을 스키마와 함께 반환합니다. (최신 일자 순)
+     * v2 로 쓰는 동안에는 같은 일자의 v2 컬렉션을 v1 컬렉션보다 먼저 둡니다.
+     * v2 컬렉션에는 전환 이후 문서와 마이그레이터가 최신순으로 옮긴 문서만 있으므로, v2 → v1 순서로 읽어도 최신순이 유지됩니다.
+     */
+    public List<SchemaCollection> readCollectionsBetween(LocalDate from, LocalDate to) {
+        boolean compact = writeSchema() == MemberActivitySchema.V2;
+        List<SchemaCollection> collections = new ArrayList<>();
+        LocalDate last = isDaily() ? from : to;
+        for (LocalDate date = to; !date.isBefore(last); date = date.minusDays(1)) {
+            if (compact) {
+                collections.add(new SchemaCollection(collectionFor(date, MemberActivitySchema.V2), MemberActivitySchema.V2));
+            }
+            collections.add(new SchemaCollection(collectionFor(date, MemberActivitySchema.V1), MemberActivitySchema.V1));
+        }
+        return collections;
+    }
+
+    /**
+     * member_activities 컬렉션(단일/일자별, v1/v2)의 문서 스키마를 반환합니다. member_activities 컬렉션이 아니면 null 을 반환합니다.
+     */
+    public MemberActivitySchema schemaOf(String collectionName) {
+        if (COLLECTION_NAME.equals(collectionName)) {
+            return MemberActivitySchema.V1;
+        }
+        if (COMPACT_COLLECTION_NAME.equals(collectionName)) {
+            return MemberActivitySchema.V2;
+        }
+        if (bucketDateOf(collectionName) == null) {
+            return null;
+        }
+        return collectionName.startsWith(DAILY_COMPACT_COLLECTION_PREFIX) ? MemberActivitySchema.V2 : MemberActivitySchema.V1;
+    }
+
+    /**
+     * 일자별 컬렉션명에서 일자를 추출합니다. 일자별 컬렉션이 아니면 null 을 반환합니다.
+     */
+    public LocalDate bucketDateOf(String collectionName) {
+        if (collectionName == null) {
+            return null;
+        }
+        String prefix = collectionName.startsWith(DAILY_COMPACT_COLLECTION_PREFIX) ? DAILY_COMPACT_COLLECTION_PREFIX : DAILY_COLLECTION_PREFIX;
+        if (!collectionName.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(collectionName.substring(prefix.length()), BUCKET_DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
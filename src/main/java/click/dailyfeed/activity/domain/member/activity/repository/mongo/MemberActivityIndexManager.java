@@ -0,0 +1,227 @@
+package click.dailyfeed.activity.domain.member.activity.repository.mongo;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * member_activities 컬렉션의 인덱스를 관리합니다.
+ * - 필요한 인덱스는 문서 클래스(MemberActivityDocument, MemberActivityCompactDocument)의 인덱스 어노테이션 한 곳에만 선언합니다.
+ * - auto-index-creation 은 끄고, 배포 시(ApplicationReadyEvent) 기존 컬렉션 전체에 대해 없는 인덱스만 createIndexes 로 생성합니다. (4.2 이후 인덱스 빌드는 시작/끝에만 잠깐 잠금을 잡으므로 background 옵션은 쓰지 않음)
+ * - 선언되지 않은 인덱스 중 다른 인덱스의 prefix 와 키가 겹치는 인덱스는 redundant 로 보고 알리거나(flag) 삭제(drop)합니다.
+ *   unique/partial/sparse/TTL 인덱스는 동작이 달라지므로 prefix 가 겹쳐도 삭제하지 않습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberActivityIndexManager {
+    private static final String ID_INDEX_NAME = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+    private final MemberActivityCollectionRouter memberActivityCollectionRouter;
+    private final MeterRegistry meterRegistry;
+
+    // false 로 두면 파드 시작 시에는 인덱스를 만들지 않고, 별도 배포 Job 등에서 reconcile() 을 실행합니다.
+    @Value("${infrastructure.mongodb.member-activity.index-management.build-on-startup:true}")
+    private boolean buildOnStartup;
+
+    // flag: 로그/메트릭만 남김, drop: redundant 인덱스 삭제
+    @Value("${infrastructure.mongodb.member-activity.index-management.redundant-index-action:flag}")
+    private String redundantIndexAction;
+
+    private final Map<MemberActivitySchema, List<IndexSpec>> declaredIndexes = new EnumMap<>(MemberActivitySchema.class);
+    private final AtomicInteger redundantIndexCount = new AtomicInteger();
+    private final AtomicInteger unmanagedIndexCount = new AtomicInteger();
+
+    /**
+     * 인덱스 이름, 키, 옵션 (createIndexes 명령의 index spec 과 같은 형태)
+     */
+    public record IndexSpec(String name, Document keys, Document options) {
+        boolean sameKeys(IndexSpec other) {
+            return keyEntries(keys).equals(keyEntries(other.keys));
+        }
+
+        /**
+         * 다른 인덱스 키의 prefix 인지 여부 (방향을 모두 뒤집은 경우 포함, 같은 키는 제외)
+         */
+        boolean isPrefixOf(IndexSpec other) {
+            List<Map.Entry<String, Object>> mine = keyEntries(keys);
+            List<Map.Entry<String, Object>> theirs = keyEntries(other.keys);
+            if (mine.size() >= theirs.size()) {
+                return false;
+            }
+            List<Map.Entry<String, Object>> prefix = theirs.subList(0, mine.size());
+            return mine.equals(prefix) || mine.equals(reversed(prefix));
+        }
+
+        boolean isSpecial() {
+            return options.getBoolean("unique", false)
+                    || options.getBoolean("sparse", false)
+                    || options.containsKey("partialFilterExpression")
+                    || options.containsKey("expireAfterSeconds");
+        }
+
+        Document toSpec() {
+            Document spec = new Document("key", keys);
+            spec.putAll(options);
+            return spec;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("member.activity.index.redundant", redundantIndexCount, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("member.activity.index.unmanaged", unmanagedIndexCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (!buildOnStartup) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("❌ Failed to reconcile member activity indexes", e);
+        }
+    }
+
+    /**
+     * 모든 member_activities 컬렉션에 선언된 인덱스를 만들고, redundant/미관리 인덱스를 점검합니다.
+     */
+    public synchronized void reconcile() {
+        int redundant = 0;
+        int unmanaged = 0;
+        for (String collectionName : mongoTemplate.getCollectionNames()) {
+            MemberActivitySchema schema = memberActivityCollectionRouter.schemaOf(collectionName);
+            if (schema == null) {
+                continue;
+            }
+            ensureIndexes(collectionName, schema);
+
+            List<IndexSpec> existing = existingIndexes(collectionName);
+            for (IndexSpec index : existing) {
+                if (ID_INDEX_NAME.equals(index.name()) || isDeclared(index, schema)) {
+                    continue;
+                }
+                if (isRedundant(index, existing)) {
+                    redundant++;
+                    handleRedundant(collectionName, index);
+                } else {
+                    unmanaged++;
+                    log.warn("Unmanaged member activity index - collection: {}, index: {}, keys: {}", collectionName, index.name(), index.keys().toJson());
+                }
+            }
+        }
+        redundantIndexCount.set(redundant);
+        unmanagedIndexCount.set(unmanaged);
+        log.info("Reconciled member activity indexes - redundant: {}, unmanaged: {}", redundant, unmanaged);
+    }
+
+    /**
+     * 선언된 인덱스 중 컬렉션에 없는 인덱스만 생성합니다. (같은 키의 인덱스가 이름만 다르게 있으면 있는 것으로 간주)
+     */
+    public void ensureIndexes(String collectionName, MemberActivitySchema schema) {
+        List<IndexSpec> existing = existingIndexes(collectionName);
+        List<Document> missing = new ArrayList<>();
+        for (IndexSpec declared : declaredIndexes(schema)) {
+            if (existing.stream().noneMatch(declared::sameKeys)) {
+                missing.add(declared.toSpec());
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        mongoTemplate.getDb().runCommand(new Document("createIndexes", collectionName).append("indexes", missing));
+        log.info("Created member activity indexes - collection: {}, indexes: {}", collectionName,
+                missing.stream().map(spec -> spec.getString("name")).toList());
+    }
+
+    public synchronized List<IndexSpec> declaredIndexes(MemberActivitySchema schema) {
+        return declaredIndexes.computeIfAbsent(schema, this::resolveIndexes);
+    }
+
+    private List<IndexSpec> resolveIndexes(MemberActivitySchema schema) {
+        List<IndexSpec> indexes = new ArrayList<>();
+        for (IndexDefinition indexDefinition : new MongoPersistentEntityIndexResolver(mongoMappingContext).resolveIndexFor(schema.entityClass())) {
+            Document options = new Document(indexDefinition.getIndexOptions());
+            indexes.add(new IndexSpec(options.getString("name"), new Document(indexDefinition.getIndexKeys()), options));
+        }
+        return List.copyOf(indexes);
+    }
+
+    private List<IndexSpec> existingIndexes(String collectionName) {
+        List<IndexSpec> indexes = new ArrayList<>();
+        if (!mongoTemplate.collectionExists(collectionName)) {
+            return indexes;
+        }
+        for (Document index : mongoTemplate.getCollection(collectionName).listIndexes()) {
+            Document options = new Document(index);
+            options.remove("key");
+            options.remove("v");
+            indexes.add(new IndexSpec(index.getString("name"), index.get("key", Document.class), options));
+        }
+        return indexes;
+    }
+
+    private boolean isDeclared(IndexSpec index, MemberActivitySchema schema) {
+        return declaredIndexes(schema).stream().anyMatch(index::sameKeys);
+    }
+
+    private boolean isRedundant(IndexSpec index, List<IndexSpec> existing) {
+        return !index.isSpecial() && existing.stream().anyMatch(index::isPrefixOf);
+    }
+
+    private void handleRedundant(String collectionName, IndexSpec index) {
+        if ("drop".equalsIgnoreCase(redundantIndexAction)) {
+            mongoTemplate.indexOps(collectionName).dropIndex(index.name());
+            log.info("Dropped redundant member activity index - collection: {}, index: {}", collectionName, index.name());
+            return;
+        }
+        log.warn("Redundant member activity index - collection: {}, index: {}, keys: {}", collectionName, index.name(), index.keys().toJson());
+    }
+
+    /**
+     * 인덱스 키를 순서가 있는 (필드, 방향) 목록으로 바꿉니다. (Document 의 equals 는 순서를 보지 않고, 방향 값은 1 / 1.0 / 1L 이 섞일 수 있음)
+     */
+    private static List<Map.Entry<String, Object>> keyEntries(Document keys) {
+        List<Map.Entry<String, Object>> entries = new ArrayList<>();
+        keys.forEach((field, direction) -> entries.add(Map.entry(field, normalize(direction))));
+        return entries;
+    }
+
+    private static Object normalize(Object direction) {
+        if (direction instanceof Number number) {
+            return number.doubleValue() < 0 ? -1 : 1;
+        }
+        return direction;
+    }
+
+    private static List<Map.Entry<String, Object>> reversed(List<Map.Entry<String, Object>> entries) {
+        List<Map.Entry<String, Object>> reversed = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : entries) {
+            Object direction = entry.getValue();
+            reversed.add(Map.entry(entry.getKey(), direction instanceof Integer sign ? -sign : direction));
+        }
+        return reversed;
+    }
+}
@@ -1,16 +1,35 @@
 package click.dailyfeed.activity.domain.member.activity.repository.mongo;
 
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityCompactDocument;
 import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityCollectionRouter.SchemaCollection;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -18,9 +37,22 @@ import java.time.LocalDateTime;
 public class MemberActivityMongoTemplate {
 
     private final MongoTemplate mongoTemplate;
+    private final MemberActivityCollectionManager memberActivityCollectionManager;
+    private final MemberActivityCollectionRouter memberActivityCollectionRouter;
+    private final MemberActivityWriteConcernTemplates memberActivityWriteConcernTemplates;
+    private final MemberActivityTypeCodes memberActivityTypeCodes;
+
+    @Value("${infrastructure.mongodb.member-activity.retention-days:90}")
+    private int retentionDays;
+
+    // daily 모드에서 한번의 $unionWith 조회로 묶어 읽는 일수
+    @Value("${infrastructure.mongodb.member-activity.read-batch-days:14}")
+    private int readBatchDays;
 
     /**
-     * MemberActivityDocument를 저장합니다.
+     * MemberActivityDocument를 저장합니다. (저장 위치는 MemberActivityCollectionRouter 의 storage-mode 를 따름)
+     * write concern 은 문서의 MemberActivityWriteCategory 별 설정을 따릅니다. (unacknowledged 는 허용하지 않으므로 결과는 항상 acknowledged)
+     * 문서 형태는 MemberActivityCollectionRouter 의 쓰기 스키마(v1/v2)를 따릅니다.
      * - messageKey가 있는 경우: messageKey로 조회하여 upsert (중복 방지)
      * - messageKey가 없는 경우: 단순 insert
      *
@@ -33,13 +65,48 @@ public class MemberActivityMongoTemplate {
             return upsertByMessageKey(document);
         } else {
             // messageKey가 없는 경우: 단순 insert
-            mongoTemplate.insert(document);
+            Object entity = toWriteEntity(document, LocalDateTime.now());
+            writeTemplate(document).insert(entity, writeCollection(document));
             log.debug("Inserted MemberActivityDocument without messageKey: memberId={}, activityType={}",
                     document.getMemberId(), document.getMemberActivityType());
             return null;
         }
     }
 
+    /**
+     * REST 요청으로 만든 MemberActivityDocument를 쓰기 스키마에 맞춰 insert 합니다.
+     *
+     * @param document 저장할 MemberActivityDocument
+     * @return 저장된 문서 (v2 로 저장한 경우 v1 형태로 변환한 문서)
+     */
+    public MemberActivityDocument insertMemberActivity(MemberActivityDocument document) {
+        Object entity = toWriteEntity(document, LocalDateTime.now());
+        Object saved = writeTemplate(document).insert(entity, writeCollection(document));
+        if (saved instanceof MemberActivityCompactDocument compactDocument) {
+            return compactDocument.toMemberActivityDocument(document.getMemberActivityType());
+        }
+        return (MemberActivityDocument) saved;
+    }
+
+    /**
+     * 트랜잭션 없이 MemberActivityDocument를 insert 합니다.
+     * message_key unique 인덱스(uk_message_key)가 멱등성을 보장하므로 조회 없이 insert 를 먼저 시도하고,
+     * duplicate key(E11000) 는 이미 반영된 메시지로 간주합니다.
+     *
+     * @param document 저장할 MemberActivityDocument
+     * @return 새로 저장되었는지 여부 (이미 같은 messageKey 의 문서가 있으면 false)
+     */
+    public boolean insertIfAbsent(MemberActivityDocument document) {
+        try {
+            Object entity = toWriteEntity(document, LocalDateTime.now());
+            writeTemplate(document).insert(entity, writeCollection(document));
+            return true;
+        } catch (DuplicateKeyException e) {
+            log.debug("MemberActivityDocument already applied: messageKey={}", document.getMessageKey());
+            return false;
+        }
+    }
+
     /**
      * messageKey로 조회하여 upsert를 수행합니다.
      * 동일한 messageKey가 있으면 업데이트, 없으면 삽입합니다.
@@ -48,24 +115,18 @@ public class MemberActivityMongoTemplate {
      * @return UpdateResult (matched count, modified count, upserted id 포함)
      */
     private UpdateResult upsertByMessageKey(MemberActivityDocument document) {
-        Query query = new Query(Criteria.where("message_key").is(document.getMessageKey()));
+        MemberActivitySchema schema = memberActivityCollectionRouter.writeSchema();
+        Update update = messageKeyUpdate(schema, document, LocalDateTime.now());
+        UpdateResult result = writeTemplate(document).upsert(MemberActivityQueries.messageKey(schema, document.getMessageKey()), update,
+                schema.entityClass(), writeCollection(document));
 
-        Update update = new Update()
-                .set("member_id", document.getMemberId())
-                .set("post_id", document.getPostId())
-                .set("comment_id", document.getCommentId())
-                .set("member_activity_type", document.getMemberActivityType())
-                .set("message_key", document.getMessageKey())
-                .setOnInsert("created_at", LocalDateTime.now())
-                .set("updated_at", LocalDateTime.now());
-
-        UpdateResult result = mongoTemplate.upsert(query, update, MemberActivityDocument.class);
-
-        log.debug("Upserted MemberActivityDocument: messageKey={}, matched={}, modified={}, upsertedId={}",
-                document.getMessageKey(),
-                result.getMatchedCount(),
-                result.getModifiedCount(),
-                result.getUpsertedId());
+        if (log.isDebugEnabled() && result.wasAcknowledged()) {
+            log.debug("Upserted MemberActivityDocument: messageKey={}, matched={}, modified={}, upsertedId={}",
+                    document.getMessageKey(),
+                    result.getMatchedCount(),
+                    result.getModifiedCount(),
+                    result.getUpsertedId());
+        }
 
         return result;
     }
@@ -76,8 +137,291 @@ public class MemberActivityMongoTemplate {
      * @param documents 저장할 MemberActivityDocument 리스트
      */
     public void upsertAll(Iterable<MemberActivityDocument> documents) {
-        for (MemberActivityDocument document : documents) {
-            upsertMemberActivity(document);
+        List<MemberActivityDocument> list = new ArrayList<>();
+        documents.forEach(list::add);
+        bulkUpsertMemberActivities(list);
+    }
+
+    /**
+     * 여러 MemberActivityDocument를 하나의 unordered bulk write 로 저장합니다.
+     * - messageKey가 있는 경우: messageKey로 조회하여 upsert (중복 방지)
+     * - messageKey가 없는 경우: 단순 insert
+     * 일부 문서가 실패하더라도 나머지 문서는 저장되며, 실패한 문서의 인덱스를 반환합니다.
+     *
+     * @param documents 저장할 MemberActivityDocument 리스트
+     * @return 저장에 실패한 문서의 인덱스 (documents 기준)
+     */
+    public Set<Integer> bulkUpsertMemberActivities(List<MemberActivityDocument> documents) {
+        if (documents.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Integer> failedIndexes = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        MemberActivitySchema schema = memberActivityCollectionRouter.writeSchema();
+        groupByWriteTarget(documents, now, MemberActivityWriteCategory::of).forEach((target, indexes) -> {
+            MemberActivityWriteCategory category = target.category();
+            BulkOperations bulkOperations = bulkOps(target, schema);
+            for (int index : indexes) {
+                MemberActivityDocument document = documents.get(index);
+                if (document.getMessageKey() != null && !document.getMessageKey().isEmpty()) {
+                    bulkOperations.upsert(MemberActivityQueries.messageKey(schema, document.getMessageKey()), messageKeyUpdate(schema, document, now));
+                } else {
+                    bulkOperations.insert(toWriteEntity(document, now));
+                }
+            }
+
+            try {
+                BulkWriteResult result = bulkOperations.execute();
+                if (log.isDebugEnabled() && result.wasAcknowledged()) {
+                    log.debug("Bulk upserted MemberActivityDocuments: category={}, size={}, inserted={}, upserted={}, matched={}",
+                            category, indexes.size(), result.getInsertedCount(), result.getUpserts().size(), result.getMatchedCount());
+                }
+            } catch (BulkOperationException e) {
+                e.getErrors().forEach(error -> failedIndexes.add(indexes.get(error.getIndex())));
+                log.warn("Bulk upsert partially failed: category={}, size={}, failed={}", category, indexes.size(), e.getErrors().size());
+            }
+        });
+        return failedIndexes;
+    }
+
+    /**
+     * 여러 MemberActivityDocument를 하나의 unordered bulk insert 로 저장합니다.
+     * duplicate key(E11000) 로 실패한 문서는 이미 반영된 것으로 간주하고, 그 외의 사유로 실패한 문서와 구분하여 반환합니다.
+     *
+     * @param documents 저장할 MemberActivityDocument 리스트
+     * @return 실패/중복 문서의 인덱스 (documents 기준)
+     */
+    public MemberActivityBulkInsertResult bulkInsertMemberActivities(List<MemberActivityDocument> documents) {
+        if (documents.isEmpty()) {
+            return MemberActivityBulkInsertResult.allInserted();
+        }
+
+        Set<Integer> failedIndexes = new HashSet<>();
+        Set<Integer> duplicatedIndexes = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        MemberActivitySchema schema = memberActivityCollectionRouter.writeSchema();
+        groupByWriteTarget(documents, now, MemberActivityWriteCategory::of).forEach((target, indexes) -> {
+            MemberActivityWriteCategory category = target.category();
+            BulkOperations bulkOperations = bulkOps(target, schema);
+            indexes.forEach(index -> bulkOperations.insert(toWriteEntity(documents.get(index), now)));
+
+            try {
+                BulkWriteResult result = bulkOperations.execute();
+                if (log.isDebugEnabled() && result.wasAcknowledged()) {
+                    log.debug("Bulk inserted MemberActivityDocuments: category={}, size={}, inserted={}", category, indexes.size(), result.getInsertedCount());
+                }
+            } catch (BulkOperationException e) {
+                for (BulkWriteError error : e.getErrors()) {
+                    if (ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+                        duplicatedIndexes.add(indexes.get(error.getIndex()));
+                    } else {
+                        failedIndexes.add(indexes.get(error.getIndex()));
+                    }
+                }
+                log.debug("Bulk insert skipped already applied documents: category={}, size={}, errors={}",
+                        category, indexes.size(), e.getErrors().size());
+            }
+        });
+
+        if (failedIndexes.isEmpty() && duplicatedIndexes.isEmpty()) {
+            return MemberActivityBulkInsertResult.allInserted();
+        }
+        return new MemberActivityBulkInsertResult(failedIndexes, duplicatedIndexes);
+    }
+
+    /**
+     * 시간 창 단위로 합친 조회성 활동 문서를 coalesce_key 로 upsert 합니다.
+     * 같은 시간 창의 문서가 이미 있으면 count 를 더하고 last_seen_at 을 갱신합니다.
+     * message_key 가 없어 멱등하지 않으므로 같은 이벤트를 다시 반영하면 count 가 다시 더해집니다. (at-least-once, MemberActivityCoalescer 참고)
+     *
+     * @param document MemberActivityDocument.ofCoalescedActivity 로 만든 문서
+     * @return UpdateResult
+     */
+    public UpdateResult upsertCoalescedActivity(MemberActivityDocument document) {
+        MemberActivitySchema schema = memberActivityCollectionRouter.writeSchema();
+        Update update = coalesceUpdate(schema, document, LocalDateTime.now());
+        return memberActivityWriteConcernTemplates.forCategory(MemberActivityWriteCategory.COALESCED)
+                .upsert(MemberActivityQueries.coalesceKey(schema, document.getCoalesceKey()), update, schema.entityClass(), writeCollection(document));
+    }
+
+    /**
+     * 시간 창 단위로 합친 조회성 활동 문서들을 하나의 unordered bulk upsert 로 저장합니다. (upsertCoalescedActivity 와 같이 at-least-once)
+     *
+     * @param documents MemberActivityDocument.ofCoalescedActivity 로 만든 문서 리스트
+     * @return 저장에 실패한 문서의 인덱스 (documents 기준)
+     */
+    public Set<Integer> bulkUpsertCoalescedActivities(List<MemberActivityDocument> documents) {
+        if (documents.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Integer> failedIndexes = new HashSet<>();
+        MemberActivitySchema schema = memberActivityCollectionRouter.writeSchema();
+        LocalDateTime now = LocalDateTime.now();
+        groupByWriteTarget(documents, now, document -> MemberActivityWriteCategory.COALESCED).forEach((target, indexes) -> {
+            BulkOperations bulkOperations = bulkOps(target, schema);
+            indexes.forEach(index -> bulkOperations.upsert(MemberActivityQueries.coalesceKey(schema, documents.get(index).getCoalesceKey()), coalesceUpdate(schema, documents.get(index), now)));
+
+            try {
+                BulkWriteResult result = bulkOperations.execute();
+                if (log.isDebugEnabled() && result.wasAcknowledged()) {
+                    log.debug("Bulk upserted coalesced MemberActivityDocuments: size={}, upserted={}, matched={}",
+                            indexes.size(), result.getUpserts().size(), result.getMatchedCount());
+                }
+            } catch (BulkOperationException e) {
+                e.getErrors().forEach(error -> failedIndexes.add(indexes.get(error.getIndex())));
+                log.warn("Bulk upsert of coalesced activities partially failed: size={}, failed={}", indexes.size(), e.getErrors().size());
+            }
+        });
+        return failedIndexes;
+    }
+
+    /**
+     * 특정 회원의 활동 내역을 (created_at, _id) keyset 기준 최신순으로 조회합니다.
+     * skip 없이 커서 이후의 문서만 인덱스(idx_member_created_id / idx_member_type_created_id, v2 는 idx_m_ts_id / idx_m_t_ts_id) 범위로 읽습니다.
+     * daily 모드에서는 일자별 컬렉션을 read-batch-days 일씩 $unionWith 로 묶어 한번에 조회하므로, 보관 기간 전체를 읽어도 왕복 횟수는 (보관 일수 / read-batch-days) 회 이하입니다.
+     * 문서는 created_at 일자의 컬렉션에 저장되므로, 최신 일자 묶음부터 읽어 limit 건이 차면 이후 묶음은 읽지 않습니다.
+     * v2 로 쓰는 동안에는 v2, v1 컬렉션을 함께 읽고, v2 문서는 v1 형태로 변환해 반환합니다.
+     *
+     * @param memberId 회원 id
+     * @param memberActivityType 활동 타입 (null 이면 전체)
+     * @param cursorCreatedAt 이전 페이지 마지막 문서의 created_at (null 이면 첫 페이지)
+     * @param cursorId 이전 페이지 마지막 문서의 _id
+     * @param limit 최대 조회 건수
+     * @return 조회된 MemberActivityDocument 리스트 (최신순)
+     */
+    public List<MemberActivityDocument> findMemberActivities(Long memberId, MemberActivityType memberActivityType,
+                                                             LocalDateTime cursorCreatedAt, ObjectId cursorId, int limit) {
+        LocalDate to = cursorCreatedAt == null ? LocalDate.now() : cursorCreatedAt.toLocalDate();
+        LocalDate from = LocalDate.now().minusDays(retentionDays);
+        Object cursorValue = cursorCreatedAt == null ? null : mongoTemplate.getConverter().convertToMongoType(cursorCreatedAt);
+        Function<MemberActivitySchema, Object> typeValueOf = schema -> memberActivityType == null ? null : typeValue(schema, memberActivityType);
+
+        List<MemberActivityDocument> result = new ArrayList<>();
+        for (LocalDate batchTo = to; !batchTo.isBefore(from) && result.size() < limit; batchTo = batchTo.minusDays(readBatchDays)) {
+            LocalDate batchFrom = batchTo.minusDays(readBatchDays - 1L).isBefore(from) ? from : batchTo.minusDays(readBatchDays - 1L);
+            List<SchemaCollection> collections = memberActivityCollectionRouter.readCollectionsBetween(batchFrom, batchTo);
+            List<Document> pipeline = MemberActivityQueries.memberActivityUnionPage(collections, memberId, typeValueOf, cursorValue, cursorId, limit - result.size());
+            for (Document document : mongoTemplate.getCollection(collections.get(0).name()).aggregate(pipeline)) {
+                result.add(toMemberActivityDocument(document));
+            }
+            if (!memberActivityCollectionRouter.isDaily()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private MemberActivityDocument toMemberActivityDocument(Document document) {
+        if (MemberActivitySchema.V2.name().equals(document.getString(MemberActivityQueries.SCHEMA_FIELD))) {
+            MemberActivityCompactDocument compactDocument = mongoTemplate.getConverter().read(MemberActivityCompactDocument.class, document);
+            return compactDocument.toMemberActivityDocument(memberActivityTypeCodes.type(compactDocument.getTypeCode()));
+        }
+        return mongoTemplate.getConverter().read(MemberActivityDocument.class, document);
+    }
+
+    private Object typeValue(MemberActivitySchema schema, MemberActivityType memberActivityType) {
+        return schema == MemberActivitySchema.V2 ? memberActivityTypeCodes.code(memberActivityType) : memberActivityType.name();
+    }
+
+    /**
+     * 쓰기 스키마에 맞는 저장 대상 객체를 만듭니다.
+     * _id 와 created_at 이 없으면 여기서 정하므로, 저장 후 document 의 값이 DB 에 저장된 값과 같습니다. (최근 활동 캐시의 커서로 사용)
+     */
+    private Object toWriteEntity(MemberActivityDocument document, LocalDateTime now) {
+        document.assignIdentity(now);
+        if (memberActivityCollectionRouter.writeSchema() == MemberActivitySchema.V1) {
+            return document;
+        }
+        return MemberActivityCompactDocument.of(document, memberActivityTypeCodes.code(document.getMemberActivityType()), document.getCreatedAt());
+    }
+
+    private MongoTemplate writeTemplate(MemberActivityDocument document) {
+        return memberActivityWriteConcernTemplates.forCategory(MemberActivityWriteCategory.of(document));
+    }
+
+    /**
+     * 문서의 created_at 일자 컬렉션 (_id, created_at 이 정해진 뒤 호출)
+     */
+    private String writeCollection(MemberActivityDocument document) {
+        return memberActivityCollectionManager.writeCollection(document.getCreatedAt());
+    }
+
+    private BulkOperations bulkOps(WriteTarget target, MemberActivitySchema schema) {
+        return memberActivityWriteConcernTemplates.forCategory(target.category())
+                .bulkOps(BulkOperations.BulkMode.UNORDERED, schema.entityClass(), target.collectionName());
+    }
+
+    /**
+     * write concern 이 분류별로 다르고 저장 컬렉션이 created_at 일자별로 다르므로 bulk write 를 (분류, 컬렉션) 단위로 나눕니다. (값은 documents 기준 인덱스)
+     * 컬렉션을 정하기 위해 _id 와 created_at 을 여기서 먼저 정합니다.
+     */
+    private Map<WriteTarget, List<Integer>> groupByWriteTarget(List<MemberActivityDocument> documents, LocalDateTime now,
+                                                               Function<MemberActivityDocument, MemberActivityWriteCategory> categoryOf) {
+        Map<WriteTarget, List<Integer>> indexesByTarget = new LinkedHashMap<>();
+        for (int i = 0; i < documents.size(); i++) {
+            MemberActivityDocument document = documents.get(i);
+            document.assignIdentity(now);
+            WriteTarget target = new WriteTarget(categoryOf.apply(document), writeCollection(document));
+            indexesByTarget.computeIfAbsent(target, key -> new ArrayList<>()).add(i);
         }
+        return indexesByTarget;
+    }
+
+    private record WriteTarget(MemberActivityWriteCategory category, String collectionName) {
+    }
+
+    /**
+     * 새로 insert 되는 경우 document 에 미리 정한 _id, created_at 으로 저장합니다. (이미 있는 문서면 DB 의 값이 유지됨)
+     */
+    private Update messageKeyUpdate(MemberActivitySchema schema, MemberActivityDocument document, LocalDateTime now) {
+        document.assignIdentity(now);
+        if (schema == MemberActivitySchema.V2) {
+            // v2 문서는 저장 후 바뀌지 않으므로 insert 시점에만 기록 (k 는 조회 조건에서 채워짐)
+            return compactInsertUpdate(document, document.getCreatedAt());
+        }
+        return new Update()
+                .setOnInsert("_id", document.getId())
+                .set("member_id", document.getMemberId())
+                .set("post_id", document.getPostId())
+                .set("comment_id", document.getCommentId())
+                .set("member_activity_type", document.getMemberActivityType())
+                .set("message_key", document.getMessageKey())
+                .setOnInsert("created_at", document.getCreatedAt())
+                .set("updated_at", now);
+    }
+
+    /**
+     * 합친 문서는 MemberActivityCoalescer 가 정한 _id, created_at(시간 창 시작 시각)으로 insert 되므로 어느 파드에서 먼저 저장해도 같은 값입니다.
+     */
+    private Update coalesceUpdate(MemberActivitySchema schema, MemberActivityDocument document, LocalDateTime now) {
+        document.assignIdentity(now);
+        if (schema == MemberActivitySchema.V2) {
+            return compactInsertUpdate(document, document.getCreatedAt())
+                    .inc(schema.countField(), document.getCount())
+                    .max(schema.lastSeenAtField(), document.getLastSeenAt());
+        }
+        return new Update()
+                .setOnInsert("_id", document.getId())
+                .setOnInsert("member_id", document.getMemberId())
+                .setOnInsert("post_id", document.getPostId())
+                .setOnInsert("comment_id", document.getCommentId())
+                .setOnInsert("member_activity_type", document.getMemberActivityType())
+                .setOnInsert("created_at", document.getCreatedAt())
+                .inc("count", document.getCount())
+                .max("last_seen_at", document.getLastSeenAt())
+                .set("updated_at", now);
+    }
+
+    private Update compactInsertUpdate(MemberActivityDocument document, LocalDateTime timestamp) {
+        MemberActivitySchema schema = MemberActivitySchema.V2;
+        return new Update()
+                .setOnInsert("_id", document.getId())
+                .setOnInsert(schema.memberIdField(), document.getMemberId())
+                .setOnInsert(schema.postIdField(), document.getPostId())
+                .setOnInsert(schema.commentIdField(), document.getCommentId())
+                .setOnInsert(schema.typeField(), memberActivityTypeCodes.code(document.getMemberActivityType()))
+                .setOnInsert(schema.createdAtField(), timestamp);
     }
 }
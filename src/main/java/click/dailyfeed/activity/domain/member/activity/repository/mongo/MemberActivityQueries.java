@@ -0,0 +1,131 @@
+package click.dailyfeed.activity.domain.member.activity.repository.mongo;
+
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityCompactDocument;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityCollectionRouter.SchemaCollection;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * member_activities 컬렉션에 보내는 조회 조건
+ * 쿼리 플랜 테스트(MemberActivityQueryPlanTest)가 같은 조건으로 explain() 을 실행하므로, 새 조회는 이곳에 추가합니다.
+ */
+final class MemberActivityQueries {
+    static final String SORT_CREATED_AT_FIELD = "_sort_created_at";
+    static final String SCHEMA_FIELD = "_schema";
+
+    private MemberActivityQueries() {
+    }
+
+    /**
+     * 특정 회원의 활동 내역 (created_at, _id) keyset 페이지 (idx_member_created_id / idx_member_type_created_id, v2 는 idx_m_ts_id / idx_m_t_ts_id)
+     *
+     * @param typeValue 활동 타입 조건 (v1 은 MemberActivityType, v2 는 타입 코드, null 이면 전체)
+     */
+    static Query memberActivityPage(MemberActivitySchema schema, Long memberId, Object typeValue,
+                                    LocalDateTime cursorCreatedAt, ObjectId cursorId, int limit) {
+        String createdAtField = schema.createdAtField();
+        Criteria criteria = memberActivityPageCriteria(schema, memberId, typeValue, cursorCreatedAt, cursorId);
+
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Order.desc(createdAtField), Sort.Order.desc("_id")))
+                .limit(limit);
+        query.fields()
+                .include(schema.memberIdField())
+                .include(schema.postIdField())
+                .include(schema.commentIdField())
+                .include(schema.typeField())
+                .include(createdAtField);
+        if (schema == MemberActivitySchema.V1) {
+            query.fields().include("updated_at");
+        }
+        return query;
+    }
+
+    /**
+     * 여러 일자별 컬렉션의 활동 내역 keyset 페이지를 $unionWith 로 묶어 한번에 조회합니다.
+     * 컬렉션마다 memberActivityPage 와 같은 조건/정렬/limit 으로 인덱스 범위만 읽은 뒤, created_at(SORT_CREATED_AT_FIELD), _id 역순으로 합쳐 limit 건을 반환합니다.
+     * 결과 문서에는 스키마 이름(SCHEMA_FIELD)이 붙습니다.
+     *
+     * @param typeValueOf 스키마별 활동 타입 조건 (v1 은 타입 이름, v2 는 타입 코드, null 을 반환하면 전체)
+     * @param cursorCreatedAt 이전 페이지 마지막 문서의 created_at (MongoTemplate 변환기로 변환한 값, null 이면 첫 페이지)
+     */
+    static List<Document> memberActivityUnionPage(List<SchemaCollection> collections, Long memberId, Function<MemberActivitySchema, Object> typeValueOf,
+                                                  Object cursorCreatedAt, ObjectId cursorId, int limit) {
+        List<Document> pipeline = new ArrayList<>(collectionPage(collections.get(0).schema(), memberId, typeValueOf, cursorCreatedAt, cursorId, limit));
+        for (SchemaCollection collection : collections.subList(1, collections.size())) {
+            pipeline.add(new Document("$unionWith", new Document("coll", collection.name())
+                    .append("pipeline", collectionPage(collection.schema(), memberId, typeValueOf, cursorCreatedAt, cursorId, limit))));
+        }
+        pipeline.add(new Document("$sort", new Document(SORT_CREATED_AT_FIELD, -1).append("_id", -1)));
+        pipeline.add(new Document("$limit", limit));
+        return pipeline;
+    }
+
+    private static List<Document> collectionPage(MemberActivitySchema schema, Long memberId, Function<MemberActivitySchema, Object> typeValueOf,
+                                                 Object cursorCreatedAt, ObjectId cursorId, int limit) {
+        Object typeValue = typeValueOf.apply(schema);
+        Query query = memberActivityPage(schema, memberId, typeValue, null, null, limit);
+        return List.of(
+                new Document("$match", memberActivityPageCriteria(schema, memberId, typeValue, cursorCreatedAt, cursorId).getCriteriaObject()),
+                new Document("$sort", query.getSortObject()),
+                new Document("$limit", limit),
+                new Document("$project", query.getFieldsObject()),
+                new Document("$addFields", new Document(SORT_CREATED_AT_FIELD, "$" + schema.createdAtField()).append(SCHEMA_FIELD, schema.name()))
+        );
+    }
+
+    private static Criteria memberActivityPageCriteria(MemberActivitySchema schema, Long memberId, Object typeValue,
+                                                       Object cursorCreatedAt, ObjectId cursorId) {
+        String createdAtField = schema.createdAtField();
+        Criteria criteria = Criteria.where(schema.memberIdField()).is(memberId);
+        if (typeValue != null) {
+            criteria.and(schema.typeField()).is(typeValue);
+        }
+        if (cursorCreatedAt != null) {
+            // created_at 은 인덱스 범위(<=)로, 같은 created_at 내의 _id 비교는 잔여 필터로 처리
+            criteria.and(createdAtField).lte(cursorCreatedAt)
+                    .orOperator(
+                            Criteria.where(createdAtField).lt(cursorCreatedAt),
+                            Criteria.where("_id").lt(cursorId)
+                    );
+        }
+        return criteria;
+    }
+
+    /**
+     * message_key 멱등 upsert 조건 (uk_message_key, v2 는 uk_k)
+     */
+    static Query messageKey(MemberActivitySchema schema, String messageKey) {
+        if (schema == MemberActivitySchema.V2) {
+            return new Query(Criteria.where(schema.messageKeyField()).is(MemberActivityCompactDocument.hashKey(messageKey)));
+        }
+        return new Query(Criteria.where(schema.messageKeyField()).is(messageKey));
+    }
+
+    /**
+     * 합친 조회성 문서 upsert 조건 (uk_coalesce_key, v2 는 uk_ck)
+     */
+    static Query coalesceKey(MemberActivitySchema schema, String coalesceKey) {
+        if (schema == MemberActivitySchema.V2) {
+            return new Query(Criteria.where(schema.coalesceKeyField()).is(MemberActivityCompactDocument.hashKey(coalesceKey)));
+        }
+        return new Query(Criteria.where(schema.coalesceKeyField()).is(coalesceKey));
+    }
+
+    /**
+     * v1 → v2 마이그레이션 대상 (최신순, created_at 인덱스)
+     */
+    static Query newestFirst(int limit) {
+        return new Query()
+                .with(Sort.by(Sort.Order.desc("created_at"), Sort.Order.desc("_id")))
+                .limit(limit);
+    }
+}
@@ -0,0 +1,52 @@
+package click.dailyfeed.activity.domain.member.activity.repository.mongo;
+
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityCompactDocument;
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "infrastructure.mongodb.reactive.enabled", havingValue = "true")
+public class MemberActivityReactiveMongoTemplate {
+    private final MemberActivityReactiveWriteConcernTemplates memberActivityReactiveWriteConcernTemplates;
+    private final MemberActivityCollectionManager memberActivityCollectionManager;
+    private final MemberActivityCollectionRouter memberActivityCollectionRouter;
+    private final MemberActivityTypeCodes memberActivityTypeCodes;
+
+    /**
+     * 논블로킹으로 문서를 저장합니다. (daily 모드에서는 created_at 일자의 컬렉션)
+     * 쓰기 스키마가 v2 이면 MemberActivityCompactDocument 로 저장하고, v1 형태로 변환해 반환합니다.
+     * 활동 분류별 write concern 은 servlet 경로와 같은 설정(MemberActivityWriteCategory)을 따릅니다.
+     * 쓰기 컬렉션 준비(처음 쓰는 컬렉션의 인덱스 확인)와 v2 타입 코드 조회는 블로킹 MongoDB 호출이 될 수 있으므로 boundedElastic 에서 실행합니다.
+     */
+    public Mono<MemberActivityDocument> insertMemberActivity(MemberActivityDocument document) {
+        // 최근 활동 캐시에 저장된 값과 같은 (created_at, _id) 로 기록하기 위해 미리 정함
+        document.assignIdentity(LocalDateTime.now());
+        if (memberActivityCollectionRouter.writeSchema() == MemberActivitySchema.V1) {
+            return Mono.fromCallable(() -> memberActivityCollectionManager.writeCollection(document.getCreatedAt()))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(collectionName -> reactiveTemplate(document).insert(document, collectionName));
+        }
+
+        return Mono.fromCallable(() -> new CompactWrite(
+                        memberActivityCollectionManager.writeCollection(document.getCreatedAt()),
+                        MemberActivityCompactDocument.of(document, memberActivityTypeCodes.code(document.getMemberActivityType()), document.getCreatedAt())))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(write -> reactiveTemplate(document).insert(write.document(), write.collectionName()))
+                .map(saved -> saved.toMemberActivityDocument(document.getMemberActivityType()));
+    }
+
+    private ReactiveMongoTemplate reactiveTemplate(MemberActivityDocument document) {
+        return memberActivityReactiveWriteConcernTemplates.forCategory(MemberActivityWriteCategory.of(document));
+    }
+
+    private record CompactWrite(String collectionName, MemberActivityCompactDocument document) {
+    }
+}
@@ -0,0 +1,58 @@
+package click.dailyfeed.activity.domain.member.activity.repository.mongo;
+
+import com.mongodb.WriteConcern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 논블로킹 쓰기 경로용 MemberActivityWriteConcernTemplates 입니다.
+ * servlet 경로와 같은 분류별 write concern 설정을 읽어, 같은 write concern 을 쓰는 분류끼리 하나의 ReactiveMongoTemplate 을 공유합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "infrastructure.mongodb.reactive.enabled", havingValue = "true")
+public class MemberActivityReactiveWriteConcernTemplates {
+    private final Map<MemberActivityWriteCategory, ReactiveMongoTemplate> templates = new EnumMap<>(MemberActivityWriteCategory.class);
+
+    public MemberActivityReactiveWriteConcernTemplates(
+            ReactiveMongoTemplate reactiveMongoTemplate,
+            ReactiveMongoDatabaseFactory dailyfeedReactiveMongoDatabaseFactory,
+            MappingMongoConverter mappingMongoConverter,
+            MemberActivityWriteConcernProperties memberActivityWriteConcernProperties,
+            ApplicationContext applicationContext
+    ) {
+        Map<MemberActivityWriteCategory, String> configured = memberActivityWriteConcernProperties.getWriteConcern();
+        String defaultName = configured.get(MemberActivityWriteCategory.DEFAULT);
+        Map<WriteConcern, ReactiveMongoTemplate> byWriteConcern = new HashMap<>();
+
+        for (MemberActivityWriteCategory category : MemberActivityWriteCategory.values()) {
+            String name = configured.getOrDefault(category, defaultName);
+            if (name == null || name.isBlank()) {
+                templates.put(category, reactiveMongoTemplate);
+                continue;
+            }
+            WriteConcern writeConcern = MemberActivityWriteConcernTemplates.parse(name);
+            templates.put(category, byWriteConcern.computeIfAbsent(writeConcern, wc -> {
+                ReactiveMongoTemplate template = new ReactiveMongoTemplate(dailyfeedReactiveMongoDatabaseFactory, mappingMongoConverter);
+                template.setWriteConcern(wc);
+                // 직접 생성한 ReactiveMongoTemplate 에도 auditing(@CreatedDate) 등 entity callback 과 이벤트 발행이 적용되도록 연결
+                template.setApplicationContext(applicationContext);
+                return template;
+            }));
+            log.info("MemberActivity reactive write concern - category: {}, writeConcern: {}", category, name);
+        }
+    }
+
+    public ReactiveMongoTemplate forCategory(MemberActivityWriteCategory category) {
+        return templates.get(category);
+    }
+}
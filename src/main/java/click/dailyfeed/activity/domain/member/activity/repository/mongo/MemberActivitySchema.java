@@ -0,0 +1,84 @@
+package click.dailyfeed.activity.domain.member.activity.repository.mongo;
+
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityCompactDocument;
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+
+/**
+ * member_activities 문서 스키마
+ * - v1: MemberActivityDocument (긴 필드명, 타입은 enum 이름, created_at/updated_at, message_key 문자열)
+ * - v2: MemberActivityCompactDocument (축약 필드명, 타입은 정수 코드, 단일 타임스탬프, message_key/coalesce_key 는 해시 binary)
+ * v2 문서는 별도 컬렉션(member_activities_v2[_yyyyMMdd])에 저장하며, 조회는 v2 → v1 컬렉션 순서로 읽습니다.
+ */
+public enum MemberActivitySchema {
+    V1(MemberActivityDocument.class, "member_id", "post_id", "comment_id", "member_activity_type", "created_at", "message_key", "coalesce_key", "count", "last_seen_at"),
+    V2(MemberActivityCompactDocument.class, "m", "p", "c", "t", "ts", "k", "ck", "n", "ls");
+
+    private final Class<?> entityClass;
+    private final String memberIdField;
+    private final String postIdField;
+    private final String commentIdField;
+    private final String typeField;
+    private final String createdAtField;
+    private final String messageKeyField;
+    private final String coalesceKeyField;
+    private final String countField;
+    private final String lastSeenAtField;
+
+    MemberActivitySchema(Class<?> entityClass, String memberIdField, String postIdField, String commentIdField, String typeField, String createdAtField,
+                         String messageKeyField, String coalesceKeyField, String countField, String lastSeenAtField) {
+        this.entityClass = entityClass;
+        this.memberIdField = memberIdField;
+        this.postIdField = postIdField;
+        this.commentIdField = commentIdField;
+        this.typeField = typeField;
+        this.createdAtField = createdAtField;
+        this.messageKeyField = messageKeyField;
+        this.coalesceKeyField = coalesceKeyField;
+        this.countField = countField;
+        this.lastSeenAtField = lastSeenAtField;
+    }
+
+    public static MemberActivitySchema of(String name) {
+        return valueOf(name.trim().toUpperCase());
+    }
+
+    public Class<?> entityClass() {
+        return entityClass;
+    }
+
+    public String memberIdField() {
+        return memberIdField;
+    }
+
+    public String postIdField() {
+        return postIdField;
+    }
+
+    public String commentIdField() {
+        return commentIdField;
+    }
+
+    public String typeField() {
+        return typeField;
+    }
+
+    public String createdAtField() {
+        return createdAtField;
+    }
+
+    public String messageKeyField() {
+        return messageKeyField;
+    }
+
+    public String coalesceKeyField() {
+        return coalesceKeyField;
+    }
+
+    public String countField() {
+        return countField;
+    }
+
+    public String lastSeenAtField() {
+        return lastSeenAtField;
+    }
+}
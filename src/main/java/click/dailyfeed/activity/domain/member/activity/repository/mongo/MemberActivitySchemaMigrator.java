@@ -0,0 +1,168 @@
+package click.dailyfeed.activity.domain.member.activity.repository.mongo;
+
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityCompactDocument;
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쓰기 스키마가 v2 인 동안 v1 컬렉션의 문서를 v2 컬렉션으로 옮깁니다.
+ * 조회는 v2 → v1 순서로 읽으므로 최신 문서부터 옮기고, 옮긴 문서는 v1 에서 삭제합니다. (v2 에는 항상 v1 보다 최신 문서만 남음)
+ * 순서가 어긋나지 않도록 ordered bulk 로 저장해 실패한 문서 이후는 옮기지 않습니다.
+ * _id 를 유지하므로 여러 파드가 동시에 실행되거나 삭제 전에 중단되어도 duplicate key 로 걸러집니다.
+ * 합친 조회성 문서는 coalesce key 로 upsert 해 전환 직후 v2 에 생긴 같은 시간 창 문서와 건수를 합칩니다. (삭제 전에 중단되면 해당 문서의 건수는 중복 반영될 수 있음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberActivitySchemaMigrator {
+    private final MongoTemplate mongoTemplate;
+    private final MemberActivityCollectionManager memberActivityCollectionManager;
+    private final MemberActivityCollectionRouter memberActivityCollectionRouter;
+    private final MemberActivityTypeCodes memberActivityTypeCodes;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${infrastructure.mongodb.member-activity.schema-migration.enabled:false}")
+    private boolean enabled;
+
+    @Value("${infrastructure.mongodb.member-activity.schema-migration.batch-size:500}")
+    private int batchSize;
+
+    @Value("${infrastructure.mongodb.member-activity.schema-migration.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${infrastructure.mongodb.member-activity.retention-days:90}")
+    private int retentionDays;
+
+    private Counter migratedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void init() {
+        this.migratedCounter = Counter.builder("member.activity.schema-migration.migrated").register(meterRegistry);
+        this.failedCounter = Counter.builder("member.activity.schema-migration.failed").register(meterRegistry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${infrastructure.mongodb.member-activity.schema-migration.interval:10000}",
+            initialDelayString = "30000"
+    )
+    public synchronized void migrate() {
+        if (!enabled || memberActivityCollectionRouter.writeSchema() != MemberActivitySchema.V2) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(retentionDays);
+        List<String> sources = memberActivityCollectionRouter.collectionsBetween(from, today, MemberActivitySchema.V1);
+        List<String> targets = memberActivityCollectionRouter.collectionsBetween(from, today, MemberActivitySchema.V2);
+
+        int batches = 0;
+        try {
+            for (int i = 0; i < sources.size() && batches < maxBatchesPerRun; i++) {
+                String source = sources.get(i);
+                if (!mongoTemplate.collectionExists(source)) {
+                    continue;
+                }
+                memberActivityCollectionManager.prepare(targets.get(i), MemberActivitySchema.V2);
+                boolean remaining = true;
+                while (remaining && batches < maxBatchesPerRun) {
+                    remaining = migrateBatch(source, targets.get(i));
+                    batches++;
+                }
+            }
+        } catch (MigrationFailedException e) {
+            log.warn("Schema migration stopped - {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("❌ Failed to migrate member activities to schema v2", e);
+        }
+    }
+
+    /**
+     * source 의 최신 문서 batch-size 건을 target 으로 옮깁니다.
+     *
+     * @return source 에 옮길 문서가 더 남아있을 수 있는지 여부
+     */
+    private boolean migrateBatch(String source, String target) {
+        List<MemberActivityDocument> documents = mongoTemplate.find(MemberActivityQueries.newestFirst(batchSize), MemberActivityDocument.class, source);
+        if (documents.isEmpty()) {
+            return false;
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, MemberActivityCompactDocument.class, target);
+        for (MemberActivityDocument document : documents) {
+            Integer typeCode = memberActivityTypeCodes.code(document.getMemberActivityType());
+            if (document.getCoalesceKey() != null) {
+                bulkOperations.upsert(
+                        new Query(Criteria.where("ck").is(MemberActivityCompactDocument.hashKey(document.getCoalesceKey()))),
+                        new Update()
+                                .setOnInsert("_id", document.getId())
+                                .setOnInsert("m", document.getMemberId())
+                                .setOnInsert("p", document.getPostId())
+                                .setOnInsert("c", document.getCommentId())
+                                .setOnInsert("t", typeCode)
+                                .setOnInsert("ts", document.getCreatedAt())
+                                .inc("n", document.getCount())
+                                .max("ls", document.getLastSeenAt())
+                );
+            } else {
+                bulkOperations.insert(MemberActivityCompactDocument.of(document, typeCode, document.getCreatedAt()));
+            }
+        }
+
+        // ordered bulk 는 첫 오류에서 멈추므로 오류 이전 문서까지만 옮겨진 상태
+        int processed = documents.size();
+        BulkWriteError error = null;
+        try {
+            bulkOperations.execute();
+        } catch (BulkOperationException e) {
+            error = e.getErrors().get(0);
+            // 이미 옮겨진 문서(같은 _id 또는 같은 message_key)는 옮긴 것으로 간주
+            boolean duplicated = ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY;
+            processed = error.getIndex() + (duplicated ? 1 : 0);
+            if (duplicated) {
+                error = null;
+            }
+        }
+
+        List<ObjectId> migratedIds = new ArrayList<>();
+        for (int i = 0; i < processed; i++) {
+            migratedIds.add(documents.get(i).getId());
+        }
+        if (!migratedIds.isEmpty()) {
+            mongoTemplate.remove(new Query(Criteria.where("_id").in(migratedIds)), source);
+        }
+        migratedCounter.increment(migratedIds.size());
+
+        if (error != null) {
+            failedCounter.increment();
+            throw new MigrationFailedException(source + " -> " + target + ", code: " + error.getCode() + ", message: " + error.getMessage());
+        }
+        return processed < documents.size() || documents.size() == batchSize;
+    }
+
+    private static class MigrationFailedException extends RuntimeException {
+        MigrationFailedException(String message) {
+            super(message);
+        }
+    }
+}
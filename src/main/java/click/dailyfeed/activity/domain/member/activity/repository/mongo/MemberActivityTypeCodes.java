@@ -0,0 +1,114 @@
+package click.dailyfeed.activity.domain.member.activity.repository.mongo;
+
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * v2 스키마에서 MemberActivityType 대신 저장하는 정수 코드
+ * enum 순서(ordinal)는 공통 모듈 변경에 따라 바뀔 수 있으므로 member_activity_type_codes 컬렉션에 타입 이름 → 코드를 기록해두고 모든 파드가 같은 코드를 사용합니다.
+ * 처음 보는 타입은 기존 최대 코드 + 1 로 등록하며, 파드 간 경합은 code unique 인덱스로 걸러내고 다시 읽습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberActivityTypeCodes {
+    public static final String COLLECTION_NAME = "member_activity_type_codes";
+    private static final int MAX_REGISTER_ATTEMPTS = 5;
+
+    private final MongoTemplate mongoTemplate;
+
+    private volatile Map<MemberActivityType, Integer> codes;
+    private volatile Map<Integer, MemberActivityType> types;
+
+    public Integer code(MemberActivityType memberActivityType) {
+        if (memberActivityType == null) {
+            return null;
+        }
+        Integer code = loaded().get(memberActivityType);
+        return code != null ? code : register(memberActivityType);
+    }
+
+    /**
+     * @return 코드에 해당하는 타입, 이 파드의 enum 에 없는 코드(다른 버전의 파드가 등록한 타입)면 null
+     */
+    public MemberActivityType type(Integer code) {
+        if (code == null) {
+            return null;
+        }
+        loaded();
+        return types.get(code);
+    }
+
+    /**
+     * 등록된 전체 코드 (집계 파이프라인에서 코드 → 타입 이름 변환용)
+     */
+    public Map<MemberActivityType, Integer> codes() {
+        return Collections.unmodifiableMap(loaded());
+    }
+
+    private Map<MemberActivityType, Integer> loaded() {
+        Map<MemberActivityType, Integer> loaded = this.codes;
+        if (loaded == null) {
+            synchronized (this) {
+                if (this.codes == null) {
+                    mongoTemplate.indexOps(COLLECTION_NAME).ensureIndex(new Index("code", Sort.Direction.ASC).unique().named("uk_code"));
+                    reload();
+                    for (MemberActivityType memberActivityType : MemberActivityType.values()) {
+                        if (!this.codes.containsKey(memberActivityType)) {
+                            register(memberActivityType);
+                        }
+                    }
+                }
+                loaded = this.codes;
+            }
+        }
+        return loaded;
+    }
+
+    private synchronized Integer register(MemberActivityType memberActivityType) {
+        for (int attempt = 0; attempt < MAX_REGISTER_ATTEMPTS; attempt++) {
+            int nextCode = types.keySet().stream().mapToInt(Integer::intValue).max().orElse(0) + 1;
+            try {
+                mongoTemplate.insert(new Document("_id", memberActivityType.name()).append("code", nextCode), COLLECTION_NAME);
+                log.info("Registered member activity type code - type: {}, code: {}", memberActivityType, nextCode);
+            } catch (DuplicateKeyException e) {
+                // 다른 파드가 같은 타입 또는 같은 코드를 먼저 등록
+            }
+            reload();
+            Integer code = codes.get(memberActivityType);
+            if (code != null) {
+                return code;
+            }
+        }
+        throw new IllegalStateException("Failed to register member activity type code - " + memberActivityType);
+    }
+
+    private synchronized void reload() {
+        Map<MemberActivityType, Integer> reloadedCodes = new EnumMap<>(MemberActivityType.class);
+        Map<Integer, MemberActivityType> reloadedTypes = new HashMap<>();
+        for (Document document : mongoTemplate.getCollection(COLLECTION_NAME).find()) {
+            try {
+                MemberActivityType memberActivityType = MemberActivityType.valueOf(document.getString("_id"));
+                reloadedCodes.put(memberActivityType, document.getInteger("code"));
+                reloadedTypes.put(document.getInteger("code"), memberActivityType);
+            } catch (IllegalArgumentException e) {
+                // 이 파드의 enum 에 없는 타입 (코드는 다른 타입이 사용하지 않도록 최대값 계산에만 반영)
+                reloadedTypes.putIfAbsent(document.getInteger("code"), null);
+            }
+        }
+        this.types = reloadedTypes;
+        this.codes = reloadedCodes;
+    }
+}
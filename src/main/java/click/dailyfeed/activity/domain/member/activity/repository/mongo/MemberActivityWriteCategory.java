@@ -0,0 +1,41 @@
+package click.dailyfeed.activity.domain.member.activity.repository.mongo;
+
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * write concern 을 따로 지정하는 활동 분류
+ * 시간 창 단위로 합친 조회성 문서(coalesce_key 가 있는 문서)는 타입과 무관하게 COALESCED 로 분류합니다.
+ */
+public enum MemberActivityWriteCategory {
+    POST, COMMENT, MEMBER, POST_LIKE, COMMENT_LIKE, COALESCED, DEFAULT;
+
+    // 분류 집합에 여러 번 속하는 타입은 먼저 등록한 분류를 따른다 (MemberActivityMapper 와 같은 순서)
+    private static final Map<MemberActivityType, MemberActivityWriteCategory> CATEGORIES = new EnumMap<>(MemberActivityType.class);
+
+    static {
+        register(MemberActivityType.postEventTypes, POST);
+        register(MemberActivityType.commentEventTypes, COMMENT);
+        register(MemberActivityType.memberEventTypes, MEMBER);
+        register(MemberActivityType.postLikeEventTypes, POST_LIKE);
+        register(MemberActivityType.commentLikeEventTypes, COMMENT_LIKE);
+    }
+
+    private static void register(Collection<MemberActivityType> memberActivityTypes, MemberActivityWriteCategory category) {
+        memberActivityTypes.forEach(memberActivityType -> CATEGORIES.putIfAbsent(memberActivityType, category));
+    }
+
+    public static MemberActivityWriteCategory of(MemberActivityDocument document) {
+        if (document.getCoalesceKey() != null) {
+            return COALESCED;
+        }
+        if (document.getMemberActivityType() == null) {
+            return DEFAULT;
+        }
+        return CATEGORIES.getOrDefault(document.getMemberActivityType(), DEFAULT);
+    }
+}
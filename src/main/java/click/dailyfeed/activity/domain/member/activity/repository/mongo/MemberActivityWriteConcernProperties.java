@@ -0,0 +1,20 @@
+package click.dailyfeed.activity.domain.member.activity.repository.mongo;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 활동 분류별 write concern (infrastructure.mongodb.member-activity.write-concern)
+ * 값은 com.mongodb.WriteConcern 상수명(majority, w1, w2, journaled, acknowledged)이며, unacknowledged 는 허용하지 않습니다.
+ * 지정하지 않은 분류는 default 값을, default 도 없으면 connection string/드라이버 기본값을 따릅니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "infrastructure.mongodb.member-activity")
+public class MemberActivityWriteConcernProperties {
+    private Map<MemberActivityWriteCategory, String> writeConcern = new EnumMap<>(MemberActivityWriteCategory.class);
+}
@@ -0,0 +1,72 @@
+package click.dailyfeed.activity.domain.member.activity.repository.mongo;
+
+import com.mongodb.WriteConcern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 활동 분류별 write concern 을 기본값으로 갖는 MongoTemplate 을 제공합니다.
+ * MongoTemplate 의 write concern 은 insert/upsert 뿐 아니라 bulkOps 에도 적용되므로,
+ * 같은 write concern 을 쓰는 분류끼리는 하나의 MongoTemplate 을 공유합니다. (MongoClient/커넥션 풀은 모두 공유)
+ */
+@Slf4j
+@Component
+public class MemberActivityWriteConcernTemplates {
+    private final Map<MemberActivityWriteCategory, MongoTemplate> templates = new EnumMap<>(MemberActivityWriteCategory.class);
+
+    public MemberActivityWriteConcernTemplates(
+            MongoTemplate mongoTemplate,
+            MongoDatabaseFactory dailyfeedMongoDatabaseFactory,
+            MongoConverter mongoConverter,
+            MemberActivityWriteConcernProperties memberActivityWriteConcernProperties,
+            ApplicationContext applicationContext
+    ) {
+        Map<MemberActivityWriteCategory, String> configured = memberActivityWriteConcernProperties.getWriteConcern();
+        String defaultName = configured.get(MemberActivityWriteCategory.DEFAULT);
+        Map<WriteConcern, MongoTemplate> byWriteConcern = new HashMap<>();
+
+        for (MemberActivityWriteCategory category : MemberActivityWriteCategory.values()) {
+            String name = configured.getOrDefault(category, defaultName);
+            if (name == null || name.isBlank()) {
+                templates.put(category, mongoTemplate);
+                continue;
+            }
+            WriteConcern writeConcern = parse(name);
+            templates.put(category, byWriteConcern.computeIfAbsent(writeConcern, wc -> {
+                MongoTemplate template = new MongoTemplate(dailyfeedMongoDatabaseFactory, mongoConverter);
+                template.setWriteConcern(wc);
+                // 직접 생성한 MongoTemplate 에도 auditing(@CreatedDate) 등 entity callback 과 이벤트 발행이 적용되도록 연결
+                template.setApplicationContext(applicationContext);
+                return template;
+            }));
+            log.info("MemberActivity write concern - category: {}, writeConcern: {}", category, name);
+        }
+    }
+
+    public MongoTemplate forCategory(MemberActivityWriteCategory category) {
+        return templates.get(category);
+    }
+
+    /**
+     * 모든 분류의 저장 결과가 카운터/최근 활동 캐시 반영 여부를 정하므로(중복 메시지는 반영하지 않음),
+     * 결과를 알 수 없는 unacknowledged(w:0) 는 허용하지 않습니다.
+     */
+    static WriteConcern parse(String name) {
+        WriteConcern writeConcern = WriteConcern.valueOf(name.trim().replace('-', '_'));
+        if (writeConcern == null) {
+            throw new IllegalArgumentException("Unknown MongoDB write concern: " + name);
+        }
+        if (!writeConcern.isAcknowledged()) {
+            throw new IllegalArgumentException("Unacknowledged MongoDB write concern is not supported for member activities: " + name);
+        }
+        return writeConcern;
+    }
+}
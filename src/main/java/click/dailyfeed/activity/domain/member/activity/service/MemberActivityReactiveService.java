@@ -0,0 +1,56 @@
+package click.dailyfeed.activity.domain.member.activity.service;
+
+import click.dailyfeed.activity.domain.activitycounter.service.ActivityCounterService;
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.activity.domain.member.activity.mapper.MemberActivityMapper;
+import click.dailyfeed.activity.domain.member.activity.redis.MemberActivityRecentRedisService;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityReactiveMongoTemplate;
+import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * 요청 스레드를 점유하지 않는 회원 활동 저장 서비스
+ * 저장 완료 후 카운터/최근 활동 캐시 반영은 별도 스케줄러에서 수행하며 응답을 기다리게 하지 않습니다. (실패 시 재집계로 보정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "infrastructure.mongodb.reactive.enabled", havingValue = "true")
+public class MemberActivityReactiveService {
+    private final MemberActivityReactiveMongoTemplate memberActivityReactiveMongoTemplate;
+    private final MemberActivityMapper memberActivityMapper;
+    private final ActivityCounterService activityCounterService;
+    private final MemberActivityRecentRedisService memberActivityRecentRedisService;
+
+    public Mono<MemberActivityDto.MemberActivity> createPostsMemberActivity(MemberActivityDto.PostActivityRequest postActivityRequest) {
+        return save(memberActivityMapper.fromPostRequest(postActivityRequest));
+    }
+
+    public Mono<MemberActivityDto.MemberActivity> createCommentsMemberActivity(MemberActivityDto.CommentActivityRequest commentActivityRequest) {
+        return save(memberActivityMapper.fromCommentRequest(commentActivityRequest));
+    }
+
+    public Mono<MemberActivityDto.MemberActivity> createPostLikeActivity(MemberActivityDto.PostLikeActivityRequest postLikeActivityRequest) {
+        return save(memberActivityMapper.fromPostLikeRequest(postLikeActivityRequest));
+    }
+
+    public Mono<MemberActivityDto.MemberActivity> createCommentLikeActivity(MemberActivityDto.CommentLikeActivityRequest commentLikeActivityRequest) {
+        return save(memberActivityMapper.fromCommentLikeRequest(commentLikeActivityRequest));
+    }
+
+    private Mono<MemberActivityDto.MemberActivity> save(MemberActivityDocument document) {
+        return memberActivityReactiveMongoTemplate.insertMemberActivity(document)
+                .doOnNext(savedDocument -> Schedulers.boundedElastic().schedule(() -> {
+                    activityCounterService.applyInserted(List.of(savedDocument));
+                    memberActivityRecentRedisService.addAll(List.of(savedDocument));
+                }))
+                .map(memberActivityMapper::fromDocument);
+    }
+}
@@ -1,44 +1,198 @@
 package click.dailyfeed.activity.domain.member.activity.service;
 
+import click.dailyfeed.activity.domain.activitycounter.service.ActivityCounterService;
 import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.activity.domain.member.activity.dto.MemberActivityBatchDto;
+import click.dailyfeed.activity.domain.member.activity.dto.MemberActivityCursorDto;
+import click.dailyfeed.activity.domain.member.activity.exception.MemberActivityBatchSizeExceededException;
 import click.dailyfeed.activity.domain.member.activity.mapper.MemberActivityMapper;
-import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityMongoRepository;
+import click.dailyfeed.activity.domain.member.activity.redis.MemberActivityRecentRedisService;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityBulkInsertResult;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityMongoTemplate;
 import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class MemberActivityService {
-    private final MemberActivityMongoRepository memberActivityMongoRepository;
+    private final MemberActivityMongoTemplate memberActivityMongoTemplate;
     private final MemberActivityMapper memberActivityMapper;
+    private final ActivityCounterService activityCounterService;
+    private final MemberActivityRecentRedisService memberActivityRecentRedisService;
+
+    @Value("${infrastructure.mongodb.member-activity.batch.max-size:1000}")
+    private int batchMaxSize;
 
     public MemberActivityDto.MemberActivity createPostsMemberActivity(MemberActivityDto.PostActivityRequest postActivityRequest) {
         MemberActivityDocument document = memberActivityMapper.fromPostRequest(postActivityRequest);
-        MemberActivityDocument savedDocument = memberActivityMongoRepository.save(document);
+        MemberActivityDocument savedDocument = memberActivityMongoTemplate.insertMemberActivity(document);
+        activityCounterService.applyInserted(List.of(savedDocument));
+        memberActivityRecentRedisService.addAll(List.of(savedDocument));
         return memberActivityMapper.fromDocument(savedDocument);
     }
 
     public MemberActivityDto.MemberActivity createCommentsMemberActivity(MemberActivityDto.CommentActivityRequest commentActivityRequest) {
         MemberActivityDocument document = memberActivityMapper.fromCommentRequest(commentActivityRequest);
-        MemberActivityDocument savedDocument = memberActivityMongoRepository.save(document);
+        MemberActivityDocument savedDocument = memberActivityMongoTemplate.insertMemberActivity(document);
+        activityCounterService.applyInserted(List.of(savedDocument));
+        memberActivityRecentRedisService.addAll(List.of(savedDocument));
         return memberActivityMapper.fromDocument(savedDocument);
     }
 
     public MemberActivityDto.MemberActivity createPostLikeActivity(MemberActivityDto.PostLikeActivityRequest postLikeActivityRequest) {
         MemberActivityDocument document = memberActivityMapper.fromPostLikeRequest(postLikeActivityRequest);
-        MemberActivityDocument savedDocument = memberActivityMongoRepository.save(document);
+        MemberActivityDocument savedDocument = memberActivityMongoTemplate.insertMemberActivity(document);
+        activityCounterService.applyInserted(List.of(savedDocument));
+        memberActivityRecentRedisService.addAll(List.of(savedDocument));
         return memberActivityMapper.fromDocument(savedDocument);
     }
 
     public MemberActivityDto.MemberActivity createCommentLikeActivity(MemberActivityDto.CommentLikeActivityRequest commentLikeActivityRequest) {
         MemberActivityDocument document = memberActivityMapper.fromCommentLikeRequest(commentLikeActivityRequest);
-        MemberActivityDocument savedDocument = memberActivityMongoRepository.save(document);
+        MemberActivityDocument savedDocument = memberActivityMongoTemplate.insertMemberActivity(document);
+        activityCounterService.applyInserted(List.of(savedDocument));
+        memberActivityRecentRedisService.addAll(List.of(savedDocument));
         return memberActivityMapper.fromDocument(savedDocument);
     }
 
+    /**
+     * 여러 종류의 활동 요청을 검증한 뒤 하나의 unordered bulk insert 로 저장합니다.
+     * 트랜잭션 안에서는 한 건의 쓰기 오류가 전체를 중단시키므로 트랜잭션 없이 실행하고, 항목별 결과를 반환합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MemberActivityBatchDto.BatchResult createMemberActivities(MemberActivityBatchDto.BatchRequest batchRequest) {
+        List<MemberActivityBatchDto.Item> items = batchRequest.getActivities() == null ? List.of() : batchRequest.getActivities();
+        if (items.size() > batchMaxSize) {
+            throw new MemberActivityBatchSizeExceededException(batchMaxSize);
+        }
+
+        MemberActivityBatchDto.ItemResult[] results = new MemberActivityBatchDto.ItemResult[items.size()];
+        List<MemberActivityDocument> documents = new ArrayList<>(items.size());
+        List<Integer> documentIndexes = new ArrayList<>(items.size()); // documents 기준 인덱스 → items 기준 인덱스
+        for (int i = 0; i < items.size(); i++) {
+            String rejectReason = rejectReason(items.get(i));
+            if (rejectReason != null) {
+                results[i] = itemResult(i, MemberActivityBatchDto.ItemStatus.REJECTED, rejectReason);
+                continue;
+            }
+            documents.add(memberActivityMapper.fromBatchItem(items.get(i)));
+            documentIndexes.add(i);
+        }
+
+        MemberActivityBulkInsertResult insertResult = memberActivityMongoTemplate.bulkInsertMemberActivities(documents);
+        List<MemberActivityDocument> inserted = new ArrayList<>(documents.size());
+        for (int d = 0; d < documents.size(); d++) {
+            int index = documentIndexes.get(d);
+            if (insertResult.getFailedIndexes().contains(d)) {
+                results[index] = itemResult(index, MemberActivityBatchDto.ItemStatus.FAILED, "저장에 실패했습니다.");
+            } else if (insertResult.getDuplicatedIndexes().contains(d)) {
+                results[index] = itemResult(index, MemberActivityBatchDto.ItemStatus.DUPLICATE, null);
+            } else {
+                results[index] = itemResult(index, MemberActivityBatchDto.ItemStatus.INSERTED, null);
+                inserted.add(documents.get(d));
+            }
+        }
+
+        try {
+            activityCounterService.applyInserted(inserted);
+        } catch (Exception e) {
+            // 문서는 이미 저장되었으므로 카운터 누락은 activity-counter 재집계로 보정
+            log.warn("Failed to apply activity counters for batch: inserted={}", inserted.size(), e);
+        }
+        memberActivityRecentRedisService.addAll(inserted);
+
+        return MemberActivityBatchDto.BatchResult.builder()
+                .requested(items.size())
+                .inserted(inserted.size())
+                .duplicated(insertResult.getDuplicatedIndexes().size())
+                .rejected(items.size() - documents.size())
+                .failed(insertResult.getFailedIndexes().size())
+                .results(List.of(results))
+                .build();
+    }
+
+    /**
+     * 특정 회원의 활동 내역을 커서 기반으로 조회합니다. (최신순)
+     * 첫 페이지는 회원별 최근 활동 캐시(MemberActivityRecentRedisService)에서 읽고, 다음 페이지는 커서 이후를 DB 에서 읽습니다.
+     * 여러 컬렉션(일자별, v1/v2)을 $unionWith 로 합쳐 읽으며 $unionWith 는 MongoDB 트랜잭션 안에서 실행할 수 없으므로 트랜잭션 없이 조회합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MemberActivityCursorDto.CursorPage getMemberActivities(Long memberId, MemberActivityType memberActivityType, String cursor, int size) {
+        MemberActivityCursorDto.Cursor decoded = MemberActivityCursorDto.Cursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+        List<MemberActivityDocument> documents = decoded == null
+                ? findFirstPage(memberId, memberActivityType, size + 1)
+                : memberActivityMongoTemplate.findMemberActivities(memberId, memberActivityType, decoded.getCreatedAt(), decoded.getId(), size + 1);
+
+        boolean hasNext = documents.size() > size;
+        List<MemberActivityDocument> page = hasNext ? documents.subList(0, size) : documents;
+        String nextCursor = null;
+        if (hasNext) {
+            MemberActivityDocument last = page.get(page.size() - 1);
+            nextCursor = new MemberActivityCursorDto.Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return MemberActivityCursorDto.CursorPage.builder()
+                .content(page.stream().map(memberActivityMapper::fromDocument).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(page.size())
+                .build();
+    }
+
+    /**
+     * 캐시에서 첫 페이지를 읽고, miss 인 경우 DB(idx_member_created_id)에서 읽습니다.
+     * 전체 타입 조회가 miss 이면 캐시 크기만큼 읽어 캐시를 채우고, 타입별 조회는 전체 활동을 담을 수 없으므로 채우지 않습니다.
+     */
+    private List<MemberActivityDocument> findFirstPage(Long memberId, MemberActivityType memberActivityType, int limit) {
+        List<MemberActivityDocument> cached = memberActivityRecentRedisService.find(memberId, memberActivityType, limit);
+        if (cached != null) {
+            return cached;
+        }
+        if (memberActivityType != null || !memberActivityRecentRedisService.isEnabled() || limit > memberActivityRecentRedisService.size()) {
+            return memberActivityMongoTemplate.findMemberActivities(memberId, memberActivityType, null, null, limit);
+        }
+
+        int fillLimit = memberActivityRecentRedisService.size();
+        List<MemberActivityDocument> documents = memberActivityMongoTemplate.findMemberActivities(memberId, null, null, null, fillLimit);
+        memberActivityRecentRedisService.fill(memberId, documents, documents.size() < fillLimit);
+        return documents.size() > limit ? documents.subList(0, limit) : documents;
+    }
+
+    private String rejectReason(MemberActivityBatchDto.Item item) {
+        if (item == null || item.getCategory() == null) {
+            return "category 는 필수입니다.";
+        }
+        if (item.getMemberId() == null) {
+            return "memberId 는 필수입니다.";
+        }
+        if (item.getActivityType() == null || !item.getCategory().supports(item.getActivityType())) {
+            return "category(" + item.getCategory() + ") 에 해당하지 않는 activityType 입니다.";
+        }
+        return switch (item.getCategory()) {
+            case POST, POST_LIKE -> item.getPostId() == null ? "postId 는 필수입니다." : null;
+            case COMMENT -> item.getPostId() == null || item.getCommentId() == null ? "postId, commentId 는 필수입니다." : null;
+            case COMMENT_LIKE -> item.getCommentId() == null ? "commentId 는 필수입니다." : null;
+        };
+    }
+
+    private MemberActivityBatchDto.ItemResult itemResult(int index, MemberActivityBatchDto.ItemStatus status, String reason) {
+        return MemberActivityBatchDto.ItemResult.builder()
+                .index(index)
+                .status(status)
+                .reason(reason)
+                .build();
+    }
 }
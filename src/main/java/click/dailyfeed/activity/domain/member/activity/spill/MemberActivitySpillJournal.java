@@ -0,0 +1,258 @@
+package click.dailyfeed.activity.domain.member.activity.spill;
+
+import click.dailyfeed.activity.domain.member.activity.journal.MemberActivityJournalSegment;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 데드레터 저장까지 실패한 member-activity 메시지를 PVC 의 append-only 저널에 기록합니다.
+ * 리스너 스레드는 대기열에 넣기만 하고, 전용 writer 스레드가 memory-map 된 세그먼트에 이어 씁니다.
+ * 세그먼트가 가득 차거나 재처리 전 봉인(seal) 요청이 오면 다음 세그먼트로 교체하며, 봉인된 세그먼트는 MemberActivitySpillJournalReplayer 가 MongoDB 에 다시 저장합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberActivitySpillJournal {
+    private static final String SEGMENT_PREFIX = "spill";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.spill-journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.spill-journal.directory:/var/lib/dailyfeed/activity/spill}")
+    private String directory;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.spill-journal.segment-size:64MB}")
+    private DataSize segmentSize;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.spill-journal.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.spill-journal.flush-interval:1s}")
+    private Duration flushInterval;
+
+    private Path journalDirectory;
+    private BlockingQueue<Entry> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    // writer 스레드와 seal() 호출이 같이 접근하므로 this 로 동기화
+    private MemberActivityJournalSegment activeSegment;
+    private long nextSequence;
+    private long lastForcedAt;
+    private boolean dirty;
+
+    private Counter appendedCounter;
+    private Counter rejectedCounter;
+    private Counter failedCounter;
+
+    private record Entry(MemberActivityTransportDto.MemberActivityMessage message, String toRestore) {
+    }
+
+    @PostConstruct
+    public void init() {
+        this.appendedCounter = Counter.builder("member.activity.spill.appended").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("member.activity.spill.rejected").register(meterRegistry);
+        this.failedCounter = Counter.builder("member.activity.spill.failed").register(meterRegistry);
+        if (!enabled) {
+            return;
+        }
+        if (segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("spill-journal.segment-size must be less than 2GB - " + segmentSize);
+        }
+
+        try {
+            this.journalDirectory = Paths.get(directory);
+            Files.createDirectories(journalDirectory);
+            // 이전 실행에서 남은 세그먼트는 모두 봉인된 것으로 보고 새 세그먼트부터 쓴다
+            this.nextSequence = sealedSegments().stream().mapToLong(MemberActivityJournalSegment::sequenceOf).max().orElse(0L) + 1;
+        } catch (IOException e) {
+            log.error("❌ Spill journal disabled - failed to prepare directory: {}", directory, e);
+            this.enabled = false;
+            return;
+        }
+
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("member.activity.spill.queue-size", queue, BlockingQueue::size).register(meterRegistry);
+
+        this.running = true;
+        this.writerThread = new Thread(this::writeLoop, "member-activity-spill-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(flushInterval.toMillis() * 2 + 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        seal();
+    }
+
+    /**
+     * 메시지를 저널 대기열에 넣습니다. 리스너 스레드를 막지 않으며, 대기열이 가득 찼거나 저널이 비활성화된 경우 복구용 문자열을 로깅합니다.
+     *
+     * @param toRestore 저널에 기록하지 못할 때 남길 복구용 문자열
+     */
+    public void append(MemberActivityTransportDto.MemberActivityMessage message, String toRestore) {
+        if (!enabled || !running || !queue.offer(new Entry(message, toRestore))) {
+            rejectedCounter.increment();
+            log.error(toRestore);
+        }
+    }
+
+    /**
+     * 재처리에 실패한 메시지를 새 세그먼트에 바로 기록하고 디스크에 반영(force)한 뒤 반환합니다. (대기열을 거치지 않음)
+     * 호출부는 반환된 뒤에만 원래 세그먼트를 삭제해야 하며, 예외가 나면 이번 호출로 만든 세그먼트는 지우고 예외를 던집니다.
+     *
+     * @return 기록한 세그먼트 목록 (봉인된 상태)
+     */
+    public synchronized List<Path> writeSealed(List<MemberActivityTransportDto.MemberActivityMessage> messages) throws IOException {
+        List<Path> written = new ArrayList<>();
+        if (messages.isEmpty()) {
+            return written;
+        }
+        if (!enabled) {
+            throw new IOException("spill journal is disabled");
+        }
+
+        MemberActivityJournalSegment segment = null;
+        try {
+            for (MemberActivityTransportDto.MemberActivityMessage message : messages) {
+                byte[] payload = objectMapper.writeValueAsBytes(message);
+                if (MemberActivityJournalSegment.HEADER_SIZE + (long) payload.length > segmentSize.toBytes()) {
+                    throw new IOException("record larger than segment - " + payload.length + " bytes");
+                }
+                if (segment == null || !segment.hasRoom(payload.length)) {
+                    if (segment != null) {
+                        segment.force();
+                    }
+                    segment = MemberActivityJournalSegment.create(journalDirectory, SEGMENT_PREFIX, nextSequence++, (int) segmentSize.toBytes());
+                    written.add(segment.path());
+                }
+                segment.append(payload);
+            }
+            segment.force();
+            appendedCounter.increment(messages.size());
+            return written;
+        } catch (IOException | RuntimeException e) {
+            for (Path path : written) {
+                Files.deleteIfExists(path);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 세그먼트에 기록된 레코드가 있으면 봉인하고, 이후 기록은 새 세그먼트에 씁니다.
+     */
+    public synchronized void seal() {
+        if (activeSegment == null || activeSegment.isEmpty()) {
+            return;
+        }
+        activeSegment.force();
+        activeSegment = null;
+        dirty = false;
+    }
+
+    /**
+     * 재처리 대상인 봉인된 세그먼트 목록 (sequence 순)
+     */
+    public synchronized List<Path> sealedSegments() throws IOException {
+        if (journalDirectory == null) {
+            return List.of();
+        }
+        long activeSequence = activeSegment == null ? -1 : activeSegment.sequence();
+        try (Stream<Path> files = Files.list(journalDirectory)) {
+            return files.filter(path -> {
+                        return MemberActivityJournalSegment.isSegment(path, SEGMENT_PREFIX)
+                                && MemberActivityJournalSegment.sequenceOf(path) != activeSequence;
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void writeLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry entry = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (entry != null) {
+                    write(entry);
+                }
+                forceIfDue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private synchronized void write(Entry entry) {
+        try {
+            byte[] payload = objectMapper.writeValueAsBytes(entry.message());
+            if (MemberActivityJournalSegment.HEADER_SIZE + (long) payload.length > segmentSize.toBytes()) {
+                throw new IOException("record larger than segment - " + payload.length + " bytes");
+            }
+            if (activeSegment == null || !activeSegment.hasRoom(payload.length)) {
+                rotate();
+            }
+            activeSegment.append(payload);
+            dirty = true;
+            appendedCounter.increment();
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("❌ Failed to append spill journal - {}", entry.toRestore(), e);
+        }
+    }
+
+    private void rotate() throws IOException {
+        if (activeSegment != null) {
+            activeSegment.force();
+        }
+        activeSegment = MemberActivityJournalSegment.create(journalDirectory, SEGMENT_PREFIX, nextSequence++, (int) segmentSize.toBytes());
+        lastForcedAt = System.nanoTime();
+    }
+
+    private synchronized void forceIfDue() {
+        if (dirty && System.nanoTime() - lastForcedAt >= flushInterval.toNanos()) {
+            activeSegment.force();
+            dirty = false;
+            lastForcedAt = System.nanoTime();
+        }
+    }
+}
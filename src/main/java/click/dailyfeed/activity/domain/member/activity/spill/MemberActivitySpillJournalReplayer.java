@@ -0,0 +1,131 @@
+package click.dailyfeed.activity.domain.member.activity.spill;
+
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityBulkWriter;
+import click.dailyfeed.activity.domain.member.activity.journal.MemberActivityJournalSegment;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스필 저널의 봉인된 세그먼트를 MongoDB 에 bulk 로 다시 저장합니다. (시작 시 1회, 이후 주기적으로)
+ * PVC 는 파드마다 따로 붙으므로 각 파드가 자기 저널만 재처리합니다.
+ * message_key unique 인덱스로 멱등성이 보장되므로 재처리 도중 종료되어 같은 세그먼트를 다시 저장해도 중복 문서는 생기지 않습니다.
+ * (daily 모드에서도 created_at 이 이벤트 발생 시각이므로 재처리 시점과 관계없이 처음과 같은 일자 컬렉션에 저장됨)
+ * 단, 시간 창으로 합치는 조회성 이벤트는 message_key 가 없어 다시 저장하면 count 가 다시 더해집니다. (MemberActivityCoalescer 참고)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberActivitySpillJournalReplayer {
+    public static final String SPILL_TOPIC = "spill-journal"; // 메트릭 태그용 토픽
+
+    private final MemberActivitySpillJournal memberActivitySpillJournal;
+    private final MemberActivityBulkWriter memberActivityBulkWriter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${infrastructure.kafka.consumers.member-activity.spill-journal.replay-batch-size:500}")
+    private int replayBatchSize;
+
+    private Counter replayedCounter;
+    private Counter respilledCounter;
+    private Counter corruptedSegmentCounter;
+    private Counter undecodableCounter;
+
+    @PostConstruct
+    public void init() {
+        this.replayedCounter = Counter.builder("member.activity.spill.replayed").register(meterRegistry);
+        this.respilledCounter = Counter.builder("member.activity.spill.respilled").register(meterRegistry);
+        this.corruptedSegmentCounter = Counter.builder("member.activity.spill.corrupted-segments").register(meterRegistry);
+        this.undecodableCounter = Counter.builder("member.activity.spill.undecodable").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayOnStartup() {
+        replay();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${infrastructure.kafka.consumers.member-activity.spill-journal.replay-interval:60000}",
+            initialDelayString = "${infrastructure.kafka.consumers.member-activity.spill-journal.replay-interval:60000}"
+    )
+    public synchronized void replay() {
+        if (!memberActivitySpillJournal.isEnabled()) {
+            return;
+        }
+
+        try {
+            memberActivitySpillJournal.seal();
+            for (Path segment : memberActivitySpillJournal.sealedSegments()) {
+                if (!replaySegment(segment)) {
+                    break; // 전부 실패하면 MongoDB 장애로 보고 다음 회차에 다시 시도
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ Failed to replay spill journal", e);
+        }
+    }
+
+    /**
+     * @return 세그먼트를 처리하고 삭제했으면 true, 저장이 전부 실패해 세그먼트를 남겨두었으면 false
+     */
+    private boolean replaySegment(Path segment) throws Exception {
+        MemberActivityJournalSegment.ReadResult readResult = MemberActivityJournalSegment.read(segment);
+        if (readResult.corrupted()) {
+            // 기록 도중 종료된 경우 마지막 레코드가 잘릴 수 있다, 그 앞까지의 레코드만 재처리
+            corruptedSegmentCounter.increment();
+            log.warn("⚠️ Spill segment has a corrupted tail, replaying {} valid records - {}", readResult.payloads().size(), segment);
+        }
+
+        List<MemberActivityTransportDto.MemberActivityMessage> messages = new ArrayList<>(readResult.payloads().size());
+        for (byte[] payload : readResult.payloads()) {
+            try {
+                messages.add(objectMapper.readValue(payload, MemberActivityTransportDto.MemberActivityMessage.class));
+            } catch (Exception e) {
+                undecodableCounter.increment();
+                log.error("❌ Failed to decode spill record - {}", new String(payload, StandardCharsets.UTF_8), e);
+            }
+        }
+
+        List<MemberActivityTransportDto.MemberActivityMessage> failed = new ArrayList<>();
+        for (int from = 0; from < messages.size(); from += replayBatchSize) {
+            List<MemberActivityTransportDto.MemberActivityMessage> batch = messages.subList(from, Math.min(messages.size(), from + replayBatchSize));
+            memberActivityBulkWriter.writeBulk(SPILL_TOPIC, batch, failed::add);
+        }
+
+        if (!messages.isEmpty() && failed.size() == messages.size()) {
+            log.warn("⚠️ Spill segment replay failed, will retry - records: {}, segment: {}", messages.size(), segment);
+            return false;
+        }
+
+        // 일부만 실패한 메시지는 새 세그먼트에 기록해 디스크에 반영된 뒤에만 처리한 세그먼트를 삭제
+        try {
+            memberActivitySpillJournal.writeSealed(failed);
+        } catch (Exception e) {
+            // 세그먼트를 남겨두고 다음 회차에 다시 재처리 (이미 저장된 레코드는 message_key 로 걸러짐)
+            log.error("❌ Failed to respill {} records, keeping segment - {}", failed.size(), segment, e);
+            return false;
+        }
+        Files.deleteIfExists(segment);
+
+        replayedCounter.increment(messages.size() - failed.size());
+        respilledCounter.increment(failed.size());
+        log.info("📦 Replayed spill segment - replayed: {}, respilled: {}, segment: {}", messages.size() - failed.size(), failed.size(), segment);
+        return true;
+    }
+}
@@ -28,6 +28,14 @@ public class RedisDLQDocument {
     @Field("is_editing")
     private Boolean isEditing = Boolean.FALSE;
 
+    // 재처리 선점 정보 (DeadLetterReplayMongoTemplate)
+    @Field("claim_token")
+    private String claimToken;
+    @Field("claimed_at")
+    private LocalDateTime claimedAt;
+    @Field("replay_attempts")
+    private Integer replayAttempts;
+
     @CreatedDate
     @Field("created_at")
     private LocalDateTime createdAt;
@@ -0,0 +1,64 @@
+package click.dailyfeed.activity.domain.member.activity.consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberActivityPartitionOffsetTrackerTest {
+    private final MemberActivityPartitionOffsetTracker tracker = new MemberActivityPartitionOffsetTracker();
+    private final Map<Long, Acknowledgment> acknowledgments = new HashMap<>();
+
+    private void track(long... offsets) {
+        for (long offset : offsets) {
+            Acknowledgment acknowledgment = () -> { };
+            acknowledgments.put(offset, acknowledgment);
+            tracker.track(offset, acknowledgment);
+        }
+    }
+
+    @Test
+    void commitsOnlyContiguousCompletedOffsets() {
+        track(10, 11, 12, 13);
+
+        assertThat(tracker.complete(12)).isNull();
+        assertThat(tracker.complete(11)).isNull();
+        assertThat(tracker.complete(10)).isSameAs(acknowledgments.get(12L));
+        assertThat(tracker.complete(13)).isSameAs(acknowledgments.get(13L));
+    }
+
+    @Test
+    void doesNotCommitPastFailedOffset() {
+        track(10, 11, 12);
+
+        assertThat(tracker.complete(10)).isSameAs(acknowledgments.get(10L));
+        assertThat(tracker.fail(11)).isEqualTo(11L);
+        assertThat(tracker.complete(12)).isNull();
+        assertThat(tracker.failedOffset()).isEqualTo(11L);
+    }
+
+    @Test
+    void keepsLowestFailedOffset() {
+        track(10, 11, 12);
+
+        tracker.fail(12);
+        assertThat(tracker.fail(10)).isEqualTo(10L);
+        assertThat(tracker.fail(11)).isEqualTo(10L);
+        assertThat(tracker.complete(11)).isNull();
+    }
+
+    @Test
+    void ignoresLateCompletionAfterRevoke() {
+        track(10, 11);
+        assertThat(tracker.complete(11)).isNull();
+
+        tracker.revoke();
+
+        assertThat(tracker.complete(10)).isNull();
+        track(12);
+        assertThat(tracker.complete(12)).isNull();
+    }
+}
@@ -0,0 +1,106 @@
+package click.dailyfeed.activity.domain.member.activity.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberActivityJournalSegmentTest {
+    private static final int SEGMENT_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsAllRecordsOfSealedSegment() throws IOException {
+        Path path = writeSegment("first", "second");
+
+        MemberActivityJournalSegment.ReadResult result = MemberActivityJournalSegment.read(path);
+
+        assertThat(payloads(result)).containsExactly("first", "second");
+        assertThat(result.corrupted()).isFalse();
+    }
+
+    @Test
+    void stopsAtTornRecordWhoseLengthWasNotWritten() throws IOException {
+        Path path = writeSegment("first", "second");
+        // 길이는 마지막에 기록되므로, 쓰는 도중 종료되면 CRC/payload 만 있고 길이는 0
+        int secondOffset = recordSize("first");
+        writeInt(path, secondOffset, 0);
+
+        MemberActivityJournalSegment.ReadResult result = MemberActivityJournalSegment.read(path);
+
+        assertThat(payloads(result)).containsExactly("first");
+        assertThat(result.corrupted()).isFalse();
+
+        // 다시 열면 잘린 레코드 위치부터 이어 쓴다
+        MemberActivityJournalSegment reopened = MemberActivityJournalSegment.open(path);
+        assertThat(reopened.records()).isEqualTo(1);
+        reopened.append("third".getBytes(StandardCharsets.UTF_8));
+        reopened.force();
+        assertThat(payloads(MemberActivityJournalSegment.read(path))).containsExactly("first", "third");
+    }
+
+    @Test
+    void stopsAtRecordWithCrcMismatch() throws IOException {
+        Path path = writeSegment("first", "second", "third");
+        // 두 번째 레코드의 payload 일부만 디스크에 반영된 경우
+        int secondPayloadOffset = recordSize("first") + MemberActivityJournalSegment.HEADER_SIZE;
+        writeByte(path, secondPayloadOffset, (byte) 'X');
+
+        MemberActivityJournalSegment.ReadResult result = MemberActivityJournalSegment.read(path);
+
+        assertThat(payloads(result)).containsExactly("first");
+        assertThat(result.corrupted()).isTrue();
+    }
+
+    @Test
+    void stopsAtRecordWithLengthBeyondSegment() throws IOException {
+        Path path = writeSegment("first", "second");
+        writeInt(path, recordSize("first"), SEGMENT_SIZE);
+
+        MemberActivityJournalSegment.ReadResult result = MemberActivityJournalSegment.read(path);
+
+        assertThat(payloads(result)).containsExactly("first");
+        assertThat(result.corrupted()).isTrue();
+    }
+
+    private Path writeSegment(String... payloads) throws IOException {
+        MemberActivityJournalSegment segment = MemberActivityJournalSegment.create(directory, "spill", 1, SEGMENT_SIZE);
+        for (String payload : payloads) {
+            segment.append(payload.getBytes(StandardCharsets.UTF_8));
+        }
+        segment.force();
+        return segment.path();
+    }
+
+    private static int recordSize(String payload) {
+        return MemberActivityJournalSegment.HEADER_SIZE + payload.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static List<String> payloads(MemberActivityJournalSegment.ReadResult result) {
+        return result.payloads().stream().map(payload -> new String(payload, StandardCharsets.UTF_8)).toList();
+    }
+
+    private static void writeInt(Path path, int offset, int value) throws IOException {
+        write(path, offset, ByteBuffer.allocate(Integer.BYTES).putInt(0, value));
+    }
+
+    private static void writeByte(Path path, int offset, byte value) throws IOException {
+        write(path, offset, ByteBuffer.wrap(new byte[]{value}));
+    }
+
+    private static void write(Path path, int offset, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(bytes, offset);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package click.dailyfeed.activity.domain.member.activity.repository.mongo;
+
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityCompactDocument;
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.FindIterable;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * member_activities 조회 조건(MemberActivityQueries)의 쿼리 플랜 테스트
+ * MemberActivityIndexManager 가 만든 인덱스만 있는 컬렉션에서 explain() 을 실행해 모든 조회가 IXSCAN 이고 in-memory SORT 가 없는지 확인합니다.
+ *
+ * 기본으로 Testcontainers 의 MongoDB(단일 노드 replica set) 컨테이너에서 실행되므로 Docker 가 필요하며, 기본 test 태스크(CI)에 포함됩니다.
+ * 이미 있는 MongoDB 에서 실행하려면 아래와 같이 URI 를 지정합니다. (query-plan.mongodb-uri 의 데이터베이스는 테스트 중 drop 됨)
+ * ./gradlew queryPlanTest -Dquery-plan.mongodb-uri=mongodb://localhost:27017/dailyfeed_query_plan?directConnection=true
+ */
+@Tag("query-plan")
+@SpringJUnitConfig(MemberActivityQueryPlanTest.QueryPlanTestConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MemberActivityQueryPlanTest {
+    private static final String MONGODB_URI_PROPERTY = "query-plan.mongodb-uri";
+    private static final String MONGODB_IMAGE = "mongo:7.0";
+    private static final String DATABASE_NAME = "dailyfeed_query_plan";
+    private static final int MEMBERS = 50;
+    private static final int ACTIVITIES_PER_MEMBER = 40;
+
+    @Configuration
+    @Import({MemberActivityCollectionRouter.class, MemberActivityIndexManager.class, MemberActivityTypeCodes.class})
+    static class QueryPlanTestConfig {
+        // 테스트 JVM 이 끝나면 Testcontainers(Ryuk) 가 컨테이너를 정리
+        @Bean(destroyMethod = "")
+        MongoDBContainer mongoDBContainer() {
+            MongoDBContainer container = new MongoDBContainer(DockerImageName.parse(MONGODB_IMAGE));
+            if (System.getProperty(MONGODB_URI_PROPERTY) == null) {
+                container.start();
+            }
+            return container;
+        }
+
+        @Bean
+        MongoDatabaseFactory mongoDatabaseFactory(MongoDBContainer mongoDBContainer) {
+            String uri = System.getProperty(MONGODB_URI_PROPERTY);
+            return new SimpleMongoClientDatabaseFactory(uri != null ? uri : mongoDBContainer.getReplicaSetUrl(DATABASE_NAME));
+        }
+
+        // @Document 의 컬렉션명 SpEL(@memberActivityCollectionRouter) 을 풀 수 있도록 빈으로 등록
+        @Bean
+        MongoMappingContext mongoMappingContext() {
+            return new MongoMappingContext();
+        }
+
+        @Bean
+        MongoTemplate mongoTemplate(MongoDatabaseFactory mongoDatabaseFactory, MongoMappingContext mongoMappingContext) {
+            MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mongoMappingContext);
+            converter.afterPropertiesSet();
+            return new MongoTemplate(mongoDatabaseFactory, converter);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private MemberActivityIndexManager memberActivityIndexManager;
+    @Autowired
+    private MemberActivityTypeCodes memberActivityTypeCodes;
+
+    private final MemberActivityType memberActivityType = MemberActivityType.postEventTypes.iterator().next();
+
+    @BeforeAll
+    void setUp() {
+        mongoTemplate.getDb().drop();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<MemberActivityDocument> documents = new ArrayList<>();
+        for (long memberId = 1; memberId <= MEMBERS; memberId++) {
+            for (int i = 0; i < ACTIVITIES_PER_MEMBER; i++) {
+                MemberActivityType type = MemberActivityType.values()[i % MemberActivityType.values().length];
+                LocalDateTime createdAt = now.minusMinutes(i);
+                String messageKey = memberId + "-" + i;
+                documents.add(new MemberActivityDocument(new ObjectId(), memberId, memberId * 10 + i, (long) i, messageKey, type, createdAt, createdAt,
+                        i % 5 == 0 ? "coalesce-" + messageKey : null, i % 5 == 0 ? 1L : null, i % 5 == 0 ? createdAt : null));
+            }
+        }
+
+        for (MemberActivitySchema schema : MemberActivitySchema.values()) {
+            memberActivityIndexManager.ensureIndexes(collection(schema), schema);
+        }
+        mongoTemplate.insert(documents, collection(MemberActivitySchema.V1));
+        mongoTemplate.insert(documents.stream()
+                .map(document -> MemberActivityCompactDocument.of(document, memberActivityTypeCodes.code(document.getMemberActivityType()), document.getCreatedAt()))
+                .toList(), collection(MemberActivitySchema.V2));
+    }
+
+    @Test
+    void declaredIndexesAreNotRedundant() {
+        for (MemberActivitySchema schema : MemberActivitySchema.values()) {
+            List<MemberActivityIndexManager.IndexSpec> declared = memberActivityIndexManager.declaredIndexes(schema);
+            for (MemberActivityIndexManager.IndexSpec index : declared) {
+                assertThat(declared.stream().filter(other -> other != index).anyMatch(index::isPrefixOf))
+                        .as("%s %s is a prefix of another declared index", schema, index.name())
+                        .isFalse();
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(MemberActivitySchema.class)
+    void memberActivityFirstPage(MemberActivitySchema schema) {
+        assertIndexedWithoutSort(schema, MemberActivityQueries.memberActivityPage(schema, 7L, null, null, null, 20));
+    }
+
+    @ParameterizedTest
+    @EnumSource(MemberActivitySchema.class)
+    void memberActivityFirstPageByType(MemberActivitySchema schema) {
+        assertIndexedWithoutSort(schema, MemberActivityQueries.memberActivityPage(schema, 7L, typeValue(schema), null, null, 20));
+    }
+
+    @ParameterizedTest
+    @EnumSource(MemberActivitySchema.class)
+    void memberActivityNextPage(MemberActivitySchema schema) {
+        assertIndexedWithoutSort(schema, MemberActivityQueries.memberActivityPage(schema, 7L, null, LocalDateTime.now().minusMinutes(10), new ObjectId(), 20));
+    }
+
+    @ParameterizedTest
+    @EnumSource(MemberActivitySchema.class)
+    void memberActivityNextPageByType(MemberActivitySchema schema) {
+        assertIndexedWithoutSort(schema, MemberActivityQueries.memberActivityPage(schema, 7L, typeValue(schema), LocalDateTime.now().minusMinutes(10), new ObjectId(), 20));
+    }
+
+    @ParameterizedTest
+    @EnumSource(MemberActivitySchema.class)
+    void messageKeyUpsert(MemberActivitySchema schema) {
+        assertIndexedWithoutSort(schema, MemberActivityQueries.messageKey(schema, "7-3"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(MemberActivitySchema.class)
+    void coalesceKeyUpsert(MemberActivitySchema schema) {
+        assertIndexedWithoutSort(schema, MemberActivityQueries.coalesceKey(schema, "coalesce-7-5"));
+    }
+
+    @Test
+    void memberActivityUnionPage() {
+        List<MemberActivityCollectionRouter.SchemaCollection> collections = List.of(
+                new MemberActivityCollectionRouter.SchemaCollection(collection(MemberActivitySchema.V2), MemberActivitySchema.V2),
+                new MemberActivityCollectionRouter.SchemaCollection(collection(MemberActivitySchema.V1), MemberActivitySchema.V1));
+        Object cursorCreatedAt = mongoTemplate.getConverter().convertToMongoType(LocalDateTime.now().minusMinutes(10));
+        List<Document> pipeline = MemberActivityQueries.memberActivityUnionPage(collections, 7L,
+                schema -> schema == MemberActivitySchema.V2 ? memberActivityTypeCodes.code(memberActivityType) : memberActivityType.name(),
+                cursorCreatedAt, new ObjectId(), 20);
+
+        Document explain = mongoTemplate.getDb().runCommand(new Document("explain", new Document("aggregate", collection(MemberActivitySchema.V2))
+                .append("pipeline", pipeline)
+                .append("cursor", new Document()))
+                .append("verbosity", "queryPlanner"));
+        List<String> stages = new ArrayList<>();
+        collectWinningPlanStages(explain, stages);
+
+        // 컬렉션마다 인덱스 범위로 읽고, 합친 뒤의 $sort 만 메모리에서 limit 건 이하를 정렬
+        assertThat(stages.stream().filter("IXSCAN"::equals).count()).as("stages of %s", explain.toJson()).isEqualTo(collections.size());
+        assertThat(stages).as("stages of %s", explain.toJson()).doesNotContain("COLLSCAN", "SORT");
+    }
+
+    @Test
+    void schemaMigrationNewestFirst() {
+        assertIndexedWithoutSort(MemberActivitySchema.V1, MemberActivityQueries.newestFirst(500));
+    }
+
+    private Object typeValue(MemberActivitySchema schema) {
+        return schema == MemberActivitySchema.V2 ? memberActivityTypeCodes.code(memberActivityType) : memberActivityType;
+    }
+
+    private String collection(MemberActivitySchema schema) {
+        return schema == MemberActivitySchema.V2 ? MemberActivityCollectionRouter.COMPACT_COLLECTION_NAME : MemberActivityCollectionRouter.COLLECTION_NAME;
+    }
+
+    private void assertIndexedWithoutSort(MemberActivitySchema schema, Query query) {
+        Document winningPlan = explain(schema, query).get("queryPlanner", Document.class).get("winningPlan", Document.class);
+        List<String> stages = new ArrayList<>();
+        collectStages(winningPlan, stages);
+
+        assertThat(stages).as("stages of %s", winningPlan.toJson()).contains("IXSCAN");
+        assertThat(stages).as("stages of %s", winningPlan.toJson()).doesNotContain("COLLSCAN", "SORT");
+    }
+
+    private Document explain(MemberActivitySchema schema, Query query) {
+        // MongoTemplate.find 와 같은 방식으로 필드명/값(enum, LocalDateTime, byte[])을 변환
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(schema.entityClass());
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        FindIterable<Document> find = mongoTemplate.getCollection(collection(schema))
+                .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                .projection(queryMapper.getMappedFields(query.getFieldsObject(), entity));
+        if (query.isLimited()) {
+            find.limit(query.getLimit());
+        }
+        return find.explain(ExplainVerbosity.QUERY_PLANNER);
+    }
+
+    /**
+     * aggregate explain 결과에서 컬렉션별 queryPlanner.winningPlan 의 stage 이름을 모읍니다. (rejectedPlans 제외)
+     */
+    private void collectWinningPlanStages(Object node, List<String> stages) {
+        if (node instanceof Document document) {
+            for (Map.Entry<String, Object> entry : document.entrySet()) {
+                if ("winningPlan".equals(entry.getKey())) {
+                    collectStages(entry.getValue(), stages);
+                } else if (!"rejectedPlans".equals(entry.getKey())) {
+                    collectWinningPlanStages(entry.getValue(), stages);
+                }
+            }
+        } else if (node instanceof List<?> list) {
+            list.forEach(child -> collectWinningPlanStages(child, stages));
+        }
+    }
+
+    /**
+     * winningPlan 의 모든 stage 이름을 모읍니다. (classic 엔진의 inputStage(s), SBE 엔진의 queryPlan 모두 포함)
+     */
+    private void collectStages(Object node, List<String> stages) {
+        if (node instanceof Document document) {
+            for (Map.Entry<String, Object> entry : document.entrySet()) {
+                if ("stage".equals(entry.getKey()) && entry.getValue() instanceof String stage) {
+                    stages.add(stage);
+                } else {
+                    collectStages(entry.getValue(), stages);
+                }
+            }
+        } else if (node instanceof List<?> list) {
+            list.forEach(child -> collectStages(child, stages));
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package click.dailyfeed.activity.domain.member.activity.service;
+
+import click.dailyfeed.activity.domain.activitycounter.repository.mongo.ActivityCounterMongoTemplate;
+import click.dailyfeed.activity.domain.activitycounter.service.ActivityCounterService;
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityCompactDocument;
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.activity.domain.member.activity.dto.MemberActivityCursorDto;
+import click.dailyfeed.activity.domain.member.activity.mapper.MemberActivityMapper;
+import click.dailyfeed.activity.domain.member.activity.redis.MemberActivityRecentRedisService;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityCollectionManager;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityCollectionRouter;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityIndexManager;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityMongoTemplate;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivitySchema;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityTypeCodes;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityWriteConcernProperties;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityWriteConcernTemplates;
+import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * MemberActivityService.getMemberActivities 의 이력 조회 테스트
+ * daily + v2 설정에서 일자별 v1/v2 컬렉션을 $unionWith 로 합쳐 읽으며, MongoTransactionManager 가 있는 컨텍스트에서도
+ * 트랜잭션 밖에서 실행되는지($unionWith 는 트랜잭션 안에서 실행 불가) 서비스를 통해 확인합니다.
+ *
+ * MemberActivityQueryPlanTest 와 같이 Testcontainers 의 MongoDB(단일 노드 replica set) 컨테이너에서 실행되며 (Docker 필요),
+ * -Dquery-plan.mongodb-uri 를 지정하면 이미 있는 MongoDB 에서 실행합니다. (지정한 데이터베이스는 테스트 중 drop 됨)
+ */
+@Tag("query-plan")
+@SpringJUnitConfig(MemberActivityServiceHistoryTest.HistoryTestConfig.class)
+@TestPropertySource(properties = {
+        "infrastructure.mongodb.member-activity.storage-mode=daily",
+        "infrastructure.mongodb.member-activity.schema=v2"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MemberActivityServiceHistoryTest {
+    private static final String MONGODB_URI_PROPERTY = "query-plan.mongodb-uri";
+    private static final String MONGODB_IMAGE = "mongo:7.0";
+    private static final String DATABASE_NAME = "dailyfeed_member_activity_history";
+    private static final long MEMBER_ID = 7L;
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({
+            MemberActivityService.class,
+            MemberActivityMongoTemplate.class,
+            MemberActivityCollectionManager.class,
+            MemberActivityCollectionRouter.class,
+            MemberActivityIndexManager.class,
+            MemberActivityTypeCodes.class,
+            MemberActivityWriteConcernTemplates.class,
+            MemberActivityMapper.class
+    })
+    static class HistoryTestConfig {
+        // 테스트 JVM 이 끝나면 Testcontainers(Ryuk) 가 컨테이너를 정리
+        @Bean(destroyMethod = "")
+        MongoDBContainer mongoDBContainer() {
+            MongoDBContainer container = new MongoDBContainer(DockerImageName.parse(MONGODB_IMAGE));
+            if (System.getProperty(MONGODB_URI_PROPERTY) == null) {
+                container.start();
+            }
+            return container;
+        }
+
+        @Bean
+        MongoDatabaseFactory mongoDatabaseFactory(MongoDBContainer mongoDBContainer) {
+            String uri = System.getProperty(MONGODB_URI_PROPERTY);
+            return new SimpleMongoClientDatabaseFactory(uri != null ? uri : mongoDBContainer.getReplicaSetUrl(DATABASE_NAME));
+        }
+
+        // @Document 의 컬렉션명 SpEL(@memberActivityCollectionRouter) 을 풀 수 있도록 빈으로 등록
+        @Bean
+        MongoMappingContext mongoMappingContext() {
+            return new MongoMappingContext();
+        }
+
+        @Bean
+        MappingMongoConverter mappingMongoConverter(MongoMappingContext mongoMappingContext) {
+            MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mongoMappingContext);
+            converter.afterPropertiesSet();
+            return converter;
+        }
+
+        @Bean
+        MongoTemplate mongoTemplate(MongoDatabaseFactory mongoDatabaseFactory, MappingMongoConverter mappingMongoConverter) {
+            return new MongoTemplate(mongoDatabaseFactory, mappingMongoConverter);
+        }
+
+        // 애플리케이션(MongoConfig)과 같이 서비스의 @Transactional 이 MongoDB 트랜잭션으로 실행되도록 등록
+        @Bean
+        MongoTransactionManager transactionManager(MongoDatabaseFactory mongoDatabaseFactory) {
+            return new MongoTransactionManager(mongoDatabaseFactory);
+        }
+
+        @Bean
+        MemberActivityWriteConcernProperties memberActivityWriteConcernProperties() {
+            return new MemberActivityWriteConcernProperties();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ActivityCounterMongoTemplate activityCounterMongoTemplate() {
+            return mock(ActivityCounterMongoTemplate.class);
+        }
+
+        @Bean
+        ActivityCounterService activityCounterService() {
+            return mock(ActivityCounterService.class);
+        }
+
+        // 캐시 miss(find == null), 비활성 상태로 두어 첫 페이지도 DB 에서 읽음
+        @Bean
+        MemberActivityRecentRedisService memberActivityRecentRedisService() {
+            return mock(MemberActivityRecentRedisService.class);
+        }
+    }
+
+    @Autowired
+    private MemberActivityService memberActivityService;
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private MemberActivityCollectionRouter memberActivityCollectionRouter;
+    @Autowired
+    private MemberActivityIndexManager memberActivityIndexManager;
+    @Autowired
+    private MemberActivityTypeCodes memberActivityTypeCodes;
+
+    private final MemberActivityType memberActivityType = MemberActivityType.postEventTypes.iterator().next();
+
+    @BeforeAll
+    void setUp() {
+        mongoTemplate.getDb().drop();
+
+        // 어제 일자 v1 컬렉션: post 1~3, 오늘 일자 v2 컬렉션: post 10~12
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        insert(yesterday, MemberActivitySchema.V1, List.of(
+                document(1L, yesterday.atTime(12, 0, 1)),
+                document(2L, yesterday.atTime(12, 0, 2)),
+                document(3L, yesterday.atTime(12, 0, 3))));
+        insert(today, MemberActivitySchema.V2, List.of(
+                document(10L, today.atTime(0, 0, 10)),
+                document(11L, today.atTime(0, 0, 11)),
+                document(12L, today.atTime(0, 0, 12))));
+    }
+
+    @Test
+    void readsHistoryAcrossDailyV1AndV2CollectionsOutsideTransaction() {
+        MemberActivityCursorDto.CursorPage first = memberActivityService.getMemberActivities(MEMBER_ID, null, null, 4);
+
+        assertThat(postIds(first)).containsExactly(12L, 11L, 10L, 3L);
+        assertThat(first.isHasNext()).isTrue();
+
+        MemberActivityCursorDto.CursorPage next = memberActivityService.getMemberActivities(MEMBER_ID, null, first.getNextCursor(), 4);
+
+        assertThat(postIds(next)).containsExactly(2L, 1L);
+        assertThat(next.isHasNext()).isFalse();
+    }
+
+    @Test
+    void readsHistoryByTypeAcrossSchemas() {
+        MemberActivityCursorDto.CursorPage page = memberActivityService.getMemberActivities(MEMBER_ID, memberActivityType, null, 10);
+
+        assertThat(postIds(page)).containsExactly(12L, 11L, 10L, 3L, 2L, 1L);
+        assertThat(page.getContent()).allMatch(activity -> activity.getMemberActivityType() == memberActivityType);
+    }
+
+    private MemberActivityDocument document(Long postId, LocalDateTime createdAt) {
+        return new MemberActivityDocument(new ObjectId(), MEMBER_ID, postId, null, MEMBER_ID + "-" + postId, memberActivityType,
+                createdAt, createdAt, null, null, null);
+    }
+
+    private void insert(LocalDate date, MemberActivitySchema schema, List<MemberActivityDocument> documents) {
+        String collectionName = memberActivityCollectionRouter.collectionFor(date, schema);
+        memberActivityIndexManager.ensureIndexes(collectionName, schema);
+        if (schema == MemberActivitySchema.V1) {
+            mongoTemplate.insert(documents, collectionName);
+            return;
+        }
+        mongoTemplate.insert(documents.stream()
+                .map(document -> MemberActivityCompactDocument.of(document, memberActivityTypeCodes.code(document.getMemberActivityType()), document.getCreatedAt()))
+                .toList(), collectionName);
+    }
+
+    private static List<Long> postIds(MemberActivityCursorDto.CursorPage page) {
+        return page.getContent().stream().map(MemberActivityDto.MemberActivity::getPostId).toList();
+    }
+}
@@ -0,0 +1,70 @@
+package click.dailyfeed.activity.loadtest;
+
+import click.dailyfeed.activity.domain.member.activity.buffer.MemberActivityEventBuffer;
+import click.dailyfeed.activity.domain.member.activity.redis.MemberActivityEventBufferRedisService;
+import click.dailyfeed.activity.domain.member.activity.redis.MemberActivityMessageKeyRedisService;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import click.dailyfeed.code.global.redis.RedisKeyExistPredicate;
+import click.dailyfeed.kafka.domain.activity.redis.KafkaMessageKeyMemberActivityRedisService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 를 사용하는 서비스들의 메모리 대체 (TTL 은 무시)
+ */
+class InMemoryMemberActivityRedisStandIns {
+    private final Set<String> processedKeys = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedQueue<MemberActivityTransportDto.MemberActivityMessage> buffer = new ConcurrentLinkedQueue<>();
+
+    KafkaMessageKeyMemberActivityRedisService kafkaMessageKeyRedisService() {
+        KafkaMessageKeyMemberActivityRedisService service = mock(KafkaMessageKeyMemberActivityRedisService.class);
+        // 처리되지 않은 키는 null 을 반환 (호출부는 EXIST 여부만 비교)
+        when(service.checkExist(anyString())).thenAnswer(invocation ->
+                processedKeys.contains(invocation.<String>getArgument(0)) ? RedisKeyExistPredicate.EXIST : null);
+        doAnswer(invocation -> processedKeys.add(invocation.getArgument(0)))
+                .when(service).addAndExpireIn(anyString(), any());
+        return service;
+    }
+
+    MemberActivityMessageKeyRedisService messageKeyRedisService() {
+        MemberActivityMessageKeyRedisService service = mock(MemberActivityMessageKeyRedisService.class);
+        when(service.findProcessed(anyCollection())).thenAnswer(invocation -> invocation.<Collection<String>>getArgument(0)
+                .stream()
+                .filter(processedKeys::contains)
+                .collect(Collectors.toSet()));
+        doAnswer(invocation -> processedKeys.addAll(invocation.getArgument(0)))
+                .when(service).markProcessed(anyCollection(), any());
+        return service;
+    }
+
+    MemberActivityEventBufferRedisService eventBufferRedisService() throws Exception {
+        MemberActivityEventBufferRedisService service = mock(MemberActivityEventBufferRedisService.class);
+        doAnswer(invocation -> buffer.add(invocation.getArgument(0))).when(service).push(any());
+        when(service.pop(anyInt())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(0);
+            List<MemberActivityTransportDto.MemberActivityMessage> messages = new ArrayList<>(count);
+            MemberActivityTransportDto.MemberActivityMessage message;
+            while (messages.size() < count && (message = buffer.poll()) != null) {
+                messages.add(message);
+            }
+            return messages.isEmpty() ? MemberActivityEventBuffer.EMPTY : new MemberActivityEventBuffer.Batch(messages, -1);
+        });
+        when(service.isShared()).thenReturn(true);
+        when(service.size()).thenAnswer(invocation -> (long) buffer.size());
+        return service;
+    }
+}
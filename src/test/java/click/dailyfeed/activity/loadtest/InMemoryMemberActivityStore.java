@@ -0,0 +1,91 @@
+package click.dailyfeed.activity.loadtest;
+
+import click.dailyfeed.activity.domain.member.activity.document.MemberActivityDocument;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityBulkInsertResult;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityMongoTemplate;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.BsonObjectId;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * MemberActivityMongoTemplate 대체 (메모리 저장)
+ * message_key unique 인덱스와 같은 중복 판정을 하며, 호출마다 write-latency 만큼 지연시켜 MongoDB 왕복을 흉내냅니다.
+ * 새로 저장된 메시지 키는 onInserted 로 알려 부하 테스트가 종단 지연을 기록할 수 있게 합니다.
+ */
+class InMemoryMemberActivityStore {
+    private final Set<String> messageKeys = ConcurrentHashMap.newKeySet();
+    private final long writeLatencyNanos;
+    private final Consumer<String> onInserted;
+
+    InMemoryMemberActivityStore(long writeLatencyMicros, Consumer<String> onInserted) {
+        this.writeLatencyNanos = TimeUnit.MICROSECONDS.toNanos(writeLatencyMicros);
+        this.onInserted = onInserted;
+    }
+
+    int size() {
+        return messageKeys.size();
+    }
+
+    MemberActivityMongoTemplate asMongoTemplate() {
+        MemberActivityMongoTemplate template = mock(MemberActivityMongoTemplate.class);
+        when(template.insertIfAbsent(any())).thenAnswer(invocation -> {
+            simulateRoundTrip();
+            return insert(invocation.getArgument(0));
+        });
+        when(template.upsertMemberActivity(any())).thenAnswer(invocation -> {
+            simulateRoundTrip();
+            return insert(invocation.getArgument(0))
+                    ? UpdateResult.acknowledged(0, 0L, new BsonObjectId())
+                    : UpdateResult.acknowledged(1, 0L, null);
+        });
+        when(template.upsertCoalescedActivity(any())).thenAnswer(invocation -> {
+            simulateRoundTrip();
+            return UpdateResult.acknowledged(0, 0L, new BsonObjectId());
+        });
+        when(template.bulkInsertMemberActivities(anyList())).thenAnswer(invocation -> {
+            simulateRoundTrip();
+            List<MemberActivityDocument> documents = invocation.getArgument(0);
+            Set<Integer> duplicatedIndexes = new HashSet<>();
+            for (int i = 0; i < documents.size(); i++) {
+                if (!insert(documents.get(i))) {
+                    duplicatedIndexes.add(i);
+                }
+            }
+            return new MemberActivityBulkInsertResult(Set.of(), duplicatedIndexes);
+        });
+        when(template.bulkUpsertCoalescedActivities(anyList())).thenAnswer(invocation -> {
+            simulateRoundTrip();
+            return Set.of();
+        });
+        return template;
+    }
+
+    private boolean insert(MemberActivityDocument document) {
+        String messageKey = document.getMessageKey();
+        if (messageKey == null || messageKeys.add(messageKey)) {
+            if (messageKey != null) {
+                onInserted.accept(messageKey);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void simulateRoundTrip() {
+        if (writeLatencyNanos > 0) {
+            LockSupport.parkNanos(writeLatencyNanos);
+        }
+    }
+}
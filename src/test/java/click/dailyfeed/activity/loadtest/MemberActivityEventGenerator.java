@@ -0,0 +1,105 @@
+package click.dailyfeed.activity.loadtest;
+
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 부하 테스트용 member-activity 이벤트 생성기
+ * - type-mix: 카테고리별 가중치 (예: POST:5,COMMENT:2,POST_LIKE:2,COMMENT_LIKE:1)
+ * - duplicate-rate: 이미 보낸 메시지 키를 다시 보내는 비율 (Kafka 재전송/리밸런싱 중복 재현)
+ * - key-skew: 파티션 선택의 Zipf 지수 (0 이면 균등, 클수록 앞쪽 파티션에 몰림)
+ * 같은 seed 면 같은 순서의 이벤트를 만듭니다.
+ */
+class MemberActivityEventGenerator {
+    record GeneratedEvent(int partition, String messageKey, MemberActivityTransportDto.MemberActivityEvent event, boolean duplicate) {
+    }
+
+    private final Random random;
+    private final List<MemberActivityType> types = new ArrayList<>();
+    private final double[] cumulativeTypeWeights;
+    private final double duplicateRate;
+    private final double[] cumulativePartitionWeights;
+    private final List<GeneratedEvent> sent = new ArrayList<>();
+
+    MemberActivityEventGenerator(long seed, String typeMix, double duplicateRate, int partitions, double keySkew) {
+        this.random = new Random(seed);
+        this.duplicateRate = duplicateRate;
+
+        Map<String, Double> weights = parseTypeMix(typeMix);
+        this.cumulativeTypeWeights = new double[weights.size()];
+        double total = 0;
+        int i = 0;
+        for (Map.Entry<String, Double> weight : weights.entrySet()) {
+            types.add(typeOf(weight.getKey()));
+            total += weight.getValue();
+            cumulativeTypeWeights[i++] = total;
+        }
+
+        this.cumulativePartitionWeights = new double[partitions];
+        total = 0;
+        for (int p = 0; p < partitions; p++) {
+            total += 1.0 / Math.pow(p + 1, keySkew);
+            cumulativePartitionWeights[p] = total;
+        }
+    }
+
+    GeneratedEvent next() {
+        if (!sent.isEmpty() && random.nextDouble() < duplicateRate) {
+            GeneratedEvent original = sent.get(random.nextInt(sent.size()));
+            return new GeneratedEvent(original.partition(), original.messageKey(), original.event(), true);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        MemberActivityTransportDto.MemberActivityEvent event = MemberActivityTransportDto.MemberActivityEvent.builder()
+                .memberId(1L + random.nextInt(100_000))
+                .postId(1L + random.nextInt(1_000_000))
+                .commentId(1L + random.nextInt(1_000_000))
+                .memberActivityType(types.get(pick(cumulativeTypeWeights)))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        GeneratedEvent generated = new GeneratedEvent(pick(cumulativePartitionWeights), UUID.randomUUID().toString(), event, false);
+        sent.add(generated);
+        return generated;
+    }
+
+    private int pick(double[] cumulativeWeights) {
+        double value = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+
+    private static Map<String, Double> parseTypeMix(String typeMix) {
+        Map<String, Double> weights = new LinkedHashMap<>();
+        for (String entry : typeMix.split(",")) {
+            String[] categoryAndWeight = entry.trim().split(":");
+            weights.put(categoryAndWeight[0].trim().toUpperCase(), categoryAndWeight.length > 1 ? Double.parseDouble(categoryAndWeight[1]) : 1.0);
+        }
+        return weights;
+    }
+
+    private static MemberActivityType typeOf(String category) {
+        Collection<MemberActivityType> types = switch (category) {
+            case "POST" -> MemberActivityType.postEventTypes;
+            case "COMMENT" -> MemberActivityType.commentEventTypes;
+            case "MEMBER" -> MemberActivityType.memberEventTypes;
+            case "POST_LIKE" -> MemberActivityType.postLikeEventTypes;
+            case "COMMENT_LIKE" -> MemberActivityType.commentLikeEventTypes;
+            default -> throw new IllegalArgumentException("Unknown category: " + category);
+        };
+        return types.iterator().next();
+    }
+}
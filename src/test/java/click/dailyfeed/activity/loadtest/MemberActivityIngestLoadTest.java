@@ -0,0 +1,161 @@
+package click.dailyfeed.activity.loadtest;
+
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * member-activity 수집 경로(리스너 → 중복 체크 → 매핑 → 저장) 부하 테스트
+ * 실제 클러스터 없이 embedded Kafka 와 Redis/MongoDB 메모리 대체로 처리량과 종단 지연 백분위를 측정합니다.
+ *
+ * 기본 test 태스크에서는 제외되며 아래와 같이 실행합니다. (결과: build/reports/load/member-activity-ingest-*.txt)
+ * ./gradlew loadTest -Dload.events=200000 -Dload.duplicate-rate=0.05 -Dload.key-skew=1.2 \
+ *     -Dinfrastructure.kafka.consumers.member-activity.listener-mode=pipeline
+ *
+ * - load.events: 전송 이벤트 수 (기본 50000)
+ * - load.type-mix: 카테고리별 가중치 (기본 POST:4,COMMENT:3,POST_LIKE:2,COMMENT_LIKE:1)
+ * - load.duplicate-rate: 중복 전송 비율 (기본 0.02)
+ * - load.key-skew: 파티션 쏠림 Zipf 지수 (기본 0, 균등)
+ * - load.partitions: 토픽 파티션 수 (기본 6)
+ * - load.mongo.write-latency-micros: 저장 1회당 흉내낼 MongoDB 왕복 시간 (기본 500)
+ * - load.timeout-seconds: 전체 저장 대기 시간 (기본 300)
+ * 그 외 listener-mode, ingest.mode, write-transaction, redis-dedup-enabled 등은 애플리케이션 프로퍼티를 그대로 사용합니다.
+ */
+@Tag("load")
+@SpringJUnitConfig(MemberActivityLoadTestConfig.class)
+@EmbeddedKafka(partitions = 1, bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+@TestPropertySource(properties = {
+        "spring.kafka.consumer.auto-offset-reset=earliest",
+        "spring.kafka.consumer.enable-auto-commit=false",
+        "spring.kafka.consumer.max-poll-records=500",
+        "spring.kafka.consumer.key-deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+        "spring.kafka.consumer.value-deserializer=org.springframework.kafka.support.serializer.JsonDeserializer",
+        "spring.kafka.consumer.properties.metadata.max.age.ms=1000",
+        "spring.kafka.producer.key-serializer=org.apache.kafka.common.serialization.StringSerializer",
+        "spring.kafka.producer.value-serializer=org.springframework.kafka.support.serializer.JsonSerializer",
+        "spring.kafka.producer.linger-ms=5",
+        "spring.kafka.producer.batch-size=65536"
+})
+class MemberActivityIngestLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(MemberActivityIngestLoadTest.class);
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+    @Autowired
+    private KafkaTemplate<String, MemberActivityTransportDto.MemberActivityEvent> memberActivityLoadKafkaTemplate;
+    @Autowired
+    private MemberActivityLoadRecorder memberActivityLoadRecorder;
+    @Autowired
+    private InMemoryMemberActivityStore inMemoryMemberActivityStore;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private Environment environment;
+
+    @Test
+    void ingestThroughputAndLatency() throws Exception {
+        int events = Integer.getInteger("load.events", 50_000);
+        int partitions = Integer.getInteger("load.partitions", 6);
+        double duplicateRate = Double.parseDouble(System.getProperty("load.duplicate-rate", "0.02"));
+        double keySkew = Double.parseDouble(System.getProperty("load.key-skew", "0"));
+        String typeMix = System.getProperty("load.type-mix", "POST:4,COMMENT:3,POST_LIKE:2,COMMENT_LIKE:1");
+        long timeoutSeconds = Long.getLong("load.timeout-seconds", 300L);
+
+        String topic = "member-activity-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        embeddedKafkaBroker.addTopics(new NewTopic(topic, partitions, (short) 1));
+
+        // 중복 전송분을 제외한 고유 메시지 수를 먼저 구해 완료 조건으로 사용
+        MemberActivityEventGenerator generator = new MemberActivityEventGenerator(42L, typeMix, duplicateRate, partitions, keySkew);
+        MemberActivityEventGenerator.GeneratedEvent[] generated = new MemberActivityEventGenerator.GeneratedEvent[events];
+        Set<String> distinctKeys = new HashSet<>();
+        for (int i = 0; i < events; i++) {
+            generated[i] = generator.next();
+            distinctKeys.add(generated[i].messageKey());
+        }
+        memberActivityLoadRecorder.expect(distinctKeys.size());
+
+        long startedAt = System.nanoTime();
+        for (MemberActivityEventGenerator.GeneratedEvent event : generated) {
+            memberActivityLoadRecorder.sent(event.messageKey());
+            memberActivityLoadKafkaTemplate.send(new ProducerRecord<>(topic, event.partition(), event.messageKey(), event.event()));
+        }
+        memberActivityLoadKafkaTemplate.flush();
+        long producedAt = System.nanoTime();
+
+        boolean completed = memberActivityLoadRecorder.await(timeoutSeconds, TimeUnit.SECONDS);
+        long finishedAt = System.nanoTime();
+
+        String report = report(events, distinctKeys.size(), partitions, duplicateRate, keySkew, typeMix,
+                producedAt - startedAt, finishedAt - startedAt, completed);
+        writeReport(report);
+
+        assertThat(completed).as("all distinct messages written within %ss", timeoutSeconds).isTrue();
+        assertThat(inMemoryMemberActivityStore.size()).isEqualTo(distinctKeys.size());
+    }
+
+    private String report(int events, int distinct, int partitions, double duplicateRate, double keySkew, String typeMix,
+                          long produceNanos, long totalNanos, boolean completed) {
+        double[] percentiles = memberActivityLoadRecorder.percentilesMillis(50, 90, 99, 99.9, 100);
+        StringBuilder report = new StringBuilder();
+        report.append("# member-activity ingest load test\n");
+        report.append(String.format("listener-mode=%s, ingest.mode=%s, write-transaction=%s, redis-dedup-enabled=%s%n",
+                property("listener-mode", "record"), property("ingest.mode", "direct"),
+                property("write-transaction", "none"), property("redis-dedup-enabled", "true")));
+        report.append(String.format("events=%d, distinct=%d, partitions=%d, duplicate-rate=%.3f, key-skew=%.2f, type-mix=%s, write-latency=%dus%n",
+                events, distinct, partitions, duplicateRate, keySkew, typeMix, Long.getLong("load.mongo.write-latency-micros", 500L)));
+        report.append(String.format("completed=%s, written=%d%n", completed, memberActivityLoadRecorder.recorded()));
+        report.append(String.format("produce: %.1f ms, end-to-end: %.1f ms, throughput: %.0f events/s%n",
+                produceNanos / 1e6, totalNanos / 1e6, events / (totalNanos / 1e9)));
+        report.append(String.format("latency ms: p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+                percentiles[0], percentiles[1], percentiles[2], percentiles[3], percentiles[4]));
+
+        report.append("\n## stages (member.activity.consumer.stage)\n");
+        meterRegistry.find("member.activity.consumer.stage").timers().stream()
+                .filter(timer -> timer.count() > 0)
+                .forEach(timer -> report.append(String.format("%-20s type=%-24s count=%-8d mean=%.3fms max=%.3fms%n",
+                        timer.getId().getTag("stage"), timer.getId().getTag("type"), timer.count(),
+                        timer.mean(TimeUnit.MILLISECONDS), timer.max(TimeUnit.MILLISECONDS))));
+
+        report.append("\n## outcomes (member.activity.consumer.events)\n");
+        meterRegistry.find("member.activity.consumer.events").counters().stream()
+                .filter(counter -> counter.count() > 0)
+                .forEach(counter -> report.append(String.format("%-14s type=%-24s %.0f%n",
+                        counter.getId().getTag("outcome"), counter.getId().getTag("type"), counter.count())));
+        return report.toString();
+    }
+
+    private String property(String name, String defaultValue) {
+        return environment.getProperty("infrastructure.kafka.consumers.member-activity." + name, defaultValue);
+    }
+
+    private void writeReport(String report) throws IOException {
+        Path directory = Path.of("build", "reports", "load");
+        Files.createDirectories(directory);
+        Path file = directory.resolve("member-activity-ingest-" + property("listener-mode", "record") + "-" + System.currentTimeMillis() + ".txt");
+        Files.writeString(file, report);
+        log.info("member-activity ingest load report - {}\n{}", file, report);
+    }
+}
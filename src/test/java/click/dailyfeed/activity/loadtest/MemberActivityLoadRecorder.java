@@ -0,0 +1,66 @@
+package click.dailyfeed.activity.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메시지 키별 전송 시각과 저장 시각으로 종단(produce → MongoDB 저장) 지연을 기록합니다.
+ */
+class MemberActivityLoadRecorder {
+    private final Map<String, Long> sentAtNanos = new ConcurrentHashMap<>();
+    private long[] latencies = new long[0];
+    private final AtomicInteger recorded = new AtomicInteger();
+    private volatile CountDownLatch completion = new CountDownLatch(0);
+
+    void expect(int distinctMessages) {
+        this.latencies = new long[distinctMessages];
+        this.recorded.set(0);
+        this.sentAtNanos.clear();
+        this.completion = new CountDownLatch(distinctMessages);
+    }
+
+    void sent(String messageKey) {
+        sentAtNanos.putIfAbsent(messageKey, System.nanoTime());
+    }
+
+    void written(String messageKey) {
+        Long sentAt = sentAtNanos.get(messageKey);
+        if (sentAt == null) {
+            return;
+        }
+        int index = recorded.getAndIncrement();
+        if (index < latencies.length) {
+            latencies[index] = System.nanoTime() - sentAt;
+        }
+        completion.countDown();
+    }
+
+    boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        return completion.await(timeout, unit);
+    }
+
+    int recorded() {
+        return Math.min(recorded.get(), latencies.length);
+    }
+
+    /**
+     * 기록된 지연의 백분위 (밀리초)
+     */
+    double[] percentilesMillis(double... percentiles) {
+        long[] sorted = Arrays.copyOf(latencies, recorded());
+        Arrays.sort(sorted);
+        double[] result = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            if (sorted.length == 0) {
+                continue;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(percentiles[i] / 100.0 * sorted.length) - 1);
+            result[i] = sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,167 @@
+package click.dailyfeed.activity.loadtest;
+
+import click.dailyfeed.activity.config.kafka.MemberActivityKafkaConfig;
+import click.dailyfeed.activity.domain.activitycounter.service.ActivityCounterService;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityBatchEventConsumer;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityBulkWriter;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityCoalescer;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityConsumerMetrics;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityDeadLetterHandler;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityEventBufferDrainer;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityEventBufferSync;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityEventConsumer;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityEventWriter;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityIngestModeSelector;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityMessageKeyNearCache;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityPipelineEventConsumer;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityTopicDateResolver;
+import click.dailyfeed.activity.domain.member.activity.consumer.MemberActivityWritePipeline;
+import click.dailyfeed.activity.domain.member.activity.mapper.MemberActivityMapper;
+import click.dailyfeed.activity.domain.member.activity.redis.MemberActivityDrainLeaseRedisService;
+import click.dailyfeed.activity.domain.member.activity.redis.MemberActivityEventBufferRedisService;
+import click.dailyfeed.activity.domain.member.activity.redis.MemberActivityMessageKeyRedisService;
+import click.dailyfeed.activity.domain.member.activity.redis.MemberActivityRecentRedisService;
+import click.dailyfeed.activity.domain.member.activity.repository.mongo.MemberActivityMongoTemplate;
+import click.dailyfeed.code.domain.activity.transport.MemberActivityTransportDto;
+import click.dailyfeed.kafka.domain.activity.redis.KafkaMessageKeyMemberActivityRedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 부하 테스트용 컨텍스트
+ * 리스너 → 중복 체크 → 매핑 → 저장 경로는 실제 빈을 사용하고, Redis/MongoDB/데드레터 저장소만 메모리 대체로 바꿉니다.
+ * listener-mode, ingest.mode, write-transaction 등은 애플리케이션과 같은 프로퍼티(시스템 프로퍼티로 지정)를 따릅니다.
+ */
+@Configuration
+@EnableKafka
+@EnableScheduling
+@EnableConfigurationProperties(KafkaProperties.class)
+@Import({
+        MemberActivityKafkaConfig.class,
+        MemberActivityEventConsumer.class,
+        MemberActivityBatchEventConsumer.class,
+        MemberActivityPipelineEventConsumer.class,
+        MemberActivityWritePipeline.class,
+        MemberActivityEventWriter.class,
+        MemberActivityBulkWriter.class,
+        MemberActivityEventBufferDrainer.class,
+        MemberActivityEventBufferSync.class,
+        MemberActivityIngestModeSelector.class,
+        MemberActivityTopicDateResolver.class,
+        MemberActivityMessageKeyNearCache.class,
+        MemberActivityConsumerMetrics.class,
+        MemberActivityCoalescer.class,
+        MemberActivityMapper.class
+})
+class MemberActivityLoadTestConfig {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    MemberActivityLoadRecorder memberActivityLoadRecorder() {
+        return new MemberActivityLoadRecorder();
+    }
+
+    @Bean
+    InMemoryMemberActivityStore inMemoryMemberActivityStore(MemberActivityLoadRecorder memberActivityLoadRecorder) {
+        return new InMemoryMemberActivityStore(Long.getLong("load.mongo.write-latency-micros", 500L), memberActivityLoadRecorder::written);
+    }
+
+    @Bean
+    InMemoryMemberActivityRedisStandIns inMemoryMemberActivityRedisStandIns() {
+        return new InMemoryMemberActivityRedisStandIns();
+    }
+
+    @Bean
+    MemberActivityMongoTemplate memberActivityMongoTemplate(InMemoryMemberActivityStore inMemoryMemberActivityStore) {
+        return inMemoryMemberActivityStore.asMongoTemplate();
+    }
+
+    @Bean
+    KafkaMessageKeyMemberActivityRedisService kafkaMessageKeyMemberActivityRedisService(InMemoryMemberActivityRedisStandIns standIns) {
+        return standIns.kafkaMessageKeyRedisService();
+    }
+
+    @Bean
+    MemberActivityMessageKeyRedisService memberActivityMessageKeyRedisService(InMemoryMemberActivityRedisStandIns standIns) {
+        return standIns.messageKeyRedisService();
+    }
+
+    @Bean
+    MemberActivityEventBufferRedisService memberActivityEventBufferRedisService(InMemoryMemberActivityRedisStandIns standIns) throws Exception {
+        return standIns.eventBufferRedisService();
+    }
+
+    @Bean
+    MemberActivityDrainLeaseRedisService memberActivityDrainLeaseRedisService() {
+        MemberActivityDrainLeaseRedisService service = mock(MemberActivityDrainLeaseRedisService.class);
+        when(service.tryAcquire(any())).thenReturn(true);
+        return service;
+    }
+
+    @Bean
+    MemberActivityDeadLetterHandler memberActivityDeadLetterHandler() {
+        MemberActivityDeadLetterHandler handler = mock(MemberActivityDeadLetterHandler.class);
+        when(handler.isDeadLettered(anyString())).thenReturn(false);
+        when(handler.findDeadLettered(anyCollection())).thenReturn(Set.of());
+        return handler;
+    }
+
+    @Bean
+    ActivityCounterService activityCounterService() {
+        return mock(ActivityCounterService.class);
+    }
+
+    @Bean
+    MemberActivityRecentRedisService memberActivityRecentRedisService() {
+        return mock(MemberActivityRecentRedisService.class);
+    }
+
+    // write-transaction=mongo 비교용 (커밋 왕복은 재현하지 않음)
+    @Bean
+    TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(mock(PlatformTransactionManager.class));
+    }
+
+    // 애플리케이션에서는 kafka-support 모듈이 제공하는 record 리스너용 컨테이너 팩토리
+    @Bean
+    ConcurrentKafkaListenerContainerFactory<String, MemberActivityTransportDto.MemberActivityEvent> memberActivityKafkaListenerContainerFactory(
+            KafkaProperties kafkaProperties,
+            MemberActivityKafkaConfig memberActivityKafkaConfig
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, MemberActivityTransportDto.MemberActivityEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(memberActivityKafkaConfig.memberActivityConsumerFactory(kafkaProperties));
+        factory.setConcurrency(kafkaProperties.getListener().getConcurrency() == null ? 3 : kafkaProperties.getListener().getConcurrency());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        return factory;
+    }
+
+    @Bean
+    KafkaTemplate<String, MemberActivityTransportDto.MemberActivityEvent> memberActivityLoadKafkaTemplate(KafkaProperties kafkaProperties) {
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(kafkaProperties.buildProducerProperties(null)));
+    }
+}